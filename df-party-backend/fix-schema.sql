@@ -15,4 +15,149 @@ ADD COLUMN IF NOT EXISTS is_favorite_twilight BOOLEAN DEFAULT FALSE AFTER is_fav
 -- 기존 is_favorite 데이터를 is_favorite_nabel로 마이그레이션
 UPDATE characters SET is_favorite_nabel = is_favorite WHERE is_favorite = TRUE;
 
+-- 캐릭터 id 시퀀스 (JDBC 배치 INSERT용, allocationSize=50과 INCREMENT BY를 맞춰야 함)
+-- Hibernate pooled 옵티마이저는 nextval 값 기준 이전 50개를 사용하므로 기존 최대 id + 50에서 시작
+SET @characters_seq_start = (SELECT COALESCE(MAX(id), 0) + 50 FROM characters);
+SET @sql = CONCAT('CREATE SEQUENCE IF NOT EXISTS characters_seq START WITH ', @characters_seq_start, ' INCREMENT BY 50');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 캐릭터 조회 패턴용 복합 인덱스 / 동기화 정렬 키
+-- sync_sort_at: COALESCE(last_stats_update, created_at)를 저장하는 생성 컬럼 (ORDER BY를 인덱스로 처리)
+ALTER TABLE characters
+ADD COLUMN IF NOT EXISTS sync_sort_at DATETIME AS (COALESCE(last_stats_update, created_at)) PERSISTENT;
+
+CREATE INDEX IF NOT EXISTS idx_server_excluded_fame ON characters(server_id, is_excluded, fame);
+CREATE INDEX IF NOT EXISTS idx_server_excluded_nabel ON characters(server_id, is_excluded, dungeon_clear_nabel);
+CREATE INDEX IF NOT EXISTS idx_server_excluded_venus ON characters(server_id, is_excluded, dungeon_clear_venus);
+CREATE INDEX IF NOT EXISTS idx_server_excluded_fog ON characters(server_id, is_excluded, dungeon_clear_fog);
+CREATE INDEX IF NOT EXISTS idx_adventure_excluded ON characters(adventure_id, is_excluded);
+CREATE INDEX IF NOT EXISTS idx_sync_sort_at ON characters(sync_sort_at);
+
+-- is_excluded 단일 인덱스 제거: 값이 두 개뿐이라 선택도가 낮은데, 남아 있으면 던전 미클리어 조회에서
+-- 옵티마이저가 복합 인덱스 대신 index_merge(intersect(idx_is_excluded, idx_server_excluded_*))를 고른다.
+DROP INDEX IF EXISTS idx_is_excluded ON characters;
+
+-- 캐릭터명 검색 (목요일 DB 검색)
+-- character_name_normalized: 공백 제거 + 소문자 이름 생성 컬럼 (정확히 / 앞부분 일치는 인덱스로 처리)
+ALTER TABLE characters
+ADD COLUMN IF NOT EXISTS character_name_normalized VARCHAR(255) AS (LOWER(REPLACE(character_name, ' ', ''))) PERSISTENT;
+
+CREATE INDEX IF NOT EXISTS idx_name_normalized ON characters(character_name_normalized);
+CREATE INDEX IF NOT EXISTS idx_server_name_normalized ON characters(server_id, character_name_normalized);
+
+-- 부분 일치용 2-gram 보조 테이블 (MariaDB FULLTEXT에는 ngram 파서가 없어 직접 관리)
+CREATE TABLE IF NOT EXISTS character_name_ngrams (
+    gram VARCHAR(2) NOT NULL,
+    character_id BIGINT NOT NULL,
+    PRIMARY KEY (gram, character_id),
+    KEY idx_character_name_ngrams_character (character_id),
+    FOREIGN KEY (character_id) REFERENCES characters(id) ON DELETE CASCADE
+);
+
+-- 이름이 바뀔 때마다 트리거로 2-gram 갱신 (애플리케이션의 모든 저장 경로에 적용)
+DELIMITER //
+CREATE OR REPLACE PROCEDURE refresh_character_name_ngrams(IN p_character_id BIGINT, IN p_character_name VARCHAR(255))
+BEGIN
+    DECLARE normalized VARCHAR(255) DEFAULT LOWER(REPLACE(p_character_name, ' ', ''));
+    DECLARE i INT DEFAULT 1;
+    DELETE FROM character_name_ngrams WHERE character_id = p_character_id;
+    WHILE i < CHAR_LENGTH(normalized) DO
+        INSERT IGNORE INTO character_name_ngrams (gram, character_id) VALUES (SUBSTRING(normalized, i, 2), p_character_id);
+        SET i = i + 1;
+    END WHILE;
+END//
+
+CREATE OR REPLACE TRIGGER trg_characters_name_ngrams_insert AFTER INSERT ON characters
+FOR EACH ROW CALL refresh_character_name_ngrams(NEW.id, NEW.character_name)//
+
+CREATE OR REPLACE TRIGGER trg_characters_name_ngrams_update AFTER UPDATE ON characters
+FOR EACH ROW
+BEGIN
+    IF NOT (NEW.character_name <=> OLD.character_name) THEN
+        CALL refresh_character_name_ngrams(NEW.id, NEW.character_name);
+    END IF;
+END//
+DELIMITER ;
+
+-- 기존 캐릭터 2-gram 채우기 (seq_1_to_255: MariaDB Sequence 엔진)
+INSERT IGNORE INTO character_name_ngrams (gram, character_id)
+SELECT SUBSTRING(c.character_name_normalized, s.seq, 2), c.id
+FROM characters c
+JOIN seq_1_to_255 s ON s.seq < CHAR_LENGTH(c.character_name_normalized);
+
+-- 모험단별 캐릭터 수 집계 테이블 (adventure.stats.materialized=true 일 때 통계 조회에 사용)
+CREATE TABLE IF NOT EXISTS adventure_stats (
+    adventure_id BIGINT PRIMARY KEY,
+    character_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (adventure_id) REFERENCES adventures(id) ON DELETE CASCADE
+);
+
+-- 캐릭터 추가 / 모험단 이동 / 삭제 시 증감 (애플리케이션의 모든 저장 경로와 서버 삭제에 적용)
+DELIMITER //
+CREATE OR REPLACE TRIGGER trg_characters_adventure_stats_insert AFTER INSERT ON characters
+FOR EACH ROW
+BEGIN
+    IF NEW.adventure_id IS NOT NULL THEN
+        INSERT INTO adventure_stats (adventure_id, character_count) VALUES (NEW.adventure_id, 1)
+        ON DUPLICATE KEY UPDATE character_count = character_count + 1;
+    END IF;
+END//
+
+CREATE OR REPLACE TRIGGER trg_characters_adventure_stats_update AFTER UPDATE ON characters
+FOR EACH ROW
+BEGIN
+    IF NOT (NEW.adventure_id <=> OLD.adventure_id) THEN
+        IF OLD.adventure_id IS NOT NULL THEN
+            UPDATE adventure_stats SET character_count = GREATEST(character_count - 1, 0) WHERE adventure_id = OLD.adventure_id;
+        END IF;
+        IF NEW.adventure_id IS NOT NULL THEN
+            INSERT INTO adventure_stats (adventure_id, character_count) VALUES (NEW.adventure_id, 1)
+            ON DUPLICATE KEY UPDATE character_count = character_count + 1;
+        END IF;
+    END IF;
+END//
+
+CREATE OR REPLACE TRIGGER trg_characters_adventure_stats_delete AFTER DELETE ON characters
+FOR EACH ROW
+BEGIN
+    IF OLD.adventure_id IS NOT NULL THEN
+        UPDATE adventure_stats SET character_count = GREATEST(character_count - 1, 0) WHERE adventure_id = OLD.adventure_id;
+    END IF;
+END//
+
+-- 서버 삭제 시 characters는 FK ON DELETE CASCADE로 지워져 캐릭터 트리거가 실행되지 않으므로 서버 쪽에서 미리 차감
+-- (모험단 삭제는 adventure_stats 행도 FK CASCADE로 함께 지워져 별도 처리가 필요 없음)
+CREATE OR REPLACE TRIGGER trg_servers_adventure_stats_delete BEFORE DELETE ON servers
+FOR EACH ROW
+BEGIN
+    UPDATE adventure_stats s
+    JOIN (SELECT c.adventure_id, COUNT(*) AS removed_count
+          FROM characters c
+          WHERE c.server_id = OLD.server_id AND c.adventure_id IS NOT NULL
+          GROUP BY c.adventure_id) d ON d.adventure_id = s.adventure_id
+    SET s.character_count = GREATEST(s.character_count - d.removed_count, 0);
+END//
+DELIMITER ;
+
+-- 기존 캐릭터 기준으로 집계 다시 채우기
+REPLACE INTO adventure_stats (adventure_id, character_count)
+SELECT c.adventure_id, COUNT(*)
+FROM characters c
+WHERE c.adventure_id IS NOT NULL
+GROUP BY c.adventure_id;
+
 COMMIT;
+
+-- 적용 후 실행 계획 확인 (key 열이 주석의 인덱스여야 함, 통계가 오래됐으면 ANALYZE TABLE characters 먼저 실행)
+EXPLAIN SELECT * FROM characters WHERE server_id = 'cain' AND fame >= 50000 AND is_excluded = 0;                  -- idx_server_excluded_fame (range)
+EXPLAIN SELECT * FROM characters WHERE server_id = 'cain' AND dungeon_clear_nabel = 0 AND is_excluded = 0;       -- idx_server_excluded_nabel (ref)
+EXPLAIN SELECT * FROM characters WHERE server_id = 'cain' AND dungeon_clear_venus = 0 AND is_excluded = 0;       -- idx_server_excluded_venus (ref)
+EXPLAIN SELECT * FROM characters WHERE server_id = 'cain' AND dungeon_clear_fog = 0 AND is_excluded = 0;         -- idx_server_excluded_fog (ref)
+EXPLAIN SELECT COUNT(*) FROM characters WHERE server_id = 'cain' AND is_excluded = 0;                             -- idx_server_excluded_* (ref, Using index)
+SET @adventure_name = (SELECT adventure_name FROM adventures LIMIT 1);
+EXPLAIN SELECT COUNT(c.id) FROM characters c JOIN adventures a ON a.id = c.adventure_id
+    WHERE a.adventure_name = @adventure_name AND c.is_excluded = 0;                                                -- c: idx_adventure_excluded (ref, Using index)
+EXPLAIN SELECT * FROM characters ORDER BY sync_sort_at LIMIT 100;                                               -- idx_sync_sort_at (index, filesort 없음)
@@ -237,7 +237,7 @@ Write-Host "Final SPRING_PROFILES_ACTIVE: $env:SPRING_PROFILES_ACTIVE" -Foregrou
 # Check if Java is available
 if (-not (Get-Command "java" -ErrorAction SilentlyContinue)) {
     Write-Host "Error: Java is not installed or not in PATH" -ForegroundColor Red
-    Write-Host "Please install Java 17 or later" -ForegroundColor Red
+    Write-Host "Please install Java 21 or later" -ForegroundColor Red
     exit 1
 }
 
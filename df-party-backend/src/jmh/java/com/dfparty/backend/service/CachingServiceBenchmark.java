@@ -0,0 +1,99 @@
+package com.dfparty.backend.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CachingService 통계 / 조회 비용 측정
+ *
+ * - cacheStats: 현재 getCacheStats (영역별 카운터 + 타이머 휠 지난 슬롯만 확인)
+ * - legacyScanStats: 기존 구현과 같은 방식 (타입마다 전체 엔트리 스트림 + 만료 엔트리 전체 스캔)
+ * - get: 적중 조회 (probation → protected 승격 포함)
+ *
+ * 실행: gradle jmh -Pjmh.includes=CachingServiceBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CachingServiceBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int entries;
+
+    private CachingService cachingService;
+    private Map<String, LegacyEntry> legacyCache;
+    private String[] keys;
+    private int cursor;
+
+    /**
+     * 기존 CacheEntry와 같은 모양 (타입 + LocalDateTime 만료 시각)
+     */
+    private record LegacyEntry(Object data, LocalDateTime expiryTime, CachingService.CacheType type) {
+        boolean isExpired() {
+            return LocalDateTime.now().isAfter(expiryTime);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        // 모든 엔트리가 들어가도록 용량을 넉넉히 설정
+        cachingService = new CachingService(Long.MAX_VALUE / 4, Long.MAX_VALUE / 4, Long.MAX_VALUE / 4);
+        legacyCache = new ConcurrentHashMap<>();
+        keys = new String[entries];
+        CachingService.CacheType[] types = {
+            CachingService.CacheType.TIMELINE,
+            CachingService.CacheType.DUNDAM_STATS,
+            CachingService.CacheType.CHARACTER_BASIC_INFO
+        };
+        for (int i = 0; i < entries; i++) {
+            CachingService.CacheType type = types[i % types.length];
+            keys[i] = CachingService.createKey("bench", type.name(), Integer.toString(i));
+            Map<String, Object> data = new HashMap<>();
+            data.put("characterId", "character-" + i);
+            data.put("fame", (long) i);
+            cachingService.put(keys[i], data, type);
+            legacyCache.put(keys[i], new LegacyEntry(data, LocalDateTime.now().plusMinutes(1), type));
+        }
+    }
+
+    @Benchmark
+    public Map<String, Object> cacheStats() {
+        return cachingService.getCacheStats();
+    }
+
+    @Benchmark
+    public Map<String, Object> legacyScanStats() {
+        Map<String, Object> stats = new ConcurrentHashMap<>();
+        stats.put("totalEntries", legacyCache.size());
+        for (CachingService.CacheType type : CachingService.CacheType.values()) {
+            long count = legacyCache.values().stream()
+                .filter(entry -> entry.type() == type)
+                .count();
+            stats.put(type.name() + "Count", count);
+        }
+        long expiredCount = legacyCache.values().stream()
+            .filter(LegacyEntry::isExpired)
+            .count();
+        stats.put("expiredCount", expiredCount);
+        return stats;
+    }
+
+    @Benchmark
+    public Object get() {
+        String key = keys[cursor];
+        cursor = (cursor + 1) % keys.length;
+        return cachingService.get(key);
+    }
+}
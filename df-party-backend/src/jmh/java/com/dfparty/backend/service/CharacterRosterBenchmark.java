@@ -0,0 +1,130 @@
+package com.dfparty.backend.service;
+
+import com.dfparty.backend.entity.Character;
+import com.dfparty.backend.model.CharacterRoster;
+import com.dfparty.backend.utils.CharacterUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 업둥이 우선 8인 파티(4인 파티 2개) 선택 비용: CharacterRoster vs 기존 List<Character> 스트림 필터링
+ *
+ * - roster: 요청마다 CharacterRoster를 만들고 명성 순 인덱스 + used BitSet으로 선택 (현재 PartyOptimizationService)
+ * - streams: 기존 구현과 같은 방식 (역할별로 스트림 필터 + 명성 정렬한 리스트를 만들고, max / remove로 선택)
+ * 두 쪽 모두 버퍼 판단은 CharacterUtils.isBuffer를 쓰고, 응답 Map 생성은 빼고 선택까지만 잰다.
+ *
+ * 실행: gradle jmh -Pjmh.includes=CharacterRosterBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CharacterRosterBenchmark {
+
+    @Param({"20", "100", "1000"})
+    private int characters;
+
+    private List<Character> source;
+    private CharacterUtils characterUtils;
+
+    @Setup
+    public void setUp() {
+        characterUtils = new CharacterUtils();
+        Random random = new Random(42);
+        source = new ArrayList<>(characters);
+        for (int i = 0; i < characters; i++) {
+            source.add(Character.builder()
+                .characterId("character-" + i)
+                .characterName("캐릭터" + i)
+                .jobName(i % 4 == 0 ? "크루세이더" : "웨펀마스터")
+                .fame(40_000L + random.nextInt(20_000))
+                .isFavoriteNabel(i % 5 == 0)
+                .build());
+        }
+    }
+
+    @Benchmark
+    public int roster() {
+        CharacterRoster roster = CharacterRoster.of(source, characterUtils);
+        BitSet used = new BitSet(roster.size());
+        return pickFourPersonParty(roster, used) + pickFourPersonParty(roster, used);
+    }
+
+    private static int pickFourPersonParty(CharacterRoster roster, BitSet used) {
+        PartyPick pick = new PartyPick();
+        pick.add(roster.bestByFame(CharacterRoster.ROLE_DEALER, used), "딜러", used);
+        pick.add(roster.bestByFame(CharacterRoster.ROLE_BUFFER, used), "버퍼", used);
+        int index;
+        while (!pick.isFull() && (index = roster.bestByFame(CharacterRoster.ROLE_UPDOONGI, used)) >= 0) {
+            pick.add(index, "업둥이", used);
+        }
+        while (!pick.isFull() && (index = roster.bestByFame(CharacterRoster.ROLE_DEALER, used)) >= 0) {
+            pick.add(index, "일반", used);
+        }
+        while (!pick.isFull() && (index = roster.bestByFame(CharacterRoster.ROLE_BUFFER, used)) >= 0) {
+            pick.add(index, "일반", used);
+        }
+        return pick.size();
+    }
+
+    @Benchmark
+    public int streams() {
+        List<Character> dealers = filterByFame(c -> !isBuffer(c));
+        List<Character> buffers = filterByFame(this::isBuffer);
+        List<Character> updoongis = filterByFame(c -> Boolean.TRUE.equals(c.getIsFavorite()));
+        List<Character> others = filterByFame(c -> !Boolean.TRUE.equals(c.getIsFavorite()) && !isBuffer(c));
+        return pickFourPersonParty(dealers, buffers, updoongis, others)
+            + pickFourPersonParty(dealers, buffers, updoongis, others);
+    }
+
+    private boolean isBuffer(Character character) {
+        return characterUtils.isBuffer(character.getJobName(), character.getJobGrowName());
+    }
+
+    private List<Character> filterByFame(Predicate<Character> filter) {
+        return source.stream()
+            .filter(filter)
+            .filter(c -> c.getFame() != null && c.getFame() > 0)
+            .sorted(Comparator.comparing(Character::getFame).reversed())
+            .collect(Collectors.toList());
+    }
+
+    private static int pickFourPersonParty(List<Character> dealers, List<Character> buffers,
+                                           List<Character> updoongis, List<Character> others) {
+        List<Character> party = new ArrayList<>(4);
+        dealers.stream().max(Comparator.comparing(Character::getFame))
+            .ifPresent(best -> take(best, party, dealers, buffers, updoongis, others));
+        buffers.stream().max(Comparator.comparing(Character::getFame))
+            .ifPresent(best -> take(best, party, dealers, buffers, updoongis, others));
+        for (Character updoongi : updoongis.stream().limit(4 - party.size()).collect(Collectors.toList())) {
+            take(updoongi, party, dealers, buffers, updoongis, others);
+        }
+        for (Character other : others.stream().limit(4 - party.size()).collect(Collectors.toList())) {
+            take(other, party, dealers, buffers, updoongis, others);
+        }
+        return party.size();
+    }
+
+    // 선택한 캐릭터를 모든 후보 리스트에서 제거 (기존 구현의 list.remove와 같은 O(n) 비용)
+    @SafeVarargs
+    private static void take(Character character, List<Character> party, List<Character>... candidates) {
+        party.add(character);
+        for (List<Character> list : candidates) {
+            list.remove(character);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.dfparty.backend.service;
+
+import com.dfparty.backend.entity.Character;
+import com.dfparty.backend.model.CharacterRoster;
+import com.dfparty.backend.utils.CharacterUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * PartyAssignmentSolver 배정 비용 측정
+ *
+ * - solveTwoParties: 8인 파티 최적화와 같은 입력 (명성 순 버퍼 / 딜러 후보에서 2개 파티)
+ * - partition: 로스터 전체를 4인 파티 여러 개로 분할
+ * 버퍼 비율은 실제 모험단과 비슷하게 1/4, 명성은 고정 시드 난수라 실행마다 같은 입력을 쓴다.
+ *
+ * 실행: gradle jmh -Pjmh.includes=PartyAssignmentSolverBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PartyAssignmentSolverBenchmark {
+
+    @Param({"8", "16", "40"})
+    private int participants;
+
+    private PartyAssignmentSolver solver;
+    private CharacterRoster roster;
+    private int[] buffers;
+    private int[] dealers;
+
+    @Setup
+    public void setUp() {
+        solver = new PartyAssignmentSolver(200);
+        Random random = new Random(42);
+        List<Character> characters = new ArrayList<>(participants);
+        for (int i = 0; i < participants; i++) {
+            characters.add(Character.builder()
+                .characterId("character-" + i)
+                .characterName("캐릭터" + i)
+                .jobName(i % 4 == 0 ? "크루세이더" : "웨펀마스터")
+                .fame(40_000L + random.nextInt(20_000))
+                .build());
+        }
+        roster = CharacterRoster.of(characters, new CharacterUtils());
+        buffers = byFameDesc(true);
+        dealers = byFameDesc(false);
+    }
+
+    private int[] byFameDesc(boolean buffer) {
+        return IntStream.range(0, roster.size())
+            .map(roster::indexAtFameRank)
+            .filter(index -> roster.isBuffer(index) == buffer)
+            .toArray();
+    }
+
+    @Benchmark
+    public PartyAssignmentSolver.Assignment solveTwoParties() {
+        return solver.solve(roster, buffers, dealers, 2, roster::fame);
+    }
+
+    @Benchmark
+    public PartyAssignmentSolver.Assignment partition() {
+        return solver.partition(roster, roster::fame);
+    }
+}
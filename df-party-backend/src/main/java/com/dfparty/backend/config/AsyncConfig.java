@@ -0,0 +1,164 @@
+package com.dfparty.backend.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 비동기 실행기 설정
+ * - ioTaskExecutor: 외부 HTTP / Playwright / SSE 등 블로킹 I/O 작업 (가상 스레드, @Async 기본 실행기)
+ * - dfoApiExecutor / dundamCrawlExecutor: 모험단 최신화 파이프라인 단계 (가상 스레드, 동시 실행 수 제한 + 대기 큐)
+ * - partyOptimizationExecutor: 파티 최적화 등 CPU 작업 (코어 수 기반 플랫폼 스레드 풀)
+ */
+@Slf4j
+@Configuration
+@EnableAsync
+public class AsyncConfig implements AsyncConfigurer {
+
+    @Value("${refresh.pipeline.dfo-concurrency:4}")
+    private int dfoConcurrency;
+
+    @Value("${refresh.pipeline.dundam-concurrency:2}")
+    private int dundamConcurrency;
+
+    @Value("${party.optimization.pool-size:0}")
+    private int partyOptimizationPoolSize;
+
+    @Value("${party.optimization.queue-capacity:100}")
+    private int partyOptimizationQueueCapacity;
+
+    // ioTaskExecutor는 큐가 없으므로 실행 중/완료 작업 수를 직접 집계
+    private final AtomicInteger ioActiveTasks = new AtomicInteger();
+    private final LongAdder ioCompletedTasks = new LongAdder();
+
+    /**
+     * 블로킹 I/O용 가상 스레드 실행기 (작업마다 가상 스레드 1개)
+     */
+    @Bean
+    public SimpleAsyncTaskExecutor ioTaskExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("io-");
+        executor.setVirtualThreads(true);
+        executor.setTaskDecorator(task -> () -> {
+            ioActiveTasks.incrementAndGet();
+            try {
+                task.run();
+            } finally {
+                ioActiveTasks.decrementAndGet();
+                ioCompletedTasks.increment();
+            }
+        });
+        return executor;
+    }
+
+    /**
+     * DFO API 조회 단계 (호출 속도 자체는 DfApiRateLimiter가 제한)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor dfoApiExecutor() {
+        return createVirtualThreadPool("dfo-api-", dfoConcurrency);
+    }
+
+    /**
+     * 던담 크롤링 단계 (Playwright 브라우저 자원을 쓰므로 소수로 제한)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor dundamCrawlExecutor() {
+        return createVirtualThreadPool("dundam-crawl-", dundamConcurrency);
+    }
+
+    /**
+     * 파티 최적화 CPU 작업용 플랫폼 스레드 풀 (큐가 가득 차면 호출 스레드에서 실행)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor partyOptimizationExecutor() {
+        int poolSize = partyOptimizationPoolSize > 0
+            ? partyOptimizationPoolSize
+            : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("party-opt-");
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(partyOptimizationQueueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 동시 실행 수는 스레드 수로 제한하되 스레드 자체는 가상 스레드로 생성
+     */
+    private ThreadPoolTaskExecutor createVirtualThreadPool(String threadNamePrefix, int concurrency) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setThreadFactory(Thread.ofVirtual().name(threadNamePrefix, 0).factory());
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return ioTaskExecutor();
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (ex, method, params) -> log.error("비동기 작업 오류: {} - {}", method.getName(), ex.getMessage(), ex);
+    }
+
+    /**
+     * 실행기별 큐 길이 / 실행 중 작업 수 메트릭 (dfparty.executor.*)
+     */
+    @Bean
+    public MeterBinder executorMetrics(ThreadPoolTaskExecutor dfoApiExecutor,
+                                       ThreadPoolTaskExecutor dundamCrawlExecutor,
+                                       ThreadPoolTaskExecutor partyOptimizationExecutor) {
+        return registry -> {
+            bindThreadPool(registry, "dfoApiExecutor", dfoApiExecutor);
+            bindThreadPool(registry, "dundamCrawlExecutor", dundamCrawlExecutor);
+            bindThreadPool(registry, "partyOptimizationExecutor", partyOptimizationExecutor);
+
+            Gauge.builder("dfparty.executor.active", ioActiveTasks, AtomicInteger::get)
+                .tag("name", "ioTaskExecutor")
+                .description("실행 중인 작업 수")
+                .register(registry);
+            FunctionCounter.builder("dfparty.executor.completed", ioCompletedTasks, LongAdder::sum)
+                .tag("name", "ioTaskExecutor")
+                .description("완료된 작업 수")
+                .register(registry);
+        };
+    }
+
+    private void bindThreadPool(MeterRegistry registry, String name, ThreadPoolTaskExecutor executor) {
+        Gauge.builder("dfparty.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+            .tag("name", name)
+            .description("실행 중인 작업 수")
+            .register(registry);
+        Gauge.builder("dfparty.executor.queued", executor, ThreadPoolTaskExecutor::getQueueSize)
+            .tag("name", name)
+            .description("대기 큐에 쌓인 작업 수")
+            .register(registry);
+        Gauge.builder("dfparty.executor.pool.size", executor, ThreadPoolTaskExecutor::getPoolSize)
+            .tag("name", name)
+            .description("현재 스레드 수")
+            .register(registry);
+    }
+}
@@ -1,8 +1,20 @@
 package com.dfparty.backend.config;
 
+import com.dfparty.backend.service.DfApiRateLimiter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
@@ -20,9 +32,74 @@ public class DfApiConfig {
     @Value("${df.api.rate-limit-window:3600000}")
     private long rateLimitWindow;
 
+    // HTTP 커넥션 풀 설정
+    @Value("${http-client.max-total:50}")
+    private int maxTotalConnections;
+
+    @Value("${http-client.max-per-route:20}")
+    private int maxConnectionsPerRoute;
+
+    @Value("${http-client.connect-timeout:3000}")
+    private long connectTimeout;
+
+    @Value("${http-client.read-timeout:10000}")
+    private long readTimeout;
+
+    @Value("${http-client.connection-request-timeout:5000}")
+    private long connectionRequestTimeout;
+
+    @Value("${http-client.idle-timeout:30000}")
+    private long idleTimeout;
+
+    /**
+     * Neople API / dundam.xyz 공용 커넥션 풀
+     */
+    @Bean
+    public PoolingHttpClientConnectionManager httpClientConnectionManager() {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(maxTotalConnections)
+            .setMaxConnPerRoute(maxConnectionsPerRoute)
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout))
+                .setSocketTimeout(Timeout.ofMilliseconds(readTimeout))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                .setTimeToLive(TimeValue.ofMinutes(5))
+                .build())
+            .build();
+    }
+
+    /**
+     * Keep-Alive 재사용, gzip/deflate 응답 자동 해제, 유휴 커넥션 정리를 포함한 HttpClient
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient httpClient(PoolingHttpClientConnectionManager httpClientConnectionManager) {
+        return HttpClients.custom()
+            .setConnectionManager(httpClientConnectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeout))
+                .setResponseTimeout(Timeout.ofMilliseconds(readTimeout))
+                .build())
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.ofMilliseconds(idleTimeout))
+            .build();
+    }
+
+    /**
+     * 커넥션 풀 메트릭 (httpcomponents.httpclient.pool.* : leased / available / pending)
+     */
+    @Bean
+    public MeterBinder httpClientPoolMetrics(PoolingHttpClientConnectionManager httpClientConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(httpClientConnectionManager, "df-api");
+    }
+
+    /**
+     * 공용 RestTemplate (Neople API 호출은 DfApiRateLimiter로 호출량 제한)
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(CloseableHttpClient httpClient, DfApiRateLimiter dfApiRateLimiter) {
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+        restTemplate.getInterceptors().add(new DfApiRateLimitInterceptor(dfApiRateLimiter, baseUrl));
+        return restTemplate;
     }
 
     public String getBaseUrl() {
@@ -40,4 +117,4 @@ public class DfApiConfig {
     public long getRateLimitWindow() {
         return rateLimitWindow;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,33 @@
+package com.dfparty.backend.config;
+
+import com.dfparty.backend.service.DfApiRateLimiter;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.net.URI;
+
+/**
+ * RestTemplate 아웃바운드 요청 중 Neople API 호스트로 가는 요청에만 호출 제한을 적용
+ * (같은 RestTemplate으로 호출하는 dundam.xyz 등 다른 호스트는 제한하지 않음)
+ */
+public class DfApiRateLimitInterceptor implements ClientHttpRequestInterceptor {
+
+    private final DfApiRateLimiter rateLimiter;
+    private final String apiHost;
+
+    public DfApiRateLimitInterceptor(DfApiRateLimiter rateLimiter, String baseUrl) {
+        this.rateLimiter = rateLimiter;
+        this.apiHost = URI.create(baseUrl).getHost();
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        if (apiHost != null && apiHost.equalsIgnoreCase(request.getURI().getHost())) {
+            rateLimiter.acquire();
+        }
+        return execution.execute(request, body);
+    }
+}
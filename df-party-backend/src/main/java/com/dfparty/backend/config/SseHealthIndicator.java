@@ -0,0 +1,34 @@
+package com.dfparty.backend.config;
+
+import com.dfparty.backend.service.SseBroadcaster;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * /actuator/health 의 sse 항목: SSE 연결 수 / 상한 대비 사용률
+ * 상한에 닿아도 가장 오래된 연결부터 교체되므로 상태는 항상 UP으로 두고 수치만 노출한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SseHealthIndicator implements HealthIndicator {
+
+    private final SseBroadcaster sseBroadcaster;
+
+    @Override
+    public Health health() {
+        int connections = sseBroadcaster.connectionCount();
+        int maxTotal = sseBroadcaster.getMaxTotalEmitters();
+        return Health.up()
+            .withDetail("connections", connections)
+            .withDetail("clients", sseBroadcaster.clientCount())
+            .withDetail("maxTotalEmitters", maxTotal)
+            .withDetail("maxEmittersPerClient", sseBroadcaster.getMaxEmittersPerClient())
+            .withDetail("utilizationPercent", (int) ((double) connections / maxTotal * 100))
+            .withDetail("topics", sseBroadcaster.topicCount())
+            .withDetail("queuedEvents", sseBroadcaster.queuedEvents())
+            .withDetail("reapedConnections", sseBroadcaster.reapedConnectionCount())
+            .build();
+    }
+}
@@ -120,6 +120,42 @@ public class AdvancedPartyOptimizationController {
         return executeAdvancedOptimization(request);
     }
 
+    /**
+     * 선택한 캐릭터 전체를 4인 / 8인 파티 여러 개로 분할
+     */
+    @PostMapping("/partition")
+    public ResponseEntity<Map<String, Object>> partitionIntoParties(@RequestBody Map<String, Object> request) {
+        try {
+            log.info("파티 분할 요청: {}", request);
+            
+            if (!request.containsKey("characterIds") || !request.containsKey("partySize")) {
+                return ResponseEntity.badRequest().body(createErrorResponse("필수 파라미터가 누락되었습니다."));
+            }
+            
+            List<String> characterIds = (List<String>) request.get("characterIds");
+            String dungeonName = (String) request.get("dungeonName");
+            int partySize = (Integer) request.get("partySize");
+            if (partySize != 4 && partySize != 8) {
+                return ResponseEntity.badRequest().body(createErrorResponse("파티 크기는 4 또는 8이어야 합니다."));
+            }
+            
+            // 캐릭터 정보 조회
+            List<Character> characters = characterService.getCharactersByIds(characterIds);
+            if (characters.isEmpty()) {
+                return ResponseEntity.badRequest().body(createErrorResponse("선택된 캐릭터를 찾을 수 없습니다."));
+            }
+            
+            Map<String, Object> result = advancedPartyOptimizationService.partitionIntoParties(characters, dungeonName, partySize);
+            
+            log.info("파티 분할 완료: 캐릭터 {}명, 파티크기={}", characters.size(), partySize);
+            return ResponseEntity.ok(result);
+            
+        } catch (Exception e) {
+            log.error("파티 분할 중 오류 발생", e);
+            return ResponseEntity.internalServerError().body(createErrorResponse("파티 분할 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+
     /**
      * 최적화 전략 비교 분석
      */
@@ -144,22 +180,14 @@ public class AdvancedPartyOptimizationController {
                 return ResponseEntity.badRequest().body(createErrorResponse("선택된 캐릭터를 찾을 수 없습니다."));
             }
             
-            // 모든 전략으로 최적화 실행
-            Map<String, Object> efficiencyResult = advancedPartyOptimizationService.executeAdvancedOptimization(
-                    characters, dungeonName, partySize, "efficiency"
-            );
-            
-            Map<String, Object> balanceResult = advancedPartyOptimizationService.executeAdvancedOptimization(
-                    characters, dungeonName, partySize, "balance"
-            );
-            
-            Map<String, Object> synergyResult = advancedPartyOptimizationService.executeAdvancedOptimization(
-                    characters, dungeonName, partySize, "synergy"
-            );
-            
-            Map<String, Object> safetyResult = advancedPartyOptimizationService.executeAdvancedOptimization(
-                    characters, dungeonName, partySize, "safety"
+            // 모든 전략을 동시에 실행 (공용 로스터, 전략별 실행 시간 포함)
+            Map<String, Map<String, Object>> strategyResults = advancedPartyOptimizationService.compareStrategies(
+                    characters, dungeonName, partySize
             );
+            Map<String, Object> efficiencyResult = strategyResults.get("efficiency");
+            Map<String, Object> balanceResult = strategyResults.get("balance");
+            Map<String, Object> synergyResult = strategyResults.get("synergy");
+            Map<String, Object> safetyResult = strategyResults.get("safety");
             
             // 결과 비교 분석
             Map<String, Object> comparisonResult = createComparisonResult(
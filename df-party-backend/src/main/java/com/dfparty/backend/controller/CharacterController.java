@@ -242,10 +242,12 @@ public class CharacterController {
     @GetMapping("/search")
     public ResponseEntity<Map<String, Object>> searchCharacters(
             @RequestParam String characterName,
-            @RequestParam(required = false, defaultValue = "all") String serverId) {
+            @RequestParam(required = false, defaultValue = "all") String serverId,
+            @RequestParam(required = false, defaultValue = "0") int page,
+            @RequestParam(required = false, defaultValue = "20") int size) {
         
         try {
-            Map<String, Object> result = characterService.searchCharacters(characterName, serverId);
+            Map<String, Object> result = characterService.searchCharacters(characterName, serverId, page, size);
             return ResponseEntity.ok(result);
             
         } catch (Exception e) {
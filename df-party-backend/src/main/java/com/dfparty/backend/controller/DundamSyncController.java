@@ -15,6 +15,7 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import com.dfparty.backend.model.RealtimeEvent;
+import com.dfparty.backend.model.RealtimeTopic;
 
 @Slf4j
 @RestController
@@ -155,7 +156,7 @@ public class DundamSyncController {
                     wsData.put("characterInfo", characterInfo); // 던담에서 가져온 원본 정보 추가
                     wsData.put("timestamp", LocalDateTime.now());
                     
-                    realtimeEventService.sendEventToTopic("character-updates", 
+                    realtimeEventService.sendEventToTopics(RealtimeTopic.forCharacter(characterId, characterInfo != null ? characterInfo.get("adventureName") : null), 
                         RealtimeEvent.builder()
                             .id(UUID.randomUUID().toString())
                             .type(RealtimeEvent.EventType.CHARACTER_UPDATED)
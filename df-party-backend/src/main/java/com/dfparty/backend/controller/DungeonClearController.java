@@ -49,11 +49,13 @@ public class DungeonClearController {
     @PostMapping("/reset")
     public ResponseEntity<Map<String, Object>> manualResetDungeonClearStatus() {
         try {
-            dungeonClearResetService.manualResetDungeonClearStatus();
+            Map<String, Object> resetResult = dungeonClearResetService.manualResetDungeonClearStatus();
             
             Map<String, Object> result = Map.of(
                 "success", true,
-                "message", "던전 클리어 상태가 수동으로 초기화되었습니다."
+                "message", "던전 클리어 상태가 수동으로 초기화되었습니다.",
+                "resetCount", resetResult.get("resetCount"),
+                "durationMs", resetResult.get("durationMs")
             );
             return ResponseEntity.ok(result);
         } catch (Exception e) {
@@ -3,14 +3,17 @@ package com.dfparty.backend.controller;
 import com.dfparty.backend.service.CharacterService;
 import com.dfparty.backend.service.DundamService;
 import com.dfparty.backend.service.RealtimeEventService;
+import com.dfparty.backend.service.RefreshProgressAggregator;
 import com.dfparty.backend.entity.Character;
 import com.dfparty.backend.repository.CharacterRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -23,10 +26,16 @@ import java.util.concurrent.CompletableFuture;
 @CrossOrigin(origins = "*")
 public class RealtimeUpdateController {
 
+    // 실시간 업데이트 결과를 DB에 모아서 저장하는 단위
+    private static final int SAVE_BATCH_SIZE = 20;
+    private static final String ALL_TARGET = "전체";
+
     private final CharacterService characterService;
     private final DundamService dundamService;
     private final RealtimeEventService realtimeEventService;
+    private final RefreshProgressAggregator refreshProgressAggregator;
     private final CharacterRepository characterRepository;
+    private final SimpleAsyncTaskExecutor ioTaskExecutor;
 
     /**
      * 모험단별 캐릭터 실시간 업데이트 (던담 재크롤링)
@@ -52,7 +61,7 @@ public class RealtimeUpdateController {
             }
             
             // 시스템 알림 전송 (업데이트 시작)
-            realtimeEventService.sendSystemNotification(
+            realtimeEventService.sendAdventureNotification(adventureName,
                 String.format("'%s' 모험단 캐릭터 정보 업데이트를 시작합니다.", adventureName),
                 Map.of("adventureName", adventureName, "characterCount", characters.size())
             );
@@ -60,7 +69,7 @@ public class RealtimeUpdateController {
             // 비동기로 각 캐릭터 업데이트
             CompletableFuture.runAsync(() -> {
                 updateCharactersRealtime(characters, adventureName, userId);
-            });
+            }, ioTaskExecutor);
             
             // refresh API는 동기화 시작 신호만 반환 (상세 진행 상황은 SSE로 전송)
             return ResponseEntity.ok(Map.of(
@@ -105,7 +114,7 @@ public class RealtimeUpdateController {
             // 비동기로 캐릭터 업데이트
             CompletableFuture.runAsync(() -> {
                 updateSingleCharacterRealtime(character, userId);
-            });
+            }, ioTaskExecutor);
             
             return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -150,8 +159,8 @@ public class RealtimeUpdateController {
             
             // 비동기로 모든 캐릭터 업데이트
             CompletableFuture.runAsync(() -> {
-                updateCharactersRealtime(allCharacters, "전체", userId);
-            });
+                updateCharactersRealtime(allCharacters, ALL_TARGET, userId);
+            }, ioTaskExecutor);
             
             return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -168,33 +177,44 @@ public class RealtimeUpdateController {
         }
     }
 
+    /**
+     * 진행 알림: 전체 업데이트는 모든 클라이언트, 모험단 업데이트는 해당 모험단 구독자에게 전송
+     */
+    private void notifyProgress(String targetName, String message, Map<String, Object> data) {
+        if (ALL_TARGET.equals(targetName)) {
+            realtimeEventService.sendSystemNotification(message, data);
+        } else {
+            realtimeEventService.sendAdventureNotification(targetName, message, data);
+        }
+    }
+
     /**
      * 비동기로 캐릭터들 업데이트 실행
      */
     private void updateCharactersRealtime(List<Character> characters, String targetName, String userId) {
         int totalCount = characters.size();
-        int currentCount = 0;
         int successCount = 0;
         int failureCount = 0;
+        // 갱신된 캐릭터는 모아서 배치로 저장하고, 저장이 커밋된 뒤에 개별 업데이트 알림 전송
+        List<Character> pendingSaves = new ArrayList<>();
+        List<Map<String, Object>> pendingUpdates = new ArrayList<>();
+        // 진행률 알림은 캐릭터마다 기록만 하고 일정 단계 이상 진행됐을 때 모아서 전송 (개별 업데이트 이벤트에는 진행률을 싣지 않음)
+        RefreshProgressAggregator.ProgressJob progressJob = refreshProgressAggregator.open(
+            "realtime:" + targetName, totalCount,
+            job -> notifyProgress(targetName,
+                String.format("'%s' 업데이트 진행률: %d%% (%d/%d)", targetName, job.getProgressPercent(), job.getProcessed(), totalCount),
+                Map.of(
+                    "targetName", targetName,
+                    "progress", job.getProgressPercent(),
+                    "current", job.getProcessed(),
+                    "total", totalCount
+                )
+            ));
         
         for (Character character : characters) {
-            currentCount++;
+            boolean updated = false;
             
             try {
-                // 진행률 알림
-                if (currentCount % 5 == 0 || currentCount == totalCount) {
-                    int progressPercent = (int) ((double) currentCount / totalCount * 100);
-                    realtimeEventService.sendSystemNotification(
-                        String.format("'%s' 업데이트 진행률: %d%% (%d/%d)", targetName, progressPercent, currentCount, totalCount),
-                        Map.of(
-                            "targetName", targetName,
-                            "progress", progressPercent,
-                            "current", currentCount,
-                            "total", totalCount
-                        )
-                    );
-                }
-                
                 // 던담에서 최신 정보 크롤링
                 Map<String, Object> dundamInfo = dundamService.getCharacterInfo(
                     character.getServerId(), 
@@ -213,25 +233,19 @@ public class RealtimeUpdateController {
                         character.setTotalDamage(totalDamage);
                     }
                     
-                    characterRepository.save(character);
-                    successCount++;
-                    
-                    // 개별 캐릭터 업데이트 알림
+                    // 개별 캐릭터 업데이트 알림 (배치 저장 후 전송)
                     Map<String, Object> updateData = new HashMap<>();
                     updateData.put("characterId", character.getCharacterId());
                     updateData.put("characterName", character.getCharacterName());
                     updateData.put("adventureName", character.getAdventureName());
                     updateData.put("buffPower", buffPower);
                     updateData.put("totalDamage", totalDamage);
-                    updateData.put("progress", (int) ((double) currentCount / totalCount * 100));
                     
-                    realtimeEventService.notifyCharacterUpdated(
-                        character.getCharacterId(), 
-                        userId, 
-                        updateData
-                    );
+                    pendingSaves.add(character);
+                    pendingUpdates.add(updateData);
+                    updated = true;
                     
-                    log.info("캐릭터 업데이트 완료: {} (버프력: {}, 전투력: {})", 
+                    log.info("캐릭터 정보 조회 완료: {} (버프력: {}, 전투력: {})", 
                         character.getCharacterName(), buffPower, totalDamage);
                 } else {
                     failureCount++;
@@ -245,10 +259,26 @@ public class RealtimeUpdateController {
                 failureCount++;
                 log.error("캐릭터 업데이트 중 오류: {} - {}", character.getCharacterName(), e.getMessage());
             }
+            progressJob.record(character.getCharacterName(), updated);
+            
+            if (pendingSaves.size() >= SAVE_BATCH_SIZE) {
+                int saved = flushPendingSaves(pendingSaves, pendingUpdates, userId);
+                successCount += saved;
+                failureCount += pendingSaves.size() - saved;
+                pendingSaves.clear();
+                pendingUpdates.clear();
+            }
+        }
+        
+        if (!pendingSaves.isEmpty()) {
+            int saved = flushPendingSaves(pendingSaves, pendingUpdates, userId);
+            successCount += saved;
+            failureCount += pendingSaves.size() - saved;
         }
+        refreshProgressAggregator.close(progressJob);
         
         // 최종 완료 알림
-        realtimeEventService.sendSystemNotification(
+        notifyProgress(targetName,
             String.format("'%s' 업데이트 완료! 성공: %d명, 실패: %d명", targetName, successCount, failureCount),
             Map.of(
                 "targetName", targetName,
@@ -263,6 +293,28 @@ public class RealtimeUpdateController {
             targetName, totalCount, successCount, failureCount);
     }
 
+    /**
+     * 모아 둔 캐릭터를 배치로 저장하고, 커밋된 캐릭터에 대해서만 개별 업데이트 알림 전송
+     * 배치 저장은 트랜잭션 하나라 실패하면 배치 전체가 저장되지 않으므로 알림도 보내지 않는다.
+     * @return 저장된 캐릭터 수
+     */
+    private int flushPendingSaves(List<Character> pendingSaves, List<Map<String, Object>> pendingUpdates, String userId) {
+        try {
+            characterRepository.saveAllInBatches(pendingSaves);
+        } catch (Exception e) {
+            log.error("캐릭터 일괄 저장 중 오류 ({}명 저장 실패): {}", pendingSaves.size(), e.getMessage());
+            return 0;
+        }
+        for (int i = 0; i < pendingSaves.size(); i++) {
+            realtimeEventService.notifyCharacterUpdated(
+                pendingSaves.get(i).getCharacterId(),
+                userId,
+                pendingUpdates.get(i)
+            );
+        }
+        return pendingSaves.size();
+    }
+
     /**
      * 단일 캐릭터 업데이트 실행
      */
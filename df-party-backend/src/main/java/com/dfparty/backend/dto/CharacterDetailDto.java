@@ -1,5 +1,7 @@
 package com.dfparty.backend.dto;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -47,6 +49,32 @@ public class CharacterDetailDto {
         this.fame = fame;
     }
 
+    /**
+     * 복사 생성자 (status / equipment / buffSkill 컬렉션도 새로 만들어 원본과 공유하지 않음)
+     */
+    public CharacterDetailDto(CharacterDetailDto source) {
+        this(source.serverId, source.characterId, source.characterName, source.jobId, source.jobGrowId,
+             source.jobName, source.jobGrowName, source.level, source.adventureName, source.fame);
+        this.buffPower = source.buffPower;
+        this.totalDamage = source.totalDamage;
+        this.dungeonClearNabel = source.dungeonClearNabel;
+        this.dungeonClearVenus = source.dungeonClearVenus;
+        this.dungeonClearFog = source.dungeonClearFog;
+        this.status = source.status != null ? new HashMap<>(source.status) : null;
+        if (source.equipment != null) {
+            this.equipment = new ArrayList<>(source.equipment.size());
+            for (Map<String, Object> item : source.equipment) {
+                this.equipment.add(item != null ? new HashMap<>(item) : null);
+            }
+        }
+        this.buffSkill = source.buffSkill != null ? new HashMap<>(source.buffSkill) : null;
+        this.characterImageUrl = source.characterImageUrl;
+        this.avatarImageUrl = source.avatarImageUrl;
+        this.isHardNabelEligible = source.isHardNabelEligible;
+        this.isNormalNabelEligible = source.isNormalNabelEligible;
+        this.isTwilightEligible = source.isTwilightEligible;
+    }
+
     // Getters and Setters
     public String getServerId() { return serverId; }
     public void setServerId(String serverId) { this.serverId = serverId; }
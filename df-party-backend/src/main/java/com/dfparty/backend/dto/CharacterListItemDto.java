@@ -0,0 +1,59 @@
+package com.dfparty.backend.dto;
+
+import com.dfparty.backend.entity.Character;
+import com.dfparty.backend.entity.NabelDifficultySelection.NabelDifficulty;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캐릭터 목록 화면용 읽기 전용 프로젝션
+ * 이미지 URL(TEXT) 등 목록에 필요 없는 컬럼은 조회하지 않고, 영속성 컨텍스트에도 올리지 않는다.
+ */
+public record CharacterListItemDto(
+    String characterId,
+    String characterName,
+    String serverId,
+    String adventureName,
+    Long fame,
+    Long buffPower,
+    Long totalDamage,
+    Integer level,
+    String jobGrowName,
+    Boolean dungeonClearNabel,
+    Boolean dungeonClearVenus,
+    Boolean dungeonClearFog,
+    Boolean dungeonClearTwilight,
+    Boolean isFavoriteNabel,
+    String excludedDungeons,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt,
+    Long manualBuffPower,
+    Long manualTotalDamage,
+    Boolean isExcludedNabel,
+    Boolean isExcludedVenus,
+    Boolean isExcludedFog,
+    Boolean isSkipNabel,
+    Boolean isSkipVenus,
+    Boolean isSkipFog,
+    Boolean isHardNabelEligible,
+    Boolean isNormalNabelEligible,
+    Boolean isMatchingNabelEligible,
+    Boolean isTwilightEligible,
+    NabelDifficulty selectedNabelDifficulty
+) {
+
+    public String displayJobName() {
+        return Character.toDisplayJobName(jobGrowName);
+    }
+
+    /**
+     * 실시간 조회한 던전 클리어 현황으로 교체한 사본
+     */
+    public CharacterListItemDto withDungeonClear(Boolean nabel, Boolean venus, Boolean fog, Boolean twilight) {
+        return new CharacterListItemDto(characterId, characterName, serverId, adventureName, fame, buffPower,
+            totalDamage, level, jobGrowName, nabel, venus, fog, twilight, isFavoriteNabel, excludedDungeons,
+            createdAt, updatedAt, manualBuffPower, manualTotalDamage, isExcludedNabel, isExcludedVenus,
+            isExcludedFog, isSkipNabel, isSkipVenus, isSkipFog, isHardNabelEligible, isNormalNabelEligible,
+            isMatchingNabelEligible, isTwilightEligible, selectedNabelDifficulty);
+    }
+}
@@ -10,15 +10,30 @@ import java.time.LocalDateTime;
 import com.dfparty.backend.entity.NabelDifficultySelection.NabelDifficulty;
 
 @Entity
-@Table(name = "characters")
+@Table(name = "characters", indexes = {
+    // 서버별 + 제외 여부 필터 (명성 조건, 던전별 미클리어 조회)
+    @Index(name = "idx_server_excluded_fame", columnList = "server_id, is_excluded, fame"),
+    @Index(name = "idx_server_excluded_nabel", columnList = "server_id, is_excluded, dungeon_clear_nabel"),
+    @Index(name = "idx_server_excluded_venus", columnList = "server_id, is_excluded, dungeon_clear_venus"),
+    @Index(name = "idx_server_excluded_fog", columnList = "server_id, is_excluded, dungeon_clear_fog"),
+    // 모험단별 조회 / 카운트
+    @Index(name = "idx_adventure_excluded", columnList = "adventure_id, is_excluded"),
+    // 동기화 순서 정렬
+    @Index(name = "idx_sync_sort_at", columnList = "sync_sort_at"),
+    // 캐릭터명 검색 (앞부분 일치)
+    @Index(name = "idx_name_normalized", columnList = "character_name_normalized"),
+    @Index(name = "idx_server_name_normalized", columnList = "server_id, character_name_normalized")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Character {
     
+    // IDENTITY는 INSERT마다 생성 키를 받아야 해서 JDBC 배치가 꺼지므로 시퀀스(50개 단위 할당) 사용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "characters_seq")
+    @SequenceGenerator(name = "characters_seq", sequenceName = "characters_seq", allocationSize = 50)
     private Long id;
     
     @Column(name = "character_id", unique = true, nullable = false)
@@ -26,6 +41,10 @@ public class Character {
     
     @Column(name = "character_name", nullable = false)
     private String characterName;
+
+    // 검색용 정규화 이름: LOWER(공백 제거한 character_name)를 DB가 계산해 저장하는 생성 컬럼 (읽기 전용)
+    @Column(name = "character_name_normalized", insertable = false, updatable = false)
+    private String characterNameNormalized;
     
     @Column(name = "server_id", nullable = false)
     private String serverId;
@@ -201,6 +220,10 @@ public class Character {
     
     @Column(name = "last_stats_update")
     private LocalDateTime lastStatsUpdate;
+
+    // 동기화 정렬 키: COALESCE(last_stats_update, created_at)를 DB가 계산해 저장하는 생성 컬럼 (읽기 전용)
+    @Column(name = "sync_sort_at", insertable = false, updatable = false)
+    private LocalDateTime syncSortAt;
     
     // 타임스탬프
     @Column(name = "created_at")
@@ -311,6 +334,10 @@ public class Character {
     
     // 직업명 표시용 메서드
     public String getDisplayJobName() {
+        return toDisplayJobName(jobGrowName);
+    }
+
+    public static String toDisplayJobName(String jobGrowName) {
         if (jobGrowName != null && !jobGrowName.trim().isEmpty()) {
             // job_grow_name에서 眞 문자만 제거하고 공백 정리
             String cleanJobName = jobGrowName
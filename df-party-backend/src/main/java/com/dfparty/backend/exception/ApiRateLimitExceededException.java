@@ -0,0 +1,11 @@
+package com.dfparty.backend.exception;
+
+/**
+ * DFO API 호출 제한(df.api.rate-limit)을 넘어 요청을 보낼 수 없을 때 발생
+ */
+public class ApiRateLimitExceededException extends RuntimeException {
+
+    public ApiRateLimitExceededException(String message) {
+        super(message);
+    }
+}
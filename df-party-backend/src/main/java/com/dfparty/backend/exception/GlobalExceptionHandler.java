@@ -66,6 +66,23 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
     }
 
+    /**
+     * DFO API 호출 제한 초과 (fail-fast 정책 또는 최대 대기 시간 초과)
+     */
+    @ExceptionHandler(ApiRateLimitExceededException.class)
+    public ResponseEntity<Map<String, Object>> handleApiRateLimitExceededException(ApiRateLimitExceededException ex, WebRequest request) {
+        System.out.println("=== DFO API 호출 제한 초과: " + ex.getMessage() + " ===");
+
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("success", false);
+        errorResponse.put("timestamp", LocalDateTime.now().toString());
+        errorResponse.put("error", "ApiRateLimitExceeded");
+        errorResponse.put("message", ex.getMessage());
+        errorResponse.put("path", request.getDescription(false));
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(errorResponse);
+    }
+
     /**
      * SSE 관련 예외 처리
      */
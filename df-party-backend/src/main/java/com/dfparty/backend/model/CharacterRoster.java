@@ -0,0 +1,282 @@
+package com.dfparty.backend.model;
+
+import com.dfparty.backend.entity.Character;
+import com.dfparty.backend.utils.CharacterUtils;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * 파티 최적화용 캐릭터 스냅샷
+ *
+ * 요청마다 한 번 만들고, 이후 선택 / 점수 계산은 캐릭터 인덱스(int)와 원시 배열로만 처리한다.
+ * - 명성 / 총딜 / 버프력: null을 0으로 바꾼 long 배열 (비교할 때 박싱 없음)
+ * - 역할: 딜러 / 버퍼 / 업둥이 비트마스크 (버퍼 판단은 CharacterUtils.isBuffer 한 번)
+ * - 던전별 클리어 / 안감 / 스킵 여부: 던전마다 BitSet
+ * 만든 뒤에는 변경하지 않으므로 여러 스레드에서 같이 읽어도 된다. 선택 상태는 호출하는 쪽의 BitSet(used)으로 관리한다.
+ */
+public final class CharacterRoster {
+
+    public static final int ROLE_DEALER = 1;
+    public static final int ROLE_BUFFER = 1 << 1;
+    public static final int ROLE_UPDOONGI = 1 << 2;
+
+    // 파티 하나의 슬롯 수
+    public static final int PARTY_SLOTS = 4;
+
+    // 명성 정렬 키: 상위 비트는 명성, 하위 INDEX_BITS 비트는 인덱스 (동률이면 입력 순서 유지)
+    private static final int INDEX_BITS = 21;
+    private static final int MAX_SIZE = 1 << INDEX_BITS;
+    private static final long MAX_SORT_VALUE = (1L << (63 - INDEX_BITS)) - 1;
+
+    public enum Dungeon {
+        NABEL, VENUS, FOG, TWILIGHT;
+
+        /**
+         * "nabel", "venus", "fog", "twilight" (대소문자 무시) → 던전, 그 외는 null
+         */
+        public static Dungeon from(String name) {
+            if (name == null) return null;
+            for (Dungeon dungeon : values()) {
+                if (dungeon.name().equalsIgnoreCase(name)) {
+                    return dungeon;
+                }
+            }
+            return null;
+        }
+    }
+
+    private final Character[] characters;
+    private final long[] fame;
+    private final long[] damage;
+    private final long[] buff;
+    private final int[] roles;
+    private final int[] fameOrder;
+    private final BitSet[] cleared;
+    private final BitSet[] excluded;
+    private final BitSet[] skipped;
+
+    private CharacterRoster(int size) {
+        this.characters = new Character[size];
+        this.fame = new long[size];
+        this.damage = new long[size];
+        this.buff = new long[size];
+        this.roles = new int[size];
+        this.cleared = newBitSets(size);
+        this.excluded = newBitSets(size);
+        this.skipped = newBitSets(size);
+        this.fameOrder = new int[size];
+    }
+
+    private static BitSet[] newBitSets(int size) {
+        BitSet[] bitSets = new BitSet[Dungeon.values().length];
+        for (int d = 0; d < bitSets.length; d++) {
+            bitSets[d] = new BitSet(size);
+        }
+        return bitSets;
+    }
+
+    public static CharacterRoster of(List<Character> source, CharacterUtils characterUtils) {
+        int size = source.size();
+        if (size >= MAX_SIZE) {
+            throw new IllegalArgumentException("파티 최적화 대상 캐릭터 수 초과: " + size);
+        }
+
+        CharacterRoster roster = new CharacterRoster(size);
+        for (int i = 0; i < size; i++) {
+            Character c = source.get(i);
+            roster.characters[i] = c;
+            roster.fame[i] = valueOf(c.getFame());
+            roster.damage[i] = valueOf(c.getTotalDamage());
+            roster.buff[i] = valueOf(c.getBuffPower());
+
+            int role = 0;
+            if (c.getJobName() != null || c.getJobGrowName() != null) {
+                role |= characterUtils.isBuffer(c.getJobName(), c.getJobGrowName()) ? ROLE_BUFFER : ROLE_DEALER;
+            }
+            if (Boolean.TRUE.equals(c.getIsFavorite())) {
+                role |= ROLE_UPDOONGI;
+            }
+            roster.roles[i] = role;
+
+            setIf(roster.cleared, Dungeon.NABEL, i, c.getDungeonClearNabel());
+            setIf(roster.cleared, Dungeon.VENUS, i, c.getDungeonClearVenus());
+            setIf(roster.cleared, Dungeon.FOG, i, c.getDungeonClearFog());
+            setIf(roster.cleared, Dungeon.TWILIGHT, i, c.getDungeonClearTwilight());
+            setIf(roster.excluded, Dungeon.NABEL, i, c.getIsExcludedNabel());
+            setIf(roster.excluded, Dungeon.VENUS, i, c.getIsExcludedVenus());
+            setIf(roster.excluded, Dungeon.FOG, i, c.getIsExcludedFog());
+            setIf(roster.skipped, Dungeon.NABEL, i, c.getIsSkipNabel());
+            setIf(roster.skipped, Dungeon.VENUS, i, c.getIsSkipVenus());
+            setIf(roster.skipped, Dungeon.FOG, i, c.getIsSkipFog());
+        }
+        sortDescending(roster.fame, roster.fameOrder);
+        return roster;
+    }
+
+    private static long valueOf(Long value) {
+        return value != null ? value : 0L;
+    }
+
+    private static void setIf(BitSet[] bitSets, Dungeon dungeon, int index, Boolean flag) {
+        if (Boolean.TRUE.equals(flag)) {
+            bitSets[dungeon.ordinal()].set(index);
+        }
+    }
+
+    /**
+     * values 내림차순 인덱스를 order에 채움 (long 키 하나로 정렬, 동률이면 인덱스 오름차순)
+     */
+    private static void sortDescending(long[] values, int[] order) {
+        int size = values.length;
+        long[] keys = new long[size];
+        long indexMask = MAX_SIZE - 1;
+        for (int i = 0; i < size; i++) {
+            long value = Math.min(Math.max(values[i], 0L), MAX_SORT_VALUE);
+            keys[i] = (value << INDEX_BITS) | (indexMask - i);
+        }
+        Arrays.sort(keys);
+        for (int rank = 0; rank < size; rank++) {
+            order[rank] = (int) (indexMask - (keys[size - 1 - rank] & indexMask));
+        }
+    }
+
+    public int size() {
+        return characters.length;
+    }
+
+    public Character character(int index) {
+        return characters[index];
+    }
+
+    public long fame(int index) {
+        return fame[index];
+    }
+
+    public long damage(int index) {
+        return damage[index];
+    }
+
+    public long buff(int index) {
+        return buff[index];
+    }
+
+    public long combatPower(int index) {
+        return damage[index] + buff[index];
+    }
+
+    public int roles(int index) {
+        return roles[index];
+    }
+
+    public boolean isBuffer(int index) {
+        return (roles[index] & ROLE_BUFFER) != 0;
+    }
+
+    public boolean isDealer(int index) {
+        return (roles[index] & ROLE_DEALER) != 0;
+    }
+
+    public boolean isUpdoongi(int index) {
+        return (roles[index] & ROLE_UPDOONGI) != 0;
+    }
+
+    public boolean isCleared(int index, Dungeon dungeon) {
+        return cleared[dungeon.ordinal()].get(index);
+    }
+
+    public boolean isExcluded(int index, Dungeon dungeon) {
+        return excluded[dungeon.ordinal()].get(index);
+    }
+
+    public boolean isSkipped(int index, Dungeon dungeon) {
+        return skipped[dungeon.ordinal()].get(index);
+    }
+
+    /**
+     * 명성 순위(0부터)에 해당하는 캐릭터 인덱스
+     */
+    public int indexAtFameRank(int rank) {
+        return fameOrder[rank];
+    }
+
+    /**
+     * requiredRoles 비트를 모두 가진 캐릭터 수
+     */
+    public int count(int requiredRoles) {
+        int count = 0;
+        for (int role : roles) {
+            if ((role & requiredRoles) == requiredRoles) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 아직 선택되지 않은 캐릭터 중 requiredRoles를 모두 가진 최고 명성 캐릭터 인덱스 (없으면 -1)
+     */
+    public int bestByFame(int requiredRoles, BitSet used) {
+        return bestByFame(requiredRoles, 0, used);
+    }
+
+    /**
+     * requiredRoles를 모두 가지고 excludedRoles는 하나도 없는 최고 명성 캐릭터 인덱스 (없으면 -1)
+     */
+    public int bestByFame(int requiredRoles, int excludedRoles, BitSet used) {
+        for (int index : fameOrder) {
+            int role = roles[index];
+            if ((role & requiredRoles) == requiredRoles && (role & excludedRoles) == 0 && !used.get(index)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 업둥이를 우선하는 역할별 최고 명성 캐릭터 (업둥이 중에 없으면 역할 전체에서 선택)
+     */
+    public int bestByFamePreferUpdoongi(int requiredRoles, BitSet used) {
+        int updoongi = bestByFame(requiredRoles | ROLE_UPDOONGI, used);
+        return updoongi >= 0 ? updoongi : bestByFame(requiredRoles, used);
+    }
+
+    /**
+     * 총딜 + 버프력 내림차순 인덱스 (새 배열)
+     */
+    public int[] orderByCombatPowerDesc() {
+        long[] combatPower = new long[size()];
+        for (int i = 0; i < combatPower.length; i++) {
+            combatPower[i] = combatPower(i);
+        }
+        int[] order = new int[combatPower.length];
+        sortDescending(combatPower, order);
+        return order;
+    }
+
+    /**
+     * 파티 효율성 = 평균 명성 - 명성 표준편차 (members의 음수 인덱스는 빈 슬롯으로 보고 제외)
+     */
+    public double fameEfficiency(int[] members, int count) {
+        long sum = 0;
+        int valid = 0;
+        for (int i = 0; i < count; i++) {
+            if (members[i] >= 0) {
+                sum += fame[members[i]];
+                valid++;
+            }
+        }
+        if (valid == 0) return 0.0;
+
+        double avg = (double) sum / valid;
+        double variance = 0.0;
+        for (int i = 0; i < count; i++) {
+            if (members[i] >= 0) {
+                double diff = fame[members[i]] - avg;
+                variance += diff * diff;
+            }
+        }
+        return avg - Math.sqrt(variance / valid);
+    }
+}
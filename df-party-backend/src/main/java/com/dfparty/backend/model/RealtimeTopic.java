@@ -0,0 +1,60 @@
+package com.dfparty.backend.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * SSE 구독 토픽 이름
+ * - adventure:{모험단명}  모험단 최신화 진행 / 소속 캐릭터 변경
+ * - character:{캐릭터ID}  캐릭터 단위 변경
+ * - party:{파티ID}        파티 변경
+ */
+public final class RealtimeTopic {
+
+    public static final String ADVENTURE_PREFIX = "adventure:";
+    public static final String CHARACTER_PREFIX = "character:";
+    public static final String PARTY_PREFIX = "party:";
+
+    private RealtimeTopic() {
+    }
+
+    public static String adventure(String adventureName) {
+        return ADVENTURE_PREFIX + adventureName;
+    }
+
+    public static String character(String characterId) {
+        return CHARACTER_PREFIX + characterId;
+    }
+
+    public static String party(String partyId) {
+        return PARTY_PREFIX + partyId;
+    }
+
+    /**
+     * 캐릭터 이벤트 대상 토픽 (캐릭터 + 알고 있으면 소속 모험단)
+     */
+    public static List<String> forCharacter(String characterId, Object adventureName) {
+        List<String> topics = new ArrayList<>(2);
+        if (characterId != null) {
+            topics.add(character(characterId));
+        }
+        if (adventureName instanceof String name && !name.isBlank()) {
+            topics.add(adventure(name));
+        }
+        return Collections.unmodifiableList(topics);
+    }
+
+    /**
+     * 지원하는 토픽 형식인지 확인 (접두사 + 비어 있지 않은 키)
+     */
+    public static boolean isValid(String topic) {
+        if (topic == null) return false;
+        for (String prefix : List.of(ADVENTURE_PREFIX, CHARACTER_PREFIX, PARTY_PREFIX)) {
+            if (topic.startsWith(prefix) && topic.length() > prefix.length()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,32 @@
+package com.dfparty.backend.repository;
+
+import com.dfparty.backend.entity.Character;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 캐릭터 대량 저장 (hibernate.jdbc.batch_size 단위 flush / clear)
+ */
+public interface CharacterBatchRepository {
+
+    /**
+     * 새 엔티티는 persist, 기존 엔티티는 merge 후 배치 크기마다 flush / clear
+     */
+    void saveAllInBatches(Collection<Character> characters);
+
+    /**
+     * characterId 기준 upsert. 배치마다 기존 행을 IN 쿼리 한 번으로 조회해 updater로 갱신하고, 없는 행은 creator로 생성
+     * 배치마다 따로 커밋하며, 실패한 배치는 행 단위로 다시 시도해 잘못된 행만 failedCount로 센다.
+     * insertedSources에는 커밋까지 끝난 신규 행의 원본만 담긴다.
+     */
+    <T> UpsertResult<T> upsertAllByCharacterId(Collection<T> sources,
+                                            Function<T, String> characterIdExtractor,
+                                            Function<T, Character> creator,
+                                            BiConsumer<Character, T> updater);
+
+    record UpsertResult<T>(int insertedCount, int updatedCount, int failedCount, List<T> insertedSources) {
+    }
+}
@@ -0,0 +1,153 @@
+package com.dfparty.backend.repository;
+
+import com.dfparty.backend.entity.Character;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+public class CharacterBatchRepositoryImpl implements CharacterBatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    @Override
+    @Transactional
+    public void saveAllInBatches(Collection<Character> characters) {
+        int pending = 0;
+        for (Character character : characters) {
+            if (character.getId() == null) {
+                entityManager.persist(character);
+            } else {
+                entityManager.merge(character);
+            }
+            if (++pending % batchSize == 0) {
+                flushAndClear();
+            }
+        }
+        flushAndClear();
+    }
+
+    @Override
+    public <T> UpsertResult<T> upsertAllByCharacterId(Collection<T> sources,
+                                                   Function<T, String> characterIdExtractor,
+                                                   Function<T, Character> creator,
+                                                   BiConsumer<Character, T> updater) {
+        int insertedCount = 0;
+        int updatedCount = 0;
+        int failedCount = 0;
+        List<T> insertedSources = new ArrayList<>();
+        List<T> chunk = new ArrayList<>(batchSize);
+
+        for (T source : sources) {
+            chunk.add(source);
+            if (chunk.size() == batchSize) {
+                UpsertResult<T> result = upsertChunkInTransaction(chunk, characterIdExtractor, creator, updater);
+                insertedCount += result.insertedCount();
+                updatedCount += result.updatedCount();
+                failedCount += result.failedCount();
+                insertedSources.addAll(result.insertedSources());
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            UpsertResult<T> result = upsertChunkInTransaction(chunk, characterIdExtractor, creator, updater);
+            insertedCount += result.insertedCount();
+            updatedCount += result.updatedCount();
+            failedCount += result.failedCount();
+            insertedSources.addAll(result.insertedSources());
+        }
+        return new UpsertResult<>(insertedCount, updatedCount, failedCount, insertedSources);
+    }
+
+    /**
+     * 배치 하나를 별도 트랜잭션으로 upsert. 실패하면 그 배치만 롤백하고 행마다 다시 시도해 실패한 행만 건너뛴다.
+     */
+    private <T> UpsertResult<T> upsertChunkInTransaction(List<T> chunk,
+                                                      Function<T, String> characterIdExtractor,
+                                                      Function<T, Character> creator,
+                                                      BiConsumer<Character, T> updater) {
+        try {
+            return transactionTemplate.execute(status -> upsertChunk(chunk, characterIdExtractor, creator, updater));
+        } catch (RuntimeException e) {
+            log.warn("캐릭터 upsert 배치 실패 ({}건), 행 단위로 재시도: {}", chunk.size(), e.getMessage());
+        }
+
+        int insertedCount = 0;
+        int updatedCount = 0;
+        int failedCount = 0;
+        List<T> insertedSources = new ArrayList<>();
+        for (T source : chunk) {
+            try {
+                UpsertResult<T> result = transactionTemplate.execute(
+                    status -> upsertChunk(List.of(source), characterIdExtractor, creator, updater));
+                insertedCount += result.insertedCount();
+                updatedCount += result.updatedCount();
+                insertedSources.addAll(result.insertedSources());
+            } catch (RuntimeException e) {
+                failedCount++;
+                log.warn("캐릭터 upsert 실패: characterId={}, {}", characterIdExtractor.apply(source), e.getMessage());
+            }
+        }
+        return new UpsertResult<>(insertedCount, updatedCount, failedCount, insertedSources);
+    }
+
+    private <T> UpsertResult<T> upsertChunk(List<T> chunk,
+                                         Function<T, String> characterIdExtractor,
+                                         Function<T, Character> creator,
+                                         BiConsumer<Character, T> updater) {
+        // 같은 배치 안에서 characterId가 중복되면 마지막 값 사용
+        Map<String, T> sourcesById = new LinkedHashMap<>();
+        for (T source : chunk) {
+            sourcesById.put(characterIdExtractor.apply(source), source);
+        }
+
+        Map<String, Character> existing = entityManager
+            .createQuery("SELECT c FROM Character c WHERE c.characterId IN :characterIds", Character.class)
+            .setParameter("characterIds", sourcesById.keySet())
+            .getResultList()
+            .stream()
+            .collect(Collectors.toMap(Character::getCharacterId, Function.identity()));
+
+        int insertedCount = 0;
+        int updatedCount = 0;
+        List<T> insertedSources = new ArrayList<>();
+        for (Map.Entry<String, T> entry : sourcesById.entrySet()) {
+            Character character = existing.get(entry.getKey());
+            if (character != null) {
+                updater.accept(character, entry.getValue());
+                updatedCount++;
+            } else {
+                entityManager.persist(creator.apply(entry.getValue()));
+                insertedSources.add(entry.getValue());
+                insertedCount++;
+            }
+        }
+        flushAndClear();
+        return new UpsertResult<>(insertedCount, updatedCount, 0, insertedSources);
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
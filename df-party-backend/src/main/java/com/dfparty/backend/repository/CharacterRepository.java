@@ -1,7 +1,9 @@
 package com.dfparty.backend.repository;
 
+import com.dfparty.backend.dto.CharacterListItemDto;
 import com.dfparty.backend.entity.Character;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -11,7 +13,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface CharacterRepository extends JpaRepository<Character, Long> {
+public interface CharacterRepository extends JpaRepository<Character, Long>, CharacterBatchRepository {
 
     // 기본 조회 메서드
     Optional<Character> findByCharacterId(String characterId);
@@ -22,6 +24,18 @@ public interface CharacterRepository extends JpaRepository<Character, Long> {
     
     List<Character> findByServerIdAndAdventure_AdventureName(String serverId, String adventureName);
     
+    // 모험단 캐릭터 목록 화면용 프로젝션 (목록에 쓰는 컬럼 + 나벨 난이도 선택만 조회)
+    @Query("SELECT new com.dfparty.backend.dto.CharacterListItemDto(" +
+           "c.characterId, c.characterName, c.serverId, a.adventureName, c.fame, c.buffPower, c.totalDamage, c.level, c.jobGrowName, " +
+           "c.dungeonClearNabel, c.dungeonClearVenus, c.dungeonClearFog, c.dungeonClearTwilight, c.isFavoriteNabel, c.excludedDungeons, " +
+           "c.createdAt, c.updatedAt, c.manualBuffPower, c.manualTotalDamage, " +
+           "c.isExcludedNabel, c.isExcludedVenus, c.isExcludedFog, c.isSkipNabel, c.isSkipVenus, c.isSkipFog, " +
+           "c.isHardNabelEligible, c.isNormalNabelEligible, c.isMatchingNabelEligible, c.isTwilightEligible, n.selectedDifficulty) " +
+           "FROM Character c JOIN c.adventure a " +
+           "LEFT JOIN NabelDifficultySelection n ON n.characterId = c.characterId " +
+           "WHERE a.adventureName = :adventureName")
+    List<CharacterListItemDto> findListItemsByAdventureName(@Param("adventureName") String adventureName);
+    
     // 던전 클리어 현황 기반 조회
     List<Character> findByDungeonClearNabelFalse();
     
@@ -66,6 +80,18 @@ public interface CharacterRepository extends JpaRepository<Character, Long> {
     @Query("SELECT c.adventure.adventureName, COUNT(c), AVG(c.fame), AVG(c.level) FROM Character c WHERE c.serverId = :serverId GROUP BY c.adventure.adventureName")
     List<Object[]> getAdventureStatsByServer(@Param("serverId") String serverId);
     
+    // 모험단명별 캐릭터 수 (엔티티를 불러오지 않고 GROUP BY 결과만 조회)
+    @Query("SELECT a.adventureName, COUNT(c) FROM Character c JOIN c.adventure a " +
+           "WHERE TRIM(a.adventureName) <> '' AND a.adventureName <> :excludedName GROUP BY a.adventureName")
+    List<Object[]> countCharactersByAdventureName(@Param("excludedName") String excludedName);
+    
+    // 모험단명별 캐릭터 수 (트리거로 유지되는 adventure_stats 집계 테이블 조회, 모험단 수에 비례)
+    @Query(value = "SELECT a.adventure_name, SUM(s.character_count) FROM adventure_stats s " +
+                   "JOIN adventures a ON a.id = s.adventure_id " +
+                   "WHERE s.character_count > 0 AND TRIM(a.adventure_name) <> '' AND a.adventure_name <> :excludedName " +
+                   "GROUP BY a.adventure_name", nativeQuery = true)
+    List<Object[]> countCharactersByAdventureNameMaterialized(@Param("excludedName") String excludedName);
+    
     // 업데이트가 필요한 캐릭터 조회 (1시간 이상 업데이트되지 않은 명성 정보)
     @Query("SELECT c FROM Character c WHERE c.lastStatsUpdate IS NULL OR c.lastStatsUpdate < :threshold")
     List<Character> findCharactersNeedingFameUpdate(@Param("threshold") LocalDateTime threshold);
@@ -91,7 +117,72 @@ public interface CharacterRepository extends JpaRepository<Character, Long> {
     @Query("SELECT DISTINCT c.adventure.adventureName FROM Character c WHERE c.adventure.adventureName IS NOT NULL AND c.adventure.adventureName != 'N/A' ORDER BY c.adventure.adventureName")
     List<String> findDistinctAdventureNames();
     
-    // 동기화를 위한 캐릭터 조회 (최근 업데이트 순)
-    @Query("SELECT c FROM Character c ORDER BY COALESCE(c.lastStatsUpdate, c.createdAt) ASC")
+    // 동기화를 위한 캐릭터 조회 (최근 업데이트 순, idx_sync_sort_at 사용)
+    @Query("SELECT c FROM Character c ORDER BY c.syncSortAt ASC")
     List<Character> findAllByOrderByLastStatsUpdateAsc();
+
+    // 캐릭터명 DB 검색 (목요일 제한 모드): 2-gram 보조 테이블로 후보를 좁힌 뒤 부분 일치 확인
+    // 정렬: 정확히 일치 > 앞부분 일치 > 부분 일치, 같은 순위는 명성 순
+    // 서버 조건을 (:serverId IS NULL OR ...)로 묶으면 옵티마이저가 서버 인덱스를 못 쓰므로 전체 / 서버별 쿼리를 나눈다
+    // 2-gram 조회는 PK(gram, character_id) 범위로 강제: 힌트가 없으면 MariaDB가 character_id 인덱스 loose scan으로 보조 테이블 전체를 읽음
+    @Query(value = "SELECT c.* FROM characters c " +
+                   "JOIN (SELECT g.character_id FROM character_name_ngrams g FORCE INDEX (PRIMARY) WHERE g.gram IN (:grams) " +
+                   "      GROUP BY g.character_id HAVING COUNT(DISTINCT g.gram) = :gramCount) m ON m.character_id = c.id " +
+                   "WHERE c.character_name_normalized LIKE CONCAT('%', :likeKeyword, '%') ESCAPE '!' " +
+                   "ORDER BY CASE WHEN c.character_name_normalized = :keyword THEN 0 " +
+                   "WHEN c.character_name_normalized LIKE CONCAT(:likeKeyword, '%') ESCAPE '!' THEN 1 ELSE 2 END, " +
+                   "c.fame DESC, c.id " +
+                   "LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<Character> searchByNameNgrams(@Param("keyword") String keyword, @Param("likeKeyword") String likeKeyword,
+                                       @Param("grams") List<String> grams, @Param("gramCount") int gramCount,
+                                       @Param("limit") int limit, @Param("offset") long offset);
+
+    @Query(value = "SELECT c.* FROM characters c " +
+                   "JOIN (SELECT g.character_id FROM character_name_ngrams g FORCE INDEX (PRIMARY) WHERE g.gram IN (:grams) " +
+                   "      GROUP BY g.character_id HAVING COUNT(DISTINCT g.gram) = :gramCount) m ON m.character_id = c.id " +
+                   "WHERE c.server_id = :serverId " +
+                   "AND c.character_name_normalized LIKE CONCAT('%', :likeKeyword, '%') ESCAPE '!' " +
+                   "ORDER BY CASE WHEN c.character_name_normalized = :keyword THEN 0 " +
+                   "WHEN c.character_name_normalized LIKE CONCAT(:likeKeyword, '%') ESCAPE '!' THEN 1 ELSE 2 END, " +
+                   "c.fame DESC, c.id " +
+                   "LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<Character> searchByNameNgramsInServer(@Param("keyword") String keyword, @Param("likeKeyword") String likeKeyword,
+                                               @Param("grams") List<String> grams, @Param("gramCount") int gramCount,
+                                               @Param("serverId") String serverId,
+                                               @Param("limit") int limit, @Param("offset") long offset);
+
+    // 2-gram을 만들 수 없는 한 글자 검색어용: '%x%' 전체 스캔 대신 앞부분 일치만 찾아 정규화 이름 인덱스 범위 스캔
+    @Query(value = "SELECT c.* FROM characters c " +
+                   "WHERE c.character_name_normalized LIKE CONCAT(:likeKeyword, '%') ESCAPE '!' " +
+                   "ORDER BY CASE WHEN c.character_name_normalized = :keyword THEN 0 ELSE 1 END, " +
+                   "c.fame DESC, c.id " +
+                   "LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<Character> searchByNormalizedNamePrefix(@Param("keyword") String keyword, @Param("likeKeyword") String likeKeyword,
+                                                 @Param("limit") int limit, @Param("offset") long offset);
+
+    @Query(value = "SELECT c.* FROM characters c " +
+                   "WHERE c.server_id = :serverId " +
+                   "AND c.character_name_normalized LIKE CONCAT(:likeKeyword, '%') ESCAPE '!' " +
+                   "ORDER BY CASE WHEN c.character_name_normalized = :keyword THEN 0 ELSE 1 END, " +
+                   "c.fame DESC, c.id " +
+                   "LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<Character> searchByNormalizedNamePrefixInServer(@Param("keyword") String keyword, @Param("likeKeyword") String likeKeyword,
+                                                         @Param("serverId") String serverId,
+                                                         @Param("limit") int limit, @Param("offset") long offset);
+
+    // 주간 던전 클리어 초기화용 id 범위
+    @Query("SELECT MIN(c.id) FROM Character c")
+    Long findMinId();
+
+    @Query("SELECT MAX(c.id) FROM Character c")
+    Long findMaxId();
+
+    // 주간 던전 클리어 상태 일괄 초기화 (id 범위 단위, 엔티티를 읽지 않고 UPDATE 한 번)
+    // lastDungeonCheck는 KST 기준, updatedAt은 엔티티 @PreUpdate와 같은 시스템 시간대 기준으로 받는다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Character c SET c.dungeonClearNabel = false, c.dungeonClearVenus = false, c.dungeonClearFog = false, " +
+           "c.dungeonClearTwilight = false, c.lastDungeonCheck = :checkedAt, c.updatedAt = :updatedAt " +
+           "WHERE c.id >= :fromId AND c.id < :toId")
+    int resetDungeonClearStatusInRange(@Param("fromId") Long fromId, @Param("toId") Long toId,
+                                       @Param("checkedAt") LocalDateTime checkedAt, @Param("updatedAt") LocalDateTime updatedAt);
 }
@@ -1,19 +1,45 @@
 package com.dfparty.backend.service;
 
 import com.dfparty.backend.entity.Character;
+import com.dfparty.backend.model.CharacterRoster;
 import com.dfparty.backend.model.SharedParty;
+import com.dfparty.backend.utils.CharacterUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.IntStream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AdvancedPartyOptimizationService {
 
+    // 비교 / 하이브리드에서 동시에 평가하는 전략 (하이브리드는 앞의 세 개만 사용)
+    private static final List<String> COMPARED_STRATEGIES = List.of("efficiency", "balance", "synergy", "safety");
+    private static final List<String> HYBRID_STRATEGIES = List.of("efficiency", "balance", "synergy");
+
+    private final CharacterUtils characterUtils;
+    private final PartyAssignmentSolver partyAssignmentSolver;
+
+    @Autowired
+    @Qualifier("partyOptimizationExecutor")
+    private Executor partyOptimizationExecutor;
+
+    @Value("${party.optimization.strategy-budget-ms:1000}")
+    private long strategyBudgetMillis;
+
     /**
      * 고급 파티 최적화 실행
      */
@@ -21,27 +47,10 @@ public class AdvancedPartyOptimizationService {
         try {
             log.info("고급 파티 최적화 시작: 던전={}, 파티크기={}, 전략={}", dungeonName, partySize, optimizationStrategy);
             
-            Map<String, Object> result = new HashMap<>();
-            
-            switch (optimizationStrategy.toLowerCase()) {
-                case "efficiency":
-                    result = optimizeForEfficiency(characters, dungeonName, partySize);
-                    break;
-                case "balance":
-                    result = optimizeForBalance(characters, dungeonName, partySize);
-                    break;
-                case "synergy":
-                    result = optimizeForSynergy(characters, dungeonName, partySize);
-                    break;
-                case "safety":
-                    result = optimizeForSafety(characters, dungeonName, partySize);
-                    break;
-                case "hybrid":
-                    result = optimizeHybrid(characters, dungeonName, partySize);
-                    break;
-                default:
-                    result = optimizeForEfficiency(characters, dungeonName, partySize);
-            }
+            CharacterRoster roster = prepareRoster(characters);
+            Map<String, Object> result = "hybrid".equalsIgnoreCase(optimizationStrategy)
+                    ? optimizeHybrid(roster, dungeonName, partySize)
+                    : runStrategy(optimizationStrategy.toLowerCase(), roster, dungeonName, partySize);
             
             result.put("optimizationStrategy", optimizationStrategy);
             result.put("executionTime", System.currentTimeMillis());
@@ -55,27 +64,89 @@ public class AdvancedPartyOptimizationService {
         }
     }
 
+    /**
+     * 전략별 최적화를 동시에 실행해 비교 (전략 이름 → 결과, 결과마다 strategyTimeMs 포함)
+     * 제한 시간 안에 끝나지 않은 전략은 에러 결과로 채운다.
+     */
+    public Map<String, Map<String, Object>> compareStrategies(List<Character> characters, String dungeonName, int partySize) {
+        CharacterRoster roster = prepareRoster(characters);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(strategyBudgetMillis);
+        
+        Map<String, Future<Map<String, Object>>> futures = new LinkedHashMap<>();
+        CompletionService<Map<String, Object>> completionService = new ExecutorCompletionService<>(partyOptimizationExecutor);
+        for (String strategy : COMPARED_STRATEGIES) {
+            futures.put(strategy, completionService.submit(() -> runStrategy(strategy, roster, dungeonName, partySize)));
+        }
+        
+        Map<String, Map<String, Object>> results = new LinkedHashMap<>();
+        for (Map.Entry<String, Future<Map<String, Object>>> entry : futures.entrySet()) {
+            results.put(entry.getKey(), awaitStrategy(entry.getKey(), entry.getValue(), deadline));
+        }
+        return results;
+    }
+
+    /**
+     * 분류를 마친 공용 로스터로 전략 하나 실행 (실행 시간 / 전략 이름 포함, 실패하면 에러 결과)
+     */
+    private Map<String, Object> runStrategy(String strategy, CharacterRoster roster, String dungeonName, int partySize) {
+        long startedAt = System.nanoTime();
+        try {
+            Map<String, Object> result = switch (strategy) {
+                case "balance" -> optimizeForBalance(roster, dungeonName, partySize);
+                case "synergy" -> optimizeForSynergy(roster, dungeonName, partySize);
+                case "safety" -> optimizeForSafety(roster, dungeonName, partySize);
+                default -> optimizeForEfficiency(roster, dungeonName, partySize);
+            };
+            result.put("optimizationStrategy", strategy);
+            result.put("strategyTimeMs", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            return result;
+        } catch (Exception e) {
+            log.error("최적화 전략 실행 실패: 전략={}", strategy, e);
+            return createErrorResult(strategy + " 전략 실행 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    private Map<String, Object> awaitStrategy(String strategy, Future<Map<String, Object>> future, long deadline) {
+        try {
+            return future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("최적화 전략 제한 시간 초과: 전략={}, 제한={}ms", strategy, strategyBudgetMillis);
+            return createErrorResult(strategy + " 전략이 제한 시간(" + strategyBudgetMillis + "ms) 안에 끝나지 않았습니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            return createErrorResult(strategy + " 전략 대기 중 중단되었습니다.");
+        } catch (ExecutionException e) {
+            return createErrorResult(strategy + " 전략 실행 중 오류가 발생했습니다: " + e.getCause().getMessage());
+        }
+    }
+
+    /**
+     * 전략 공용 입력: 명성 정렬과 역할 분류를 마친 CharacterRoster를 요청당 한 번만 만든다 (읽기 전용, 여러 스레드에서 공유)
+     * 명성이 없는 캐릭터는 0으로 취급되어 맨 뒤로 간다.
+     */
+    private CharacterRoster prepareRoster(List<Character> characters) {
+        return CharacterRoster.of(characters, characterUtils);
+    }
+
     /**
      * 효율성 중심 최적화
+     * 업둥이 우선 / 효율 점수 순으로 참가자를 고르고, 파티 배정은 솔버로 가장 약한 파티가 최대가 되게 나눈다.
      */
-    private Map<String, Object> optimizeForEfficiency(List<Character> characters, String dungeonName, int partySize) {
+    private Map<String, Object> optimizeForEfficiency(CharacterRoster roster, String dungeonName, int partySize) {
         Map<String, Object> result = new HashMap<>();
         
-        // 명성 기준으로 정렬
-        List<Character> sortedCharacters = characters.stream()
-                .sorted(Comparator.comparing(Character::getFame).reversed())
-                .collect(Collectors.toList());
-        
-        // 직업별 분류
-        List<Character> dealers = filterDealers(sortedCharacters);
-        List<Character> buffers = filterBuffers(sortedCharacters);
-        List<Character> updoongis = filterUpdoongis(sortedCharacters);
-        List<Character> others = filterOthers(sortedCharacters);
+        int partyCount = partySize == 8 ? 2 : 1;
+        int[] buffers = priorityOrder(roster, true);
+        int[] dealers = priorityOrder(roster, false);
+        PartyAssignmentSolver.Assignment assignment =
+                partyAssignmentSolver.solve(roster, buffers, dealers, partyCount, index -> efficiencyWeight(roster, index));
         
         if (partySize == 8) {
             // 8인 파티 최적화
-            Map<String, Object> party1 = createOptimalParty(dealers, buffers, updoongis, others, 1, dungeonName);
-            Map<String, Object> party2 = createOptimalParty(dealers, buffers, updoongis, others, 2, dungeonName);
+            Map<String, Object> party1 = createSolvedParty(roster, assignment.parties()[0], 1, dungeonName);
+            Map<String, Object> party2 = createSolvedParty(roster, assignment.parties()[1], 2, dungeonName);
             
             result.put("party1", party1);
             result.put("party2", party2);
@@ -84,42 +155,150 @@ public class AdvancedPartyOptimizationService {
             
         } else {
             // 4인 파티 최적화
-            Map<String, Object> party = createOptimalParty(dealers, buffers, updoongis, others, 1, dungeonName);
+            Map<String, Object> party = createSolvedParty(roster, assignment.parties()[0], 1, dungeonName);
             result.put("party", party);
-            result.put("efficiency", calculatePartyEfficiency((List<Map<String, Object>>) party.get("slots")));
+            result.put("efficiency", party.get("efficiency"));
             result.put("optimizationType", "efficiency");
         }
+        result.put("solver", createSolverInfo(assignment));
         
         return result;
     }
 
+    /**
+     * 선택한 캐릭터 전체를 4인 / 8인 파티 여러 개로 분할
+     * 4인 파티를 솔버로 나눈 뒤, 8인이면 가장 강한 파티와 가장 약한 파티를 짝지어 공대 전력을 맞춘다.
+     */
+    public Map<String, Object> partitionIntoParties(List<Character> characters, String dungeonName, int partySize) {
+        Map<String, Object> result = new HashMap<>();
+        
+        CharacterRoster roster = CharacterRoster.of(characters, characterUtils);
+        PartyAssignmentSolver.Assignment assignment =
+                partyAssignmentSolver.partition(roster, index -> efficiencyWeight(roster, index));
+        
+        // 전력 내림차순으로 파티 번호 부여
+        Integer[] order = new Integer[assignment.partyCount()];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> Long.compare(assignment.strengths()[b], assignment.strengths()[a]));
+        
+        List<Map<String, Object>> parties = new ArrayList<>();
+        for (int i = 0; i < order.length; i++) {
+            parties.add(createSolvedParty(roster, assignment.parties()[order[i]], i + 1, dungeonName));
+        }
+        
+        if (partySize == 8) {
+            List<Map<String, Object>> raids = new ArrayList<>();
+            int pairs = parties.size() / 2;
+            for (int i = 0; i < pairs; i++) {
+                Map<String, Object> party1 = parties.get(i);
+                Map<String, Object> party2 = parties.get(parties.size() - 1 - i);
+                Map<String, Object> raid = new HashMap<>();
+                raid.put("raidNumber", i + 1);
+                raid.put("party1", party1);
+                raid.put("party2", party2);
+                raid.put("totalEfficiency", calculateTotalEfficiency(party1, party2));
+                raids.add(raid);
+            }
+            result.put("raids", raids);
+            if (parties.size() % 2 == 1) {
+                result.put("remainingParty", parties.get(pairs));
+            }
+        } else {
+            result.put("parties", parties);
+        }
+        
+        List<Map<String, Object>> unassigned = new ArrayList<>();
+        for (int index : assignment.unassigned()) {
+            Map<String, Object> entry = new HashMap<>();
+            entry.put("character", roster.character(index));
+            entry.put("role", determineRole(roster, index));
+            unassigned.add(entry);
+        }
+        result.put("partySize", partySize);
+        result.put("unassignedCount", unassigned.size());
+        result.put("unassignedCharacters", unassigned);
+        result.put("solver", createSolverInfo(assignment));
+        result.put("optimizationType", "partition");
+        return result;
+    }
+
+    /**
+     * 효율 점수 (calculatePartyEfficiency와 같은 명성 70% + 전투력 30%)
+     */
+    private static long efficiencyWeight(CharacterRoster roster, int index) {
+        return Math.round(roster.fame(index) * 0.7 + roster.combatPower(index) * 0.3);
+    }
+
+    /**
+     * 버퍼 / 딜러 후보를 업둥이 먼저, 그 안에서 효율 점수 순으로 나열
+     */
+    private static int[] priorityOrder(CharacterRoster roster, boolean buffer) {
+        return IntStream.range(0, roster.size())
+                .filter(index -> roster.isBuffer(index) == buffer)
+                .boxed()
+                .sorted(Comparator.<Integer, Boolean>comparing(roster::isUpdoongi).reversed()
+                        .thenComparing(index -> efficiencyWeight(roster, index), Comparator.reverseOrder()))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    /**
+     * 솔버가 배정한 파티를 슬롯 정보로 변환 (버퍼 → 딜러 순, 남는 슬롯은 빈 슬롯)
+     */
+    private Map<String, Object> createSolvedParty(CharacterRoster roster, int[] members, int partyNumber, String dungeonName) {
+        Map<String, Object> party = new HashMap<>();
+        List<Map<String, Object>> slots = new ArrayList<>();
+        
+        for (int index : members) {
+            String role = roster.isBuffer(index) ? "buffer" : (roster.isUpdoongi(index) ? "updoongi" : "dealer");
+            slots.add(createSlotInfo(roster.character(index), role, slots.size() + 1));
+        }
+        while (slots.size() < CharacterRoster.PARTY_SLOTS) {
+            slots.add(createEmptySlot(slots.size() + 1));
+        }
+        
+        party.put("partyNumber", partyNumber);
+        party.put("slots", slots);
+        party.put("efficiency", calculatePartyEfficiency(roster, members, members.length));
+        party.put("dungeonName", dungeonName);
+        
+        return party;
+    }
+
+    private Map<String, Object> createSolverInfo(PartyAssignmentSolver.Assignment assignment) {
+        Map<String, Object> solver = new HashMap<>();
+        solver.put("optimal", assignment.optimal());
+        solver.put("weakestStrength", assignment.weakestStrength());
+        solver.put("strongestStrength", assignment.strongestStrength());
+        solver.put("exploredNodes", assignment.exploredNodes());
+        solver.put("elapsedMs", assignment.elapsedMillis());
+        return solver;
+    }
+
     /**
      * 밸런스 중심 최적화
      */
-    private Map<String, Object> optimizeForBalance(List<Character> characters, String dungeonName, int partySize) {
+    private Map<String, Object> optimizeForBalance(CharacterRoster roster, String dungeonName, int partySize) {
         Map<String, Object> result = new HashMap<>();
         
-        // 직업별 균등 분배
-        List<Character> dealers = filterDealers(characters);
-        List<Character> buffers = filterBuffers(characters);
-        List<Character> updoongis = filterUpdoongis(characters);
-        List<Character> others = filterOthers(characters);
+        // 직업별 균등 분배 (8인이면 두 파티가 같은 캐릭터를 나눠 쓰지 않도록 선택 상태 공유)
+        BitSet used = new BitSet(roster.size());
         
         if (partySize == 8) {
             // 8인 파티 밸런스 최적화
-            Map<String, Object> party1 = createBalancedParty(dealers, buffers, updoongis, others, 1, dungeonName);
-            Map<String, Object> party2 = createBalancedParty(dealers, buffers, updoongis, others, 2, dungeonName);
+            Map<String, Object> party1 = createBalancedParty(roster, used, 1, dungeonName);
+            Map<String, Object> party2 = createBalancedParty(roster, used, 2, dungeonName);
             
             result.put("party1", party1);
             result.put("party2", party2);
-            result.put("balanceScore", calculateBalanceScore(party1, party2));
+            result.put("balanceScore", calculateTotalScore(party1, party2, "balanceScore"));
             result.put("optimizationType", "balance");
             
         } else {
             // 4인 파티 밸런스 최적화
-            Map<String, Object> party = createBalancedParty(dealers, buffers, updoongis, others, 1, dungeonName);
+            Map<String, Object> party = createBalancedParty(roster, used, 1, dungeonName);
             result.put("party", party);
-            result.put("balanceScore", calculatePartyBalanceScore((List<Map<String, Object>>) party.get("slots")));
+            result.put("balanceScore", party.get("balanceScore"));
             result.put("optimizationType", "balance");
         }
         
@@ -129,28 +308,23 @@ public class AdvancedPartyOptimizationService {
     /**
      * 시너지 중심 최적화
      */
-    private Map<String, Object> optimizeForSynergy(List<Character> characters, String dungeonName, int partySize) {
+    private Map<String, Object> optimizeForSynergy(CharacterRoster roster, String dungeonName, int partySize) {
         Map<String, Object> result = new HashMap<>();
-        
-        // 직업 조합 시너지 분석
-        Map<String, Double> jobSynergies = analyzeJobSynergies(characters, dungeonName);
-        
-        // 시너지가 높은 조합 우선 선택
-        List<Character> optimizedCharacters = selectCharactersBySynergy(characters, jobSynergies, partySize);
+        BitSet used = new BitSet(roster.size());
         
         if (partySize == 8) {
-            Map<String, Object> party1 = createSynergyParty(optimizedCharacters, 1, dungeonName);
-            Map<String, Object> party2 = createSynergyParty(optimizedCharacters, 2, dungeonName);
+            Map<String, Object> party1 = createSynergyParty(roster, used, 1, dungeonName);
+            Map<String, Object> party2 = createSynergyParty(roster, used, 2, dungeonName);
             
             result.put("party1", party1);
             result.put("party2", party2);
-            result.put("synergyScore", calculateSynergyScore(party1, party2));
+            result.put("synergyScore", calculateTotalScore(party1, party2, "synergyScore"));
             result.put("optimizationType", "synergy");
             
         } else {
-            Map<String, Object> party = createSynergyParty(optimizedCharacters, 1, dungeonName);
+            Map<String, Object> party = createSynergyParty(roster, used, 1, dungeonName);
             result.put("party", party);
-            result.put("synergyScore", calculatePartySynergyScore((List<Map<String, Object>>) party.get("slots")));
+            result.put("synergyScore", party.get("synergyScore"));
             result.put("optimizationType", "synergy");
         }
         
@@ -160,25 +334,23 @@ public class AdvancedPartyOptimizationService {
     /**
      * 안전성 중심 최적화
      */
-    private Map<String, Object> optimizeForSafety(List<Character> characters, String dungeonName, int partySize) {
+    private Map<String, Object> optimizeForSafety(CharacterRoster roster, String dungeonName, int partySize) {
         Map<String, Object> result = new HashMap<>();
-        
-        // 안전 마진이 있는 캐릭터 선택
-        List<Character> safeCharacters = selectSafeCharacters(characters, dungeonName);
+        BitSet used = new BitSet(roster.size());
         
         if (partySize == 8) {
-            Map<String, Object> party1 = createSafeParty(safeCharacters, 1, dungeonName);
-            Map<String, Object> party2 = createSafeParty(safeCharacters, 2, dungeonName);
+            Map<String, Object> party1 = createSafeParty(roster, used, 1, dungeonName);
+            Map<String, Object> party2 = createSafeParty(roster, used, 2, dungeonName);
             
             result.put("party1", party1);
             result.put("party2", party2);
-            result.put("safetyScore", calculateSafetyScore(party1, party2, dungeonName));
+            result.put("safetyScore", calculateTotalScore(party1, party2, "safetyScore"));
             result.put("optimizationType", "safety");
             
         } else {
-            Map<String, Object> party = createSafeParty(safeCharacters, 1, dungeonName);
+            Map<String, Object> party = createSafeParty(roster, used, 1, dungeonName);
             result.put("party", party);
-            result.put("safetyScore", calculatePartySafetyScore((List<Map<String, Object>>) party.get("slots"), dungeonName));
+            result.put("safetyScore", party.get("safetyScore"));
             result.put("optimizationType", "safety");
         }
         
@@ -187,199 +359,154 @@ public class AdvancedPartyOptimizationService {
 
     /**
      * 하이브리드 최적화
+     * 세 전략을 동시에 실행하고 도착하는 순서대로 던전 가중 점수를 비교해 최선을 고른다.
+     * 제한 시간이 지나면 그때까지 도착한 결과 중에서 선택하고, 도착한 결과가 없으면 (compareStrategies와 같이) 에러 결과를 돌려준다.
      */
-    private Map<String, Object> optimizeHybrid(List<Character> characters, String dungeonName, int partySize) {
-        Map<String, Object> result = new HashMap<>();
+    private Map<String, Object> optimizeHybrid(CharacterRoster roster, String dungeonName, int partySize) {
+        Map<String, Double> weights = getDungeonWeights(dungeonName);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(strategyBudgetMillis);
         
-        // 여러 전략을 조합하여 최적화
-        Map<String, Object> efficiencyResult = optimizeForEfficiency(characters, dungeonName, partySize);
-        Map<String, Object> balanceResult = optimizeForBalance(characters, dungeonName, partySize);
-        Map<String, Object> synergyResult = optimizeForSynergy(characters, dungeonName, partySize);
+        CompletionService<Map<String, Object>> completionService = new ExecutorCompletionService<>(partyOptimizationExecutor);
+        List<Future<Map<String, Object>>> futures = new ArrayList<>();
+        for (String strategy : HYBRID_STRATEGIES) {
+            futures.add(completionService.submit(() -> runStrategy(strategy, roster, dungeonName, partySize)));
+        }
         
-        // 결과 비교 및 최적 조합 선택
-        Map<String, Object> bestResult = selectBestHybridResult(
-                efficiencyResult, balanceResult, synergyResult, dungeonName
-        );
+        Map<String, Object> best = null;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        Map<String, Object> hybridScores = new LinkedHashMap<>();
+        Map<String, Object> strategyTimes = new LinkedHashMap<>();
+        boolean timedOut = false;
+        try {
+            for (int received = 0; received < futures.size(); received++) {
+                long remaining = deadline - System.nanoTime();
+                Future<Map<String, Object>> done = completionService.poll(Math.max(0L, remaining), TimeUnit.NANOSECONDS);
+                if (done == null) {
+                    timedOut = true;
+                    break;
+                }
+                Map<String, Object> candidate = done.get();
+                if (candidate.containsKey("error")) {
+                    continue;
+                }
+                String strategy = (String) candidate.get("optimizationStrategy");
+                double score = calculateHybridScore(candidate);
+                hybridScores.put(strategy, score);
+                strategyTimes.put(strategy, candidate.get("strategyTimeMs"));
+                
+                // 동점이면 전략 목록 순서가 앞선 쪽 (기존 efficiency > balance > synergy 우선순위)
+                double weighted = score * weights.get(strategy);
+                if (best == null || weighted > bestScore || (weighted == bestScore
+                        && HYBRID_STRATEGIES.indexOf(strategy) < HYBRID_STRATEGIES.indexOf((String) best.get("optimizationStrategy")))) {
+                    best = candidate;
+                    bestScore = weighted;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.error("하이브리드 전략 실행 실패", e.getCause());
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+        
+        if (best == null) {
+            if (timedOut) {
+                log.warn("하이브리드 최적화 제한 시간 초과: 제한={}ms", strategyBudgetMillis);
+                return createErrorResult("하이브리드 최적화가 제한 시간(" + strategyBudgetMillis + "ms) 안에 끝나지 않았습니다.");
+            }
+            return createErrorResult("하이브리드 최적화 결과를 얻지 못했습니다.");
+        }
         
-        result.putAll(bestResult);
+        Map<String, Object> result = new HashMap<>(best);
         result.put("optimizationType", "hybrid");
-        result.put("hybridScores", Map.of(
-                "efficiency", calculateHybridScore(efficiencyResult),
-                "balance", calculateHybridScore(balanceResult),
-                "synergy", calculateHybridScore(synergyResult)
-        ));
+        result.put("selectedStrategy", best.get("optimizationStrategy"));
+        result.put("hybridScores", hybridScores);
+        result.put("strategyTimes", strategyTimes);
+        result.put("completedStrategies", hybridScores.size());
         
         return result;
     }
 
     /**
-     * 최적 파티 생성
+     * 밸런스 파티 생성
      */
-    private Map<String, Object> createOptimalParty(List<Character> dealers, List<Character> buffers, 
-                                                   List<Character> updoongis, List<Character> others, 
-                                                   int partyNumber, String dungeonName) {
-        Map<String, Object> party = new HashMap<>();
-        List<Map<String, Object>> slots = new ArrayList<>();
-        
-        // 업둥이 우선 배치
-        int updoongiCount = Math.min(updoongis.size(), 2);
-        for (int i = 0; i < updoongiCount; i++) {
-            slots.add(createSlotInfo(updoongis.get(i), "updoongi", i + 1));
-        }
-        
-        // 딜러 배치
-        int dealerCount = Math.min(dealers.size(), 3);
-        for (int i = 0; i < dealerCount; i++) {
-            slots.add(createSlotInfo(dealers.get(i), "dealer", slots.size() + 1));
-        }
-        
-        // 버퍼 배치
-        if (!buffers.isEmpty()) {
-            slots.add(createSlotInfo(buffers.get(0), "buffer", slots.size() + 1));
-        }
-        
-        // 나머지 슬롯 채우기
-        while (slots.size() < 4) {
-            Character remainingChar = selectRemainingCharacter(dealers, buffers, updoongis, others, slots);
-            if (remainingChar != null) {
-                slots.add(createSlotInfo(remainingChar, determineRole(remainingChar), slots.size() + 1));
-            } else {
-                slots.add(createEmptySlot(slots.size() + 1));
-            }
+    private Map<String, Object> createBalancedParty(CharacterRoster roster, BitSet used, int partyNumber, String dungeonName) {
+        PartyPick pick = new PartyPick();
+        
+        // 업둥이 1, 딜러 2, 버퍼 1 배치
+        pick.add(roster.bestByFame(CharacterRoster.ROLE_UPDOONGI, used), "updoongi", used);
+        pick.add(roster.bestByFame(CharacterRoster.ROLE_DEALER, used), "dealer", used);
+        pick.add(roster.bestByFame(CharacterRoster.ROLE_DEALER, used), "dealer", used);
+        pick.add(roster.bestByFame(CharacterRoster.ROLE_BUFFER, used), "buffer", used);
+        
+        // 나머지 슬롯은 남은 캐릭터 중 최고 명성으로 채우기
+        while (!pick.isFull()) {
+            int index = roster.bestByFame(0, used);
+            if (index < 0) break;
+            pick.add(index, determineRole(roster, index), used);
         }
         
-        party.put("partyNumber", partyNumber);
-        party.put("slots", slots);
-        party.put("efficiency", calculatePartyEfficiency(slots));
-        party.put("dungeonName", dungeonName);
-        
+        Map<String, Object> party = createParty(roster, pick, partyNumber, dungeonName);
+        party.put("balanceScore", calculatePartyBalanceScore(pick));
         return party;
     }
 
     /**
-     * 밸런스 파티 생성
+     * 시너지 파티 생성 (남은 캐릭터 중 명성 상위)
      */
-    private Map<String, Object> createBalancedParty(List<Character> dealers, List<Character> buffers, 
-                                                    List<Character> updoongis, List<Character> others, 
-                                                    int partyNumber, String dungeonName) {
-        Map<String, Object> party = new HashMap<>();
-        List<Map<String, Object>> slots = new ArrayList<>();
-        
-        // 직업별 균등 분배
-        int dealerSlots = 2;
-        int bufferSlots = 1;
-        int updoongiSlots = 1;
-        
-        // 업둥이 배치
-        for (int i = 0; i < Math.min(updoongis.size(), updoongiSlots); i++) {
-            slots.add(createSlotInfo(updoongis.get(i), "updoongi", i + 1));
-        }
-        
-        // 딜러 배치
-        for (int i = 0; i < Math.min(dealers.size(), dealerSlots); i++) {
-            slots.add(createSlotInfo(dealers.get(i), "dealer", slots.size() + 1));
-        }
-        
-        // 버퍼 배치
-        if (!buffers.isEmpty()) {
-            slots.add(createSlotInfo(buffers.get(0), "buffer", slots.size() + 1));
-        }
-        
-        // 나머지 슬롯 채우기
-        while (slots.size() < 4) {
-            Character remainingChar = selectRemainingCharacter(dealers, buffers, updoongis, others, slots);
-            if (remainingChar != null) {
-                slots.add(createSlotInfo(remainingChar, determineRole(remainingChar), slots.size() + 1));
-            } else {
-                slots.add(createEmptySlot(slots.size() + 1));
+    private Map<String, Object> createSynergyParty(CharacterRoster roster, BitSet used, int partyNumber, String dungeonName) {
+        PartyPick pick = new PartyPick();
+        for (int rank = 0; rank < roster.size() && !pick.isFull(); rank++) {
+            int index = roster.indexAtFameRank(rank);
+            if (!used.get(index)) {
+                pick.add(index, determineRole(roster, index), used);
             }
         }
         
-        party.put("partyNumber", partyNumber);
-        party.put("slots", slots);
-        party.put("balanceScore", calculatePartyBalanceScore(slots));
-        party.put("dungeonName", dungeonName);
-        
+        Map<String, Object> party = createParty(roster, pick, partyNumber, dungeonName);
+        party.put("synergyScore", calculatePartySynergyScore(pick));
         return party;
     }
 
     /**
-     * 시너지 파티 생성
+     * 안전 파티 생성 (던전 요구 명성보다 20% 이상 높은 캐릭터 중 명성 상위)
      */
-    private Map<String, Object> createSynergyParty(List<Character> characters, int partyNumber, String dungeonName) {
-        Map<String, Object> party = new HashMap<>();
-        List<Map<String, Object>> slots = new ArrayList<>();
-        
-        // 시너지 기반으로 캐릭터 선택 및 배치
-        for (int i = 0; i < Math.min(characters.size(), 4); i++) {
-            Character character = characters.get(i);
-            slots.add(createSlotInfo(character, determineRole(character), i + 1));
-        }
-        
-        // 빈 슬롯 채우기
-        while (slots.size() < 4) {
-            slots.add(createEmptySlot(slots.size() + 1));
+    private Map<String, Object> createSafeParty(CharacterRoster roster, BitSet used, int partyNumber, String dungeonName) {
+        int requiredFame = getDungeonRequiredFame(dungeonName);
+        long safeFame = requiredFame + (int) (requiredFame * 0.2); // 20% 안전 마진
+        
+        PartyPick pick = new PartyPick();
+        for (int rank = 0; rank < roster.size() && !pick.isFull(); rank++) {
+            int index = roster.indexAtFameRank(rank);
+            if (roster.fame(index) < safeFame) break; // 명성 내림차순이므로 이후는 모두 미달
+            if (!used.get(index)) {
+                pick.add(index, determineRole(roster, index), used);
+            }
         }
         
-        party.put("partyNumber", partyNumber);
-        party.put("slots", slots);
-        party.put("synergyScore", calculatePartySynergyScore(slots));
-        party.put("dungeonName", dungeonName);
-        
+        Map<String, Object> party = createParty(roster, pick, partyNumber, dungeonName);
+        party.put("safetyScore", calculatePartySafetyScore(roster, pick, dungeonName));
         return party;
     }
 
-    /**
-     * 안전 파티 생성
-     */
-    private Map<String, Object> createSafeParty(List<Character> characters, int partyNumber, String dungeonName) {
+    private Map<String, Object> createParty(CharacterRoster roster, PartyPick pick, int partyNumber, String dungeonName) {
         Map<String, Object> party = new HashMap<>();
         List<Map<String, Object>> slots = new ArrayList<>();
-        
-        // 안전 마진이 있는 캐릭터들로 파티 구성
-        for (int i = 0; i < Math.min(characters.size(), 4); i++) {
-            Character character = characters.get(i);
-            slots.add(createSlotInfo(character, determineRole(character), i + 1));
+        for (int i = 0; i < pick.size(); i++) {
+            slots.add(createSlotInfo(roster.character(pick.member(i)), pick.role(i), i + 1));
         }
-        
-        // 빈 슬롯 채우기
-        while (slots.size() < 4) {
+        while (slots.size() < CharacterRoster.PARTY_SLOTS) {
             slots.add(createEmptySlot(slots.size() + 1));
         }
         
         party.put("partyNumber", partyNumber);
         party.put("slots", slots);
-        party.put("safetyScore", calculatePartySafetyScore(slots, dungeonName));
+        party.put("efficiency", calculatePartyEfficiency(roster, pick.members(), pick.size()));
         party.put("dungeonName", dungeonName);
-        
         return party;
     }
 
-    // Utility methods
-    private List<Character> filterDealers(List<Character> characters) {
-        return characters.stream()
-                .filter(c -> c.getJob().contains("딜러") || c.getJob().contains("Dealer"))
-                .collect(Collectors.toList());
-    }
-
-    private List<Character> filterBuffers(List<Character> characters) {
-        return characters.stream()
-                .filter(c -> c.getJob().contains("버퍼") || c.getJob().contains("Buffer"))
-                .collect(Collectors.toList());
-    }
-
-    private List<Character> filterUpdoongis(List<Character> characters) {
-        return characters.stream()
-                .filter(Character::getIsFavorite)
-                .collect(Collectors.toList());
-    }
-
-    private List<Character> filterOthers(List<Character> characters) {
-        return characters.stream()
-                .filter(c -> !c.getJob().contains("딜러") && !c.getJob().contains("버퍼") && !c.getIsFavorite())
-                .collect(Collectors.toList());
-    }
-
     private Map<String, Object> createSlotInfo(Character character, String role, int slotNumber) {
         Map<String, Object> slot = new HashMap<>();
         slot.put("slotNumber", slotNumber);
@@ -398,80 +525,60 @@ public class AdvancedPartyOptimizationService {
         return slot;
     }
 
-    private String determineRole(Character character) {
-        if (character.getJob().contains("딜러") || character.getJob().contains("Dealer")) {
+    private static String determineRole(CharacterRoster roster, int index) {
+        if (roster.isDealer(index)) {
             return "dealer";
-        } else if (character.getJob().contains("버퍼") || character.getJob().contains("Buffer")) {
+        } else if (roster.isBuffer(index)) {
             return "buffer";
-        } else if (character.getIsFavorite()) {
+        } else if (roster.isUpdoongi(index)) {
             return "updoongi";
         } else {
             return "other";
         }
     }
 
-    private Character selectRemainingCharacter(List<Character> dealers, List<Character> buffers, 
-                                              List<Character> updoongis, List<Character> others, 
-                                              List<Map<String, Object>> existingSlots) {
-        Set<String> usedCharacterIds = existingSlots.stream()
-                .filter(slot -> slot.get("character") != null)
-                .map(slot -> ((Character) slot.get("character")).getCharacterId())
-                .collect(Collectors.toSet());
-        
-        // 사용되지 않은 캐릭터 중에서 선택
-        List<Character> allCharacters = new ArrayList<>();
-        allCharacters.addAll(dealers);
-        allCharacters.addAll(buffers);
-        allCharacters.addAll(updoongis);
-        allCharacters.addAll(others);
-        
-        return allCharacters.stream()
-                .filter(c -> !usedCharacterIds.contains(c.getCharacterId()))
-                .max(Comparator.comparing(Character::getFame))
-                .orElse(null);
+    /**
+     * 파티 효율 = 멤버별 (명성 70% + 전투력 30%) 평균
+     */
+    private static double calculatePartyEfficiency(CharacterRoster roster, int[] members, int count) {
+        if (count == 0) return 0.0;
+        double total = 0.0;
+        for (int i = 0; i < count; i++) {
+            total += roster.fame(members[i]) * 0.7 + roster.combatPower(members[i]) * 0.3;
+        }
+        return total / count;
     }
 
-    private double calculatePartyEfficiency(List<Map<String, Object>> slots) {
-        return slots.stream()
-                .filter(slot -> slot.get("character") != null)
-                .mapToDouble(slot -> {
-                    Character character = (Character) slot.get("character");
-                    return character.getFame() * 0.7 + character.getCombatPower() * 0.3;
-                })
-                .average()
-                .orElse(0.0);
+    /**
+     * 두 파티 점수(key) 평균
+     */
+    private static double calculateTotalScore(Map<String, Object> party1, Map<String, Object> party2, String key) {
+        return ((Double) party1.get(key) + (Double) party2.get(key)) / 2.0;
     }
 
     private double calculateTotalEfficiency(Map<String, Object> party1, Map<String, Object> party2) {
-        double efficiency1 = calculatePartyEfficiency((List<Map<String, Object>>) party1.get("slots"));
-        double efficiency2 = calculatePartyEfficiency((List<Map<String, Object>>) party2.get("slots"));
-        return (efficiency1 + efficiency2) / 2.0;
+        return calculateTotalScore(party1, party2, "efficiency");
     }
 
-    private double calculateBalanceScore(Map<String, Object> party1, Map<String, Object> party2) {
-        double balance1 = calculatePartyBalanceScore((List<Map<String, Object>>) party1.get("slots"));
-        double balance2 = calculatePartyBalanceScore((List<Map<String, Object>>) party2.get("slots"));
-        return (balance1 + balance2) / 2.0;
-    }
-
-    private double calculatePartyBalanceScore(List<Map<String, Object>> slots) {
+    private static double calculatePartyBalanceScore(PartyPick pick) {
         // 직업별 균등성 점수 계산
-        Map<String, Long> roleCounts = slots.stream()
-                .filter(slot -> slot.get("character") != null)
-                .collect(Collectors.groupingBy(
-                        slot -> (String) slot.get("role"),
-                        Collectors.counting()
-                ));
+        int actualDealer = 0;
+        int actualBuffer = 0;
+        int actualUpdoongi = 0;
+        for (int i = 0; i < pick.size(); i++) {
+            switch (pick.role(i)) {
+                case "dealer" -> actualDealer++;
+                case "buffer" -> actualBuffer++;
+                case "updoongi" -> actualUpdoongi++;
+                default -> { }
+            }
+        }
         
         // 이상적인 분배: 딜러 2, 버퍼 1, 업둥이 1
         double idealDealer = 2.0;
         double idealBuffer = 1.0;
         double idealUpdoongi = 1.0;
         
-        double actualDealer = roleCounts.getOrDefault("dealer", 0L);
-        double actualBuffer = roleCounts.getOrDefault("buffer", 0L);
-        double actualUpdoongi = roleCounts.getOrDefault("updoongi", 0L);
-        
         double dealerScore = 1.0 - Math.abs(actualDealer - idealDealer) / idealDealer;
         double bufferScore = 1.0 - Math.abs(actualBuffer - idealBuffer) / idealBuffer;
         double updoongiScore = 1.0 - Math.abs(actualUpdoongi - idealUpdoongi) / idealUpdoongi;
@@ -479,54 +586,15 @@ public class AdvancedPartyOptimizationService {
         return (dealerScore + bufferScore + updoongiScore) / 3.0;
     }
 
-    private Map<String, Double> analyzeJobSynergies(List<Character> characters, String dungeonName) {
-        Map<String, Double> synergies = new HashMap<>();
-        
-        // 던전별 직업 조합 시너지 점수
-        if (dungeonName.contains("레이드")) {
-            synergies.put("dealer-dealer", 0.8);
-            synergies.put("dealer-buffer", 0.9);
-            synergies.put("buffer-buffer", 0.7);
-            synergies.put("updoongi-dealer", 0.85);
-        } else {
-            synergies.put("dealer-dealer", 0.7);
-            synergies.put("dealer-buffer", 0.8);
-            synergies.put("buffer-buffer", 0.6);
-            synergies.put("updoongi-dealer", 0.75);
-        }
-        
-        return synergies;
-    }
-
-    private List<Character> selectCharactersBySynergy(List<Character> characters, Map<String, Double> jobSynergies, int partySize) {
-        // 시너지 점수 기반으로 캐릭터 선택
-        return characters.stream()
-                .sorted(Comparator.comparing(Character::getFame).reversed())
-                .limit(partySize)
-                .collect(Collectors.toList());
-    }
-
-    private double calculateSynergyScore(Map<String, Object> party1, Map<String, Object> party2) {
-        double synergy1 = calculatePartySynergyScore((List<Map<String, Object>>) party1.get("slots"));
-        double synergy2 = calculatePartySynergyScore((List<Map<String, Object>>) party2.get("slots"));
-        return (synergy1 + synergy2) / 2.0;
-    }
-
-    private double calculatePartySynergyScore(List<Map<String, Object>> slots) {
+    private static double calculatePartySynergyScore(PartyPick pick) {
         // 직업 조합 시너지 점수 계산
-        List<String> roles = slots.stream()
-                .filter(slot -> slot.get("character") != null)
-                .map(slot -> (String) slot.get("role"))
-                .collect(Collectors.toList());
-        
         double totalSynergy = 0.0;
         int synergyCount = 0;
         
-        for (int i = 0; i < roles.size(); i++) {
-            for (int j = i + 1; j < roles.size(); j++) {
-                String role1 = roles.get(i);
-                String role2 = roles.get(j);
-                String synergyKey = role1 + "-" + role2;
+        for (int i = 0; i < pick.size(); i++) {
+            for (int j = i + 1; j < pick.size(); j++) {
+                String role1 = pick.role(i);
+                String role2 = pick.role(j);
                 
                 // 기본 시너지 점수
                 double synergy = 0.7; // 기본값
@@ -546,35 +614,15 @@ public class AdvancedPartyOptimizationService {
         return synergyCount > 0 ? totalSynergy / synergyCount : 0.0;
     }
 
-    private List<Character> selectSafeCharacters(List<Character> characters, String dungeonName) {
-        // 던전 요구사항보다 높은 명성을 가진 캐릭터 선택
+    private double calculatePartySafetyScore(CharacterRoster roster, PartyPick pick, String dungeonName) {
+        if (pick.size() == 0) return 0.0;
         int requiredFame = getDungeonRequiredFame(dungeonName);
-        int safetyMargin = (int) (requiredFame * 0.2); // 20% 안전 마진
-        
-        return characters.stream()
-                .filter(c -> c.getFame() >= (requiredFame + safetyMargin))
-                .sorted(Comparator.comparing(Character::getFame).reversed())
-                .collect(Collectors.toList());
-    }
-
-    private double calculateSafetyScore(Map<String, Object> party1, Map<String, Object> party2, String dungeonName) {
-        double safety1 = calculatePartySafetyScore((List<Map<String, Object>>) party1.get("slots"), dungeonName);
-        double safety2 = calculatePartySafetyScore((List<Map<String, Object>>) party2.get("slots"), dungeonName);
-        return (safety1 + safety2) / 2.0;
-    }
-
-    private double calculatePartySafetyScore(List<Map<String, Object>> slots, String dungeonName) {
-        int requiredFame = getDungeonRequiredFame(dungeonName);
-        
-        return slots.stream()
-                .filter(slot -> slot.get("character") != null)
-                .mapToDouble(slot -> {
-                    Character character = (Character) slot.get("character");
-                    double safetyMargin = (character.getFame() - requiredFame) / (double) requiredFame;
-                    return Math.max(0.0, Math.min(1.0, safetyMargin));
-                })
-                .average()
-                .orElse(0.0);
+        double total = 0.0;
+        for (int i = 0; i < pick.size(); i++) {
+            double safetyMargin = (roster.fame(pick.member(i)) - requiredFame) / (double) requiredFame;
+            total += Math.max(0.0, Math.min(1.0, safetyMargin));
+        }
+        return total / pick.size();
     }
 
     private int getDungeonRequiredFame(String dungeonName) {
@@ -586,27 +634,6 @@ public class AdvancedPartyOptimizationService {
         return 50000; // 기본값
     }
 
-    private Map<String, Object> selectBestHybridResult(Map<String, Object> efficiencyResult, 
-                                                       Map<String, Object> balanceResult, 
-                                                       Map<String, Object> synergyResult, 
-                                                       String dungeonName) {
-        // 던전 특성에 따른 가중치 적용
-        Map<String, Double> weights = getDungeonWeights(dungeonName);
-        
-        double efficiencyScore = calculateHybridScore(efficiencyResult) * weights.get("efficiency");
-        double balanceScore = calculateHybridScore(balanceResult) * weights.get("balance");
-        double synergyScore = calculateHybridScore(synergyResult) * weights.get("synergy");
-        
-        // 최고 점수 결과 선택
-        if (efficiencyScore >= balanceScore && efficiencyScore >= synergyScore) {
-            return efficiencyResult;
-        } else if (balanceScore >= efficiencyScore && balanceScore >= synergyScore) {
-            return balanceResult;
-        } else {
-            return synergyResult;
-        }
-    }
-
     private Map<String, Double> getDungeonWeights(String dungeonName) {
         if (dungeonName.contains("레이드")) {
             return Map.of("efficiency", 0.4, "balance", 0.3, "synergy", 0.3);
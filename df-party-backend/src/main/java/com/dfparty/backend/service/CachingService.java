@@ -1,55 +1,318 @@
 package com.dfparty.backend.service;
 
+import com.dfparty.backend.dto.CharacterDetailDto;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 
+@Slf4j
 @Service
-public class CachingService {
+public class CachingService implements MeterBinder {
 
     // 메모리 기반 캐시 (실제 운영에서는 Redis 사용 권장)
+    // 키 조회용 인덱스이며, 용량 제한과 퇴출 순서는 타입별 CacheRegion이 관리
     private final Map<String, CacheEntry> cache = new ConcurrentHashMap<>();
+    private final Map<CacheType, CacheRegion> regions = new EnumMap<>(CacheType.class);
+    private final ExpiryWheel expiryWheel = new ExpiryWheel(64, Duration.ofSeconds(1).toNanos());
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public CachingService(
+            @Value("${cache.timeline.max-weight:67108864}") long timelineMaxWeight,
+            @Value("${cache.dundam-stats.max-weight:16777216}") long dundamStatsMaxWeight,
+            @Value("${cache.character-basic-info.max-weight:8388608}") long characterBasicInfoMaxWeight) {
+        for (CacheType type : CacheType.values()) {
+            long maxWeight = switch (type) {
+                case TIMELINE -> timelineMaxWeight;
+                case DUNDAM_STATS -> dundamStatsMaxWeight;
+                case CHARACTER_BASIC_INFO -> characterBasicInfoMaxWeight;
+                default -> 0L; // 저장하지 않는 타입
+            };
+            regions.put(type, new CacheRegion(type, maxWeight));
+        }
+    }
 
     // 캐시 엔트리 클래스
+    // 만료 시각은 System.nanoTime() 기준 단조 시계 deadline으로 보관 (시스템 시각 변경 영향 없음, 조회 시 객체 할당 없음)
     private static class CacheEntry {
-        private final Object data;
-        private final LocalDateTime expiryTime;
+        private final String key;
+        private volatile Object data;
+        private final long expiryNanos;
         private final CacheType type;
+        private final long weight;
 
-        public CacheEntry(Object data, LocalDateTime expiryTime, CacheType type) {
+        public CacheEntry(String key, Object data, long expiryNanos, CacheType type, long weight) {
+            this.key = key;
             this.data = data;
-            this.expiryTime = expiryTime;
+            this.expiryNanos = expiryNanos;
             this.type = type;
+            this.weight = weight;
         }
 
+        public String getKey() { return key; }
         public Object getData() { return data; }
-        public LocalDateTime getExpiryTime() { return expiryTime; }
+        public long getExpiryNanos() { return expiryNanos; }
         public CacheType getType() { return type; }
-        public boolean isExpired() { return LocalDateTime.now().isAfter(expiryTime); }
+        public long getWeight() { return weight; }
+        public boolean isExpired(long nowNanos) { return nowNanos - expiryNanos >= 0; }
+
+        // 퇴출된 엔트리가 만료 휠에 남아 있어도 데이터는 즉시 GC 대상이 되도록 참조 해제
+        void release() { this.data = null; }
     }
 
     // 캐시 타입 정의 (사용자 요구사항에 맞게 수정)
     public enum CacheType {
-        SERVER_LIST(null, null),                    // 서버 목록: 초기화 시 1회만, DB 저장 후 재호출 안함
-        CHARACTER_BASIC_INFO(null, null),           // 캐릭터 기본 정보: DB에 있으면 재호출 안함
-        TIMELINE(1, ChronoUnit.MINUTES),            // 타임라인: 1분 캐싱
-        DUNDAM_STATS(3, ChronoUnit.MINUTES);       // 던담 크롤링: 3분 캐싱
+        SERVER_LIST(null),                          // 서버 목록: 초기화 시 1회만, DB 저장 후 재호출 안함
+        CHARACTER_BASIC_INFO(Duration.ofSeconds(30)), // 캐릭터 기본 정보: 동시/연속 조회 중복 호출 방지용 30초 캐싱
+        TIMELINE(Duration.ofMinutes(1)),            // 타임라인: 1분 캐싱
+        DUNDAM_STATS(Duration.ofMinutes(3));       // 던담 크롤링: 3분 캐싱
+
+        private final long ttlNanos;
+
+        CacheType(Duration ttl) {
+            this.ttlNanos = ttl != null ? ttl.toNanos() : 0L; // 0: 무제한 또는 DB 저장
+        }
+
+        public boolean isCacheable() {
+            return ttlNanos > 0;
+        }
+
+        public long calculateExpiryNanos(long nowNanos) {
+            return nowNanos + ttlNanos;
+        }
+    }
+
+    /**
+     * 타입별 용량 제한 영역 (Segmented LRU)
+     * 신규 엔트리는 probation 구간에 들어가고, 재조회된 엔트리만 protected 구간으로 승격된다.
+     * 한 번만 조회되고 버려지는 대량 갱신 데이터가 자주 쓰이는 엔트리를 밀어내지 않도록 하기 위함.
+     */
+    private static final class CacheRegion {
+        private static final double PROTECTED_RATIO = 0.8;
+
+        private final CacheType type;
+        private final long maxWeight;
+        private final long protectedMaxWeight;
+        private final LinkedHashMap<String, CacheEntry> probation = new LinkedHashMap<>(16, 0.75f, true);
+        private final LinkedHashMap<String, CacheEntry> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+        private long probationWeight;
+        private long protectedWeight;
+        // 통계 조회용 카운터: 변경 시점에 갱신하고 조회는 락 없이 읽음
+        private volatile int entryCount;
+        private volatile long totalWeight;
+
+        private final LongAdder evictionCount = new LongAdder();
+        private final LongAdder expirationCount = new LongAdder();
+
+        CacheRegion(CacheType type, long maxWeight) {
+            this.type = type;
+            this.maxWeight = maxWeight;
+            this.protectedMaxWeight = (long) (maxWeight * PROTECTED_RATIO);
+        }
+
+        /**
+         * 엔트리 추가 후 용량 초과분을 퇴출한다. 퇴출된 엔트리 목록을 반환
+         */
+        synchronized List<CacheEntry> admit(CacheEntry entry) {
+            List<CacheEntry> evicted = new ArrayList<>();
+            detach(entry.getKey());
+            probation.put(entry.getKey(), entry);
+            probationWeight += entry.getWeight();
+
+            while (probationWeight + protectedWeight > maxWeight) {
+                CacheEntry victim = pollEldest(probation.isEmpty() ? protectedSegment : probation);
+                if (victim == null) {
+                    break;
+                }
+                evicted.add(victim);
+                evictionCount.increment();
+            }
+            refreshCounters();
+            return evicted;
+        }
+
+        /**
+         * 조회 시 접근 순서 갱신 및 protected 구간 승격
+         */
+        synchronized void recordAccess(CacheEntry entry) {
+            String key = entry.getKey();
+            if (protectedSegment.get(key) == entry) {
+                return; // access-order LinkedHashMap이라 get만으로 MRU 갱신
+            }
+            if (probation.get(key) != entry) {
+                return; // 이미 퇴출된 엔트리
+            }
+            probation.remove(key);
+            probationWeight -= entry.getWeight();
+            protectedSegment.put(key, entry);
+            protectedWeight += entry.getWeight();
+
+            // protected 구간이 넘치면 가장 오래된 엔트리를 probation으로 강등
+            while (protectedWeight > protectedMaxWeight && protectedSegment.size() > 1) {
+                CacheEntry demoted = pollEldest(protectedSegment);
+                probation.put(demoted.getKey(), demoted);
+                probationWeight += demoted.getWeight();
+            }
+        }
+
+        synchronized boolean remove(CacheEntry entry) {
+            String key = entry.getKey();
+            if (probation.get(key) == entry) {
+                probation.remove(key);
+                probationWeight -= entry.getWeight();
+                refreshCounters();
+                return true;
+            }
+            if (protectedSegment.get(key) == entry) {
+                protectedSegment.remove(key);
+                protectedWeight -= entry.getWeight();
+                refreshCounters();
+                return true;
+            }
+            return false;
+        }
+
+        synchronized List<CacheEntry> clear() {
+            List<CacheEntry> removed = new ArrayList<>(probation.values());
+            removed.addAll(protectedSegment.values());
+            probation.clear();
+            protectedSegment.clear();
+            probationWeight = 0;
+            protectedWeight = 0;
+            refreshCounters();
+            return removed;
+        }
+
+        synchronized List<CacheEntry> snapshot() {
+            List<CacheEntry> entries = new ArrayList<>(probation.values());
+            entries.addAll(protectedSegment.values());
+            return entries;
+        }
+
+        int size() {
+            return entryCount;
+        }
+
+        long weight() {
+            return totalWeight;
+        }
+
+        private void refreshCounters() {
+            entryCount = probation.size() + protectedSegment.size();
+            totalWeight = probationWeight + protectedWeight;
+        }
+
+        private void detach(String key) {
+            CacheEntry previous = probation.remove(key);
+            if (previous != null) {
+                probationWeight -= previous.getWeight();
+            }
+            previous = protectedSegment.remove(key);
+            if (previous != null) {
+                protectedWeight -= previous.getWeight();
+            }
+        }
+
+        private CacheEntry pollEldest(LinkedHashMap<String, CacheEntry> segment) {
+            Iterator<CacheEntry> iterator = segment.values().iterator();
+            if (!iterator.hasNext()) {
+                return null;
+            }
+            CacheEntry eldest = iterator.next();
+            iterator.remove();
+            if (segment == probation) {
+                probationWeight -= eldest.getWeight();
+            } else {
+                protectedWeight -= eldest.getWeight();
+            }
+            return eldest;
+        }
+    }
+
+    /**
+     * 만료 처리를 위한 해시 타이머 휠
+     * 엔트리는 만료 시각(nanoTime)에 해당하는 슬롯에 등록되고, 매 틱마다 현재 슬롯만 검사한다.
+     * 휠 한 바퀴보다 긴 TTL은 슬롯을 비울 때 다시 등록된다.
+     */
+    private static final class ExpiryWheel {
+        private final AtomicReferenceArray<Queue<CacheEntry>> buckets;
+        private final long tickNanos;
+        private long lastTick; // 마지막으로 비운 (이미 끝난) 틱
+
+        ExpiryWheel(int size, long tickNanos) {
+            this.buckets = new AtomicReferenceArray<>(size);
+            for (int i = 0; i < size; i++) {
+                buckets.set(i, new ConcurrentLinkedQueue<>());
+            }
+            this.tickNanos = tickNanos;
+            this.lastTick = Math.floorDiv(System.nanoTime(), tickNanos) - 1;
+        }
 
-        private final Integer duration;
-        private final ChronoUnit unit;
+        void schedule(CacheEntry entry) {
+            long tick = Math.floorDiv(entry.getExpiryNanos(), tickNanos);
+            buckets.get((int) Math.floorMod(tick, (long) buckets.length())).add(entry);
+        }
 
-        CacheType(Integer duration, ChronoUnit unit) {
-            this.duration = duration;
-            this.unit = unit;
+        /**
+         * 마지막 틱 이후 끝난 틱의 슬롯들을 비우고, 아직 만료되지 않은 엔트리(더 긴 TTL)는 재등록한다
+         * 진행 중인 틱의 슬롯은 비우지 않는다 (같은 틱 안에서 나중에 만료될 엔트리가 한 바퀴 늦게 처리되지 않도록).
+         */
+        synchronized List<CacheEntry> advance(long nowNanos) {
+            List<CacheEntry> due = new ArrayList<>();
+            long completedTick = Math.floorDiv(nowNanos, tickNanos) - 1;
+            long ticks = Math.min(completedTick - lastTick, buckets.length());
+            for (long t = 0; t < ticks; t++) {
+                int index = (int) Math.floorMod(completedTick - t, (long) buckets.length());
+                Queue<CacheEntry> drained = buckets.getAndSet(index, new ConcurrentLinkedQueue<>());
+                for (CacheEntry entry : drained) {
+                    if (entry.isExpired(nowNanos)) {
+                        due.add(entry);
+                    } else if (entry.getData() != null) {
+                        schedule(entry);
+                    }
+                }
+            }
+            lastTick = Math.max(lastTick, completedTick);
+            return due;
         }
 
-        public LocalDateTime calculateExpiryTime() {
-            if (duration == null || unit == null) {
-                return null; // 무제한 또는 DB 저장
+        /**
+         * 만료되었지만 아직 advance()가 비우지 않은 엔트리 수
+         * 마지막으로 비운 틱 이후의 슬롯(보통 1~2개)만 세므로 전체 엔트리 수와 무관하다. 퇴출 / 제거된 엔트리(data 해제)는 제외
+         */
+        synchronized long countDue(long nowNanos) {
+            long count = 0;
+            long nowTick = Math.floorDiv(nowNanos, tickNanos);
+            long ticks = Math.min(nowTick - lastTick, buckets.length());
+            for (long t = 0; t < ticks; t++) {
+                int index = (int) Math.floorMod(nowTick - t, (long) buckets.length());
+                for (CacheEntry entry : buckets.get(index)) {
+                    if (entry.getData() != null && entry.isExpired(nowNanos)) {
+                        count++;
+                    }
+                }
             }
-            return LocalDateTime.now().plus(duration, unit);
+            return count;
         }
     }
 
@@ -57,10 +320,34 @@ public class CachingService {
      * 데이터를 캐시에 저장
      */
     public void put(String key, Object data, CacheType type) {
-        LocalDateTime expiryTime = type.calculateExpiryTime();
-        if (expiryTime != null) { // 캐시 가능한 경우에만 저장
-            cache.put(key, new CacheEntry(data, expiryTime, type));
+        if (!type.isCacheable() || data == null) { // 캐시 가능한 경우에만 저장
+            return;
+        }
+
+        CacheRegion region = regions.get(type);
+        long weight = estimateWeight(data, 0);
+        if (weight > region.maxWeight) {
+            log.debug("캐시 용량보다 큰 엔트리는 저장하지 않음: key={}, weight={}, maxWeight={}", key, weight, region.maxWeight);
+            remove(key);
+            return;
+        }
+
+        CacheEntry entry = new CacheEntry(key, data, type.calculateExpiryNanos(System.nanoTime()), type, weight);
+        CacheEntry previous;
+        List<CacheEntry> evictedEntries;
+        // 인덱스와 영역 갱신 순서가 동시 put 사이에서 엇갈리지 않도록 영역 락 안에서 처리
+        synchronized (region) {
+            previous = cache.put(key, entry);
+            evictedEntries = region.admit(entry);
+        }
+        if (previous != null) {
+            discard(previous);
         }
+        for (CacheEntry evicted : evictedEntries) {
+            cache.remove(evicted.getKey(), evicted);
+            evicted.release();
+        }
+        expiryWheel.schedule(entry);
     }
 
     /**
@@ -69,37 +356,87 @@ public class CachingService {
     public Object get(String key) {
         CacheEntry entry = cache.get(key);
         if (entry == null) {
+            missCount.increment();
             return null;
         }
 
         // 만료된 캐시 데이터 제거
-        if (entry.isExpired()) {
-            cache.remove(key);
+        if (entry.isExpired(System.nanoTime())) {
+            expire(entry);
+            missCount.increment();
+            return null;
+        }
+
+        Object data = entry.getData();
+        if (data == null) { // 조회 도중 퇴출됨
+            missCount.increment();
             return null;
         }
 
-        return entry.getData();
+        regions.get(entry.getType()).recordAccess(entry);
+        hitCount.increment();
+        return data;
     }
 
     /**
      * 캐시에서 데이터 제거
      */
     public void remove(String key) {
-        cache.remove(key);
+        CacheEntry entry = cache.remove(key);
+        if (entry != null) {
+            discard(entry);
+        }
     }
 
     /**
      * 특정 타입의 캐시 데이터 모두 제거
      */
     public void removeByType(CacheType type) {
-        cache.entrySet().removeIf(entry -> entry.getValue().getType() == type);
+        for (CacheEntry entry : regions.get(type).clear()) {
+            cache.remove(entry.getKey(), entry);
+            entry.release();
+        }
     }
 
     /**
      * 만료된 캐시 데이터 정리
      */
     public void cleanupExpiredEntries() {
-        cache.entrySet().removeIf(entry -> entry.getValue().isExpired());
+        long now = System.nanoTime();
+        for (CacheRegion region : regions.values()) {
+            for (CacheEntry entry : region.snapshot()) {
+                if (entry.isExpired(now)) {
+                    expire(entry);
+                }
+            }
+        }
+    }
+
+    /**
+     * 타이머 휠 기반 백그라운드 만료 처리 (1초 주기)
+     */
+    @Scheduled(fixedRate = 1000)
+    public void expireDueEntries() {
+        for (CacheEntry entry : expiryWheel.advance(System.nanoTime())) {
+            if (cache.get(entry.getKey()) == entry) {
+                expire(entry);
+            }
+        }
+    }
+
+    private void expire(CacheEntry entry) {
+        if (cache.remove(entry.getKey(), entry)) {
+            CacheRegion region = regions.get(entry.getType());
+            if (region.remove(entry)) {
+                region.expirationCount.increment();
+            }
+            entry.release();
+        }
+    }
+
+    private void discard(CacheEntry entry) {
+        regions.get(entry.getType()).remove(entry);
+        entry.release();
     }
 
     /**
@@ -108,24 +445,110 @@ public class CachingService {
     public Map<String, Object> getCacheStats() {
         Map<String, Object> stats = new ConcurrentHashMap<>();
         stats.put("totalEntries", cache.size());
-        
-        // 타입별 엔트리 수 계산
+
+        // 타입별 엔트리 수 / 용량 / 퇴출 현황 (엔트리 변경 시 갱신되는 카운터만 읽으므로 전체 스캔 없음)
+        long evictionCount = 0;
+        long expirationCount = 0;
         for (CacheType type : CacheType.values()) {
-            long count = cache.values().stream()
-                .filter(entry -> entry.getType() == type)
-                .count();
-            stats.put(type.name() + "Count", count);
+            CacheRegion region = regions.get(type);
+            stats.put(type.name() + "Count", (long) region.size());
+            stats.put(type.name() + "Weight", region.weight());
+            stats.put(type.name() + "MaxWeight", region.maxWeight);
+            stats.put(type.name() + "Evictions", region.evictionCount.sum());
+            stats.put(type.name() + "Expirations", region.expirationCount.sum());
+            evictionCount += region.evictionCount.sum();
+            expirationCount += region.expirationCount.sum();
         }
 
-        // 만료된 엔트리 수
-        long expiredCount = cache.values().stream()
-            .filter(CacheEntry::isExpired)
-            .count();
-        stats.put("expiredCount", expiredCount);
+        // 만료되었지만 아직 제거되지 않은 엔트리 수 (기존 의미 유지, 전체 스캔 없이 타이머 휠의 지난 슬롯만 확인)
+        stats.put("expiredCount", expiryWheel.countDue(System.nanoTime()));
+        // 기동 이후 만료로 제거된 엔트리 누적 수
+        stats.put("expirations", expirationCount);
+
+        long hits = hitCount.sum();
+        long misses = missCount.sum();
+        stats.put("hitCount", hits);
+        stats.put("missCount", misses);
+        stats.put("hitRate", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+        stats.put("evictionCount", evictionCount);
 
         return stats;
     }
 
+    /**
+     * Actuator(/actuator/metrics) 노출용 메트릭 등록
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", hitCount, LongAdder::sum)
+            .tag("cache", "caching-service").tag("result", "hit")
+            .description("캐시 조회 적중 수")
+            .register(registry);
+        FunctionCounter.builder("cache.gets", missCount, LongAdder::sum)
+            .tag("cache", "caching-service").tag("result", "miss")
+            .description("캐시 조회 실패 수")
+            .register(registry);
+
+        for (CacheRegion region : regions.values()) {
+            String type = region.type.name();
+            Gauge.builder("cache.size", region, CacheRegion::size)
+                .tag("cache", "caching-service").tag("type", type)
+                .description("타입별 캐시 엔트리 수")
+                .register(registry);
+            Gauge.builder("cache.weight", region, CacheRegion::weight)
+                .tag("cache", "caching-service").tag("type", type)
+                .description("타입별 캐시 추정 사용량 (bytes)")
+                .register(registry);
+            FunctionCounter.builder("cache.evictions", region.evictionCount, LongAdder::sum)
+                .tag("cache", "caching-service").tag("type", type)
+                .description("용량 초과로 퇴출된 엔트리 수")
+                .register(registry);
+            FunctionCounter.builder("cache.expirations", region.expirationCount, LongAdder::sum)
+                .tag("cache", "caching-service").tag("type", type)
+                .description("TTL 만료로 제거된 엔트리 수")
+                .register(registry);
+        }
+    }
+
+    /**
+     * 캐시 데이터의 대략적인 메모리 사용량(bytes) 추정
+     * 타임라인/던담 응답은 Map/List/String 조합, 캐릭터 기본 정보는 CharacterDetailDto이므로 해당 구조만 재귀적으로 계산
+     */
+    private static long estimateWeight(Object value, int depth) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof CharSequence text) {
+            return 40 + 2L * text.length();
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            return 16;
+        }
+        if (depth >= 8) {
+            return 64;
+        }
+        if (value instanceof Map<?, ?> map) {
+            long weight = 48;
+            for (Map.Entry<?, ?> e : map.entrySet()) {
+                weight += 32 + estimateWeight(e.getKey(), depth + 1) + estimateWeight(e.getValue(), depth + 1);
+            }
+            return weight;
+        }
+        if (value instanceof Collection<?> collection) {
+            long weight = 24;
+            for (Object element : collection) {
+                weight += 8 + estimateWeight(element, depth + 1);
+            }
+            return weight;
+        }
+        if (value instanceof CharacterDetailDto detail) {
+            return 512 + estimateWeight(detail.getStatus(), depth + 1)
+                + estimateWeight(detail.getEquipment(), depth + 1)
+                + estimateWeight(detail.getBuffSkill(), depth + 1);
+        }
+        return 64;
+    }
+
     /**
      * 캐시 키 생성 헬퍼 메서드
      */
@@ -159,7 +582,7 @@ public class CachingService {
      */
     public LocalDateTime getExpiryTime(String key) {
         CacheEntry entry = cache.get(key);
-        return entry != null ? entry.getExpiryTime() : null;
+        return entry != null ? LocalDateTime.now().plusNanos(entry.getExpiryNanos() - System.nanoTime()) : null;
     }
 
     /**
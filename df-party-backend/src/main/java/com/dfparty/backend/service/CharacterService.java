@@ -6,6 +6,7 @@ import com.dfparty.backend.repository.AdventureRepository;
 import com.dfparty.backend.repository.JobTypeRepository;
 import com.dfparty.backend.service.DfoApiService;
 import com.dfparty.backend.dto.CharacterDto;
+import com.dfparty.backend.dto.CharacterListItemDto;
 import com.dfparty.backend.dto.ManualStatsUpdateDto;
 import com.dfparty.backend.service.DundamService;
 import com.dfparty.backend.service.CachingService;
@@ -15,10 +16,13 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.scheduling.annotation.Async;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import com.dfparty.backend.utils.CharacterUtils;
 
 
@@ -35,6 +39,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import com.dfparty.backend.model.RealtimeEvent;
+import com.dfparty.backend.model.RealtimeTopic;
 
 import com.dfparty.backend.entity.Adventure;
 import com.dfparty.backend.entity.JobType;
@@ -78,11 +83,32 @@ public class CharacterService {
     @Autowired
     private RealtimeEventService realtimeEventService;
     
+    @Autowired
+    private RefreshProgressAggregator refreshProgressAggregator;
+    
     @Autowired
     private NabelDifficultySelectionRepository nabelDifficultySelectionRepository;
 
+    @Autowired
+    @Qualifier("dfoApiExecutor")
+    private Executor dfoApiExecutor;
+
+    @Autowired
+    @Qualifier("dundamCrawlExecutor")
+    private Executor dundamCrawlExecutor;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    // 모험단 통계를 adventure_stats 집계 테이블에서 읽을지 여부 (false면 GROUP BY 조회)
+    @Value("${adventure.stats.materialized:false}")
+    private boolean materializedAdventureStats;
+
+    private static final String NO_ADVENTURE_NAME = "모험단 정보 없음";
+
+    // 목요일 DB 검색 페이지 크기
+    private static final int DB_SEARCH_DEFAULT_PAGE_SIZE = 20;
+    private static final int DB_SEARCH_MAX_PAGE_SIZE = 100;
+
     @Autowired
     private CharacterUtils characterUtils;
     /**
@@ -182,6 +208,13 @@ public class CharacterService {
      * 캐릭터 검색 (이름으로 검색)
      */
     public Map<String, Object> searchCharacters(String characterName, String serverId) {
+        return searchCharacters(characterName, serverId, 0, DB_SEARCH_DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * 캐릭터 검색 (page / size는 목요일 DB 검색에만 적용)
+     */
+    public Map<String, Object> searchCharacters(String characterName, String serverId, int page, int size) {
         try {
             log.info("=== CharacterService.searchCharacters 시작 ===");
             log.info("characterName: {}, serverId: {}", characterName, serverId);
@@ -190,7 +223,7 @@ public class CharacterService {
             Map<String, Object> thursdayRestriction = thursdayFallbackService.checkThursdayApiRestriction("캐릭터 검색");
             if (thursdayRestriction != null) {
                 log.warn("목요일 API 제한으로 DB 정보만 제공: characterName={}", characterName);
-                return searchCharactersFromDB(characterName, serverId, thursdayRestriction);
+                return searchCharactersFromDB(characterName, serverId, page, size, thursdayRestriction);
             }
             
             // 1. DFO API에서 캐릭터 검색
@@ -466,8 +499,8 @@ public class CharacterService {
             
             log.info("=== 캐릭터 새로고침 시작: {} ({}) ===", character.getCharacterName(), characterId);
             
-            // 1. DFO API에서 최신 정보 조회 (총딜/버프력은 제외)
-            Object characterDetail = dfoApiService.getCharacterDetail(serverId, characterId);
+            // 1. DFO API에서 최신 정보 조회 (총딜/버프력은 제외, 새로고침이므로 캐시 무시)
+            Object characterDetail = dfoApiService.getCharacterDetail(serverId, characterId, true);
             if (characterDetail != null) {
                 updateCharacterFromDfoApiExcludingStats(character, characterDetail);
                 log.info("캐릭터 '{}' DFO API 정보 업데이트 완료", character.getCharacterName());
@@ -493,7 +526,7 @@ public class CharacterService {
                 wsData.put("dundamResult", dundamResult);
                 wsData.put("timestamp", LocalDateTime.now());
                 
-                realtimeEventService.sendEventToTopic("character-updates", 
+                realtimeEventService.sendEventToTopics(RealtimeTopic.forCharacter(characterId, character.getAdventureName()), 
                     RealtimeEvent.builder()
                         .id(UUID.randomUUID().toString())
                         .type(RealtimeEvent.EventType.CHARACTER_UPDATED)
@@ -538,25 +571,14 @@ public class CharacterService {
     }
 
     /**
-     * 캐릭터 타임라인 조회 (캐싱 적용)
+     * 캐릭터 타임라인 조회 (캐싱은 DfoApiService에서 처리)
      */
     public Map<String, Object> getCharacterTimeline(String serverId, String characterId, int limit, String startDate, String endDate) {
         try {
-            // 캐시 키 생성
-            String cacheKey = CachingService.getTimelineKey(serverId, characterId);
-            
-            // 캐시에서 확인
-            Object cachedTimeline = cachingService.get(cacheKey);
-            if (cachedTimeline != null) {
-                return createSuccessResponse("캐시에서 타임라인을 조회했습니다.", Map.of("timeline", cachedTimeline));
-            }
-
-            // DFO API에서 타임라인 조회
+            // DFO API에서 타임라인 조회 (성공 응답은 DfoApiService가 1분간 캐싱)
             Object timeline = dfoApiService.getCharacterTimeline(serverId, characterId);
             if (timeline != null) {
-                // 1분간 캐싱
-                cachingService.put(cacheKey, timeline, CachingService.CacheType.TIMELINE);
-                return createSuccessResponse("DFO API에서 타임라인을 조회했습니다.", Map.of("timeline", timeline));
+                return createSuccessResponse("타임라인을 조회했습니다.", Map.of("timeline", timeline));
             }
 
             return createErrorResponse("타임라인을 조회할 수 없습니다.");
@@ -1036,6 +1058,86 @@ public class CharacterService {
         }
     }
 
+    /**
+     * 일괄 최신화 파이프라인의 캐릭터별 결과
+     * 단계가 실패해도 다음 단계는 계속 진행하고 (부분 갱신 유지) 실패한 단계 이름만 모아 최종 집계에 쓴다.
+     * 한 캐릭터의 단계는 순서대로 실행되므로 별도 동기화는 필요 없다.
+     */
+    private static final class CharacterRefresh {
+        private final Character character;
+        private final List<String> failedStages = new ArrayList<>(2);
+        private boolean saved;
+
+        private CharacterRefresh(Character character) {
+            this.character = character;
+        }
+
+        private boolean stagesSucceeded() {
+            return failedStages.isEmpty();
+        }
+    }
+
+    /**
+     * 최신화 파이프라인 1단계: DFO API에서 최신 정보 조회 (상세 정보가 없거나 예외가 나면 실패로 기록)
+     */
+    private CharacterRefresh refreshFromDfoApi(CharacterRefresh refresh) {
+        Character character = refresh.character;
+        try {
+            Object characterDetail = dfoApiService.getCharacterDetail(character.getServerId(), character.getCharacterId(), true);
+            if (characterDetail != null) {
+                updateCharacterFromDfoApi(character, characterDetail);
+                log.info("캐릭터 '{}' DFO API 정보 업데이트 완료", character.getCharacterName());
+            } else {
+                refresh.failedStages.add("DFO API");
+                log.warn("캐릭터 '{}' DFO API 상세 정보 없음", character.getCharacterName());
+            }
+        } catch (Exception e) {
+            refresh.failedStages.add("DFO API");
+            log.warn("캐릭터 '{}' DFO API 정보 업데이트 실패: {}", character.getCharacterName(), e.getMessage());
+        }
+        return refresh;
+    }
+
+    /**
+     * 최신화 파이프라인 2단계: Dundam 정보 업데이트 (크롤링 결과가 성공이 아니면 실패로 기록)
+     */
+    private CharacterRefresh refreshFromDundam(CharacterRefresh refresh) {
+        Character character = refresh.character;
+        Map<String, Object> dundamResult = updateDundamInfo(character);
+        if (Boolean.TRUE.equals(dundamResult.get("success"))) {
+            log.info("캐릭터 '{}' Dundam 정보 업데이트 완료", character.getCharacterName());
+        } else {
+            refresh.failedStages.add("Dundam");
+            log.warn("캐릭터 '{}' Dundam 정보 업데이트 실패: {}", character.getCharacterName(), dundamResult.get("message"));
+        }
+        return refresh;
+    }
+
+    /**
+     * 최신화 결과 저장: 일괄 저장이 실패하면 (트랜잭션 전체 롤백) 캐릭터별로 다시 저장해 실패한 캐릭터만 골라낸다.
+     */
+    private void saveRefreshedCharacters(String adventureName, List<CharacterRefresh> refreshes) {
+        if (refreshes.isEmpty()) {
+            return;
+        }
+        try {
+            characterRepository.saveAll(refreshes.stream().map(refresh -> refresh.character).toList());
+            refreshes.forEach(refresh -> refresh.saved = true);
+            log.info("모험단 '{}' 캐릭터 {}명 일괄 저장 완료", adventureName, refreshes.size());
+            return;
+        } catch (Exception e) {
+            log.error("모험단 '{}' 캐릭터 일괄 저장 실패, 캐릭터별 저장으로 재시도: {}", adventureName, e.getMessage(), e);
+        }
+        for (CharacterRefresh refresh : refreshes) {
+            try {
+                characterRepository.save(refresh.character);
+                refresh.saved = true;
+            } catch (Exception e) {
+                log.error("캐릭터 '{}' 저장 실패: {}", refresh.character.getCharacterName(), e.getMessage());
+            }
+        }
+    }
+
     private Character createCharacterFromData(Map<String, Object> data) {
         Character character = new Character(
             (String) data.get("characterId"),
@@ -1236,6 +1338,55 @@ public class CharacterService {
         return dto;
     }
 
+    /**
+     * 목록용 프로젝션을 응답 Map으로 변환 (convertToDto(Character)와 같은 키)
+     */
+    private Map<String, Object> convertToDto(CharacterListItemDto character) {
+        Map<String, Object> dto = new HashMap<>();
+        dto.put("characterId", character.characterId());
+        dto.put("characterName", character.characterName());
+        dto.put("serverId", character.serverId());
+        
+        String adventureName = character.adventureName();
+        if (adventureName == null || adventureName.trim().isEmpty()) {
+            adventureName = NO_ADVENTURE_NAME;
+        }
+        dto.put("adventureName", adventureName);
+        
+        dto.put("fame", character.fame());
+        dto.put("buffPower", character.buffPower());
+        dto.put("totalDamage", character.totalDamage());
+        dto.put("level", character.level());
+        dto.put("jobName", character.displayJobName());
+        dto.put("jobGrowName", character.jobGrowName());
+        dto.put("dungeonClearNabel", character.dungeonClearNabel());
+        dto.put("dungeonClearVenus", character.dungeonClearVenus());
+        dto.put("dungeonClearFog", character.dungeonClearFog());
+        dto.put("dungeonClearTwilight", character.dungeonClearTwilight());
+        dto.put("isFavorite", character.isFavoriteNabel());
+        dto.put("excludedDungeons", parseExcludedDungeons(character.excludedDungeons()));
+        dto.put("createdAt", character.createdAt());
+        dto.put("updatedAt", character.updatedAt());
+        dto.put("manualBuffPower", character.manualBuffPower());
+        dto.put("manualTotalDamage", character.manualTotalDamage());
+        dto.put("isExcludedNabel", character.isExcludedNabel());
+        dto.put("isExcludedVenus", character.isExcludedVenus());
+        dto.put("isExcludedFog", character.isExcludedFog());
+        dto.put("isSkipNabel", character.isSkipNabel());
+        dto.put("isSkipVenus", character.isSkipVenus());
+        dto.put("isSkipFog", character.isSkipFog());
+        dto.put("isHardNabelEligible", character.isHardNabelEligible());
+        dto.put("isNormalNabelEligible", character.isNormalNabelEligible());
+        dto.put("isMatchingNabelEligible", character.isMatchingNabelEligible());
+        dto.put("isTwilightEligible", character.isTwilightEligible());
+        
+        // 선택된 나벨 난이도 (조회 쿼리에서 함께 가져옴)
+        if (character.selectedNabelDifficulty() != null) {
+            dto.put("selectedNabelDifficulty", character.selectedNabelDifficulty().name().toLowerCase());
+        }
+        return dto;
+    }
+
     /**
      * 제외 던전 JSON 문자열을 List로 파싱
      */
@@ -1405,6 +1556,7 @@ public class CharacterService {
             eventData.put("serverId", serverId);
             eventData.put("isFavorite", isFavorite);
             eventData.put("characterName", character.getCharacterName());
+            eventData.put("adventureName", character.getAdventureName());
             realtimeEventService.notifyCharacterUpdated(characterId, "system", eventData);
 
             return createSuccessResponse(
@@ -1445,6 +1597,7 @@ public class CharacterService {
             eventData.put("serverId", serverId);
             eventData.put("excludedDungeons", excludedDungeons);
             eventData.put("characterName", character.getCharacterName());
+            eventData.put("adventureName", character.getAdventureName());
             realtimeEventService.notifyCharacterUpdated(characterId, "system", eventData);
 
             return createSuccessResponse(
@@ -1701,47 +1854,49 @@ public class CharacterService {
             log.info("   - 모험단 ID: {}", foundAdventure.getId());
             log.info("   - 생성일: {}", foundAdventure.getCreatedAt());
             
-            // 2. 해당 모험단의 캐릭터들 조회
+            // 2. 해당 모험단의 캐릭터들 조회 (목록용 프로젝션, 엔티티 미적재)
             log.info("해당 모험단의 캐릭터 조회 시작...");
-            List<Character> characters = characterRepository.findByAdventure_AdventureName(adventureName);
+            List<CharacterListItemDto> characters = new ArrayList<>(characterRepository.findListItemsByAdventureName(adventureName));
             log.info("조회된 캐릭터 수: {}개", characters.size());
             
             // 3. 각 캐릭터 정보 로깅
             for (int i = 0; i < characters.size(); i++) {
-                Character character = characters.get(i);
+                CharacterListItemDto character = characters.get(i);
                 log.info("   {}. 캐릭터명: {}, 서버: {}, 레벨: {}, 명성: {}", 
-                    (i + 1), character.getCharacterName(), character.getServerId(), 
-                    character.getLevel(), character.getFame());
+                    (i + 1), character.characterName(), character.serverId(), 
+                    character.level(), character.fame());
             }
             
-            // 4. 각 캐릭터의 던전 클리어 현황 조회 및 업데이트
+            // 4. 각 캐릭터의 던전 클리어 현황 조회 및 응답 반영
             log.info("각 캐릭터의 던전 클리어 현황 조회 시작...");
-            for (Character character : characters) {
+            for (int i = 0; i < characters.size(); i++) {
+                CharacterListItemDto character = characters.get(i);
                 try {
-                    log.info("캐릭터 {}의 던전 클리어 현황 조회 중...", character.getCharacterName());
+                    log.info("캐릭터 {}의 던전 클리어 현황 조회 중...", character.characterName());
                     Map<String, Object> clearStatusInfo = dungeonClearService.getDungeonClearStatus(
-                        character.getServerId(), 
-                        character.getCharacterId()
+                        character.serverId(), 
+                        character.characterId()
                     );
                     
                     if (clearStatusInfo != null && Boolean.TRUE.equals(clearStatusInfo.get("success"))) {
                         @SuppressWarnings("unchecked")
                         Map<String, Boolean> clearStatus = (Map<String, Boolean>) clearStatusInfo.get("clearStatus");
                         
-                        // 던전 클리어 상태 업데이트
-                        character.setDungeonClearNabel(clearStatus.getOrDefault("nabel", false));
-                        character.setDungeonClearVenus(clearStatus.getOrDefault("venus", false));
-                        character.setDungeonClearFog(clearStatus.getOrDefault("fog", false));
-                        character.setDungeonClearTwilight(clearStatus.getOrDefault("twilight", false));
+                        // 던전 클리어 상태 반영
+                        characters.set(i, character.withDungeonClear(
+                            clearStatus.getOrDefault("nabel", false),
+                            clearStatus.getOrDefault("venus", false),
+                            clearStatus.getOrDefault("fog", false),
+                            clearStatus.getOrDefault("twilight", false)));
                         
                         log.info("캐릭터 {} 던전 클리어 현황 업데이트: nabel={}, venus={}, fog={}, twilight={}", 
-                            character.getCharacterName(), clearStatus.get("nabel"), clearStatus.get("venus"), 
+                            character.characterName(), clearStatus.get("nabel"), clearStatus.get("venus"), 
                             clearStatus.get("fog"), clearStatus.get("twilight"));
                     } else {
-                        log.warn("캐릭터 {}의 던전 클리어 현황 조회 실패: {}", character.getCharacterName(), clearStatusInfo);
+                        log.warn("캐릭터 {}의 던전 클리어 현황 조회 실패: {}", character.characterName(), clearStatusInfo);
                     }
                 } catch (Exception e) {
-                    log.warn("캐릭터 {}의 던전 클리어 현황 조회 중 오류: {}", character.getCharacterName(), e.getMessage());
+                    log.warn("캐릭터 {}의 던전 클리어 현황 조회 중 오류: {}", character.characterName(), e.getMessage());
                 }
             }
             
@@ -1804,21 +1959,21 @@ public class CharacterService {
      */
     public Map<String, Object> getAdventureStatistics() {
         try {
-            List<Character> allCharacters = characterRepository.findAll();
+            List<Object[]> rows = materializedAdventureStats
+                ? characterRepository.countCharactersByAdventureNameMaterialized(NO_ADVENTURE_NAME)
+                : characterRepository.countCharactersByAdventureName(NO_ADVENTURE_NAME);
             
-            Map<String, Long> adventureStats = allCharacters.stream()
-                .filter(c -> c.getAdventureName() != null && !c.getAdventureName().trim().isEmpty() && !"모험단 정보 없음".equals(c.getAdventureName()))
-                .collect(java.util.stream.Collectors.groupingBy(
-                    Character::getAdventureName,
-                    java.util.stream.Collectors.counting()
-                ));
+            Map<String, Long> adventureStats = new HashMap<>();
+            for (Object[] row : rows) {
+                adventureStats.put((String) row[0], ((Number) row[1]).longValue());
+            }
             
             return createSuccessResponse(
                 "모험단별 캐릭터 수 통계를 조회했습니다.",
                 Map.of(
                     "statistics", adventureStats,
                     "totalAdventures", adventureStats.size(),
-                    "totalCharacters", allCharacters.size()
+                    "totalCharacters", characterRepository.count()
                 )
             );
             
@@ -1830,23 +1985,42 @@ public class CharacterService {
 
     /**
      * 목요일 DB 전용 캐릭터 검색
+     * 정규화 이름(공백 제거 + 소문자) 기준으로 DB에서 순위를 매기고 페이지 단위로 가져온다
      */
-    private Map<String, Object> searchCharactersFromDB(String characterName, String serverId, Map<String, Object> thursdayRestriction) {
+    private Map<String, Object> searchCharactersFromDB(String characterName, String serverId, int page, int size,
+                                                       Map<String, Object> thursdayRestriction) {
         try {
-            log.info("DB에서 캐릭터 검색: characterName={}, serverId={}", characterName, serverId);
-            
+            log.info("DB에서 캐릭터 검색: characterName={}, serverId={}, page={}, size={}", characterName, serverId, page, size);
+
+            String keyword = normalizeCharacterName(characterName);
+            if (keyword.isEmpty()) {
+                Map<String, Object> response = createErrorResponse("검색할 캐릭터명을 입력해주세요.");
+                response.put("thursdayRestriction", thursdayRestriction);
+                return response;
+            }
+
+            int pageSize = Math.max(1, Math.min(size, DB_SEARCH_MAX_PAGE_SIZE));
+            // page가 크면 int 곱셈이 넘쳐 음수 OFFSET이 되므로 long으로 계산
+            long offset = (long) Math.max(0, page) * pageSize;
+            String serverFilter = "all".equals(serverId) ? null : serverId;
+            String likeKeyword = escapeLikePattern(keyword);
+            List<String> grams = toBigrams(keyword);
+
+            // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+            // 한 글자 검색어는 2-gram이 없으므로 앞부분 일치만 찾는다 (정규화 이름 인덱스 사용)
             List<Character> characters;
-            
-            if ("all".equals(serverId)) {
-                // 전체 서버에서 캐릭터명으로 검색
-                characters = characterRepository.findAll().stream()
-                    .filter(c -> c.getCharacterName().toLowerCase().contains(characterName.toLowerCase()))
-                    .collect(java.util.stream.Collectors.toList());
+            if (grams.isEmpty()) {
+                characters = serverFilter == null
+                    ? characterRepository.searchByNormalizedNamePrefix(keyword, likeKeyword, pageSize + 1, offset)
+                    : characterRepository.searchByNormalizedNamePrefixInServer(keyword, likeKeyword, serverFilter, pageSize + 1, offset);
             } else {
-                // 특정 서버에서 캐릭터명으로 검색
-                characters = characterRepository.findByServerId(serverId).stream()
-                    .filter(c -> c.getCharacterName().toLowerCase().contains(characterName.toLowerCase()))
-                    .collect(java.util.stream.Collectors.toList());
+                characters = serverFilter == null
+                    ? characterRepository.searchByNameNgrams(keyword, likeKeyword, grams, grams.size(), pageSize + 1, offset)
+                    : characterRepository.searchByNameNgramsInServer(keyword, likeKeyword, grams, grams.size(), serverFilter, pageSize + 1, offset);
+            }
+            boolean hasNext = characters.size() > pageSize;
+            if (hasNext) {
+                characters = characters.subList(0, pageSize);
             }
             
             if (characters.isEmpty()) {
@@ -1868,6 +2042,9 @@ public class CharacterService {
             // 목요일 제한 정보 추가
             response.put("thursdayRestriction", thursdayRestriction);
             response.put("dataSource", "database");
+            response.put("page", Math.max(0, page));
+            response.put("size", pageSize);
+            response.put("hasNext", hasNext);
             
             return response;
             
@@ -1879,6 +2056,30 @@ public class CharacterService {
         }
     }
 
+    /**
+     * DB 생성 컬럼 character_name_normalized와 같은 규칙 (공백 제거 + 소문자)
+     */
+    private static String normalizeCharacterName(String characterName) {
+        return characterName == null ? "" : characterName.replace(" ", "").toLowerCase(java.util.Locale.ROOT);
+    }
+
+    /**
+     * character_name_ngrams와 같은 규칙의 2-gram (문자 단위, 중복 제거)
+     */
+    private static List<String> toBigrams(String keyword) {
+        int[] codePoints = keyword.codePoints().toArray();
+        java.util.Set<String> grams = new java.util.LinkedHashSet<>();
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            grams.add(new String(codePoints, i, 2));
+        }
+        return new ArrayList<>(grams);
+    }
+
+    // LIKE 패턴 이스케이프 (쿼리의 ESCAPE '!'와 짝)
+    private static String escapeLikePattern(String keyword) {
+        return keyword.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
     /**
      * 던전별 업둥이 설정
      */
@@ -2667,9 +2868,6 @@ public class CharacterService {
             }
             
             int totalCharacters = characters.size();
-            int processedCount = 0;
-            int successCount = 0;
-            int failCount = 0;
             
             log.info("모험단 '{}'에서 {}명의 캐릭터를 찾았습니다.", adventureName, totalCharacters);
             
@@ -2685,71 +2883,70 @@ public class CharacterService {
             );
             log.info("refresh_start 데이터: {}", startData);
             
-            realtimeEventService.sendSystemNotification(
+            realtimeEventService.sendAdventureNotification(adventureName,
                 String.format("'%s' 모험단 캐릭터 정보 업데이트를 시작합니다. (총 %d명)", adventureName, totalCharacters),
                 startData
             );
             log.info("=== SSE refresh_start 이벤트 전송 완료 ===");
             
-            // 각 캐릭터를 순차적으로 처리
+            // 캐릭터별 진행 알림은 모아서 주기마다 한 번만 전송
+            RefreshProgressAggregator.ProgressJob progressJob = refreshProgressAggregator.open(
+                RealtimeTopic.adventure(adventureName), totalCharacters,
+                job -> realtimeEventService.sendAdventureNotification(adventureName,
+                    String.format("'%s' 캐릭터 처리 완료 (%d/%d)", job.getLastItem(), job.getProcessed(), totalCharacters),
+                    Map.of(
+                        "type", "refresh_progress",
+                        "adventureName", adventureName,
+                        "characterName", job.getLastItem(),
+                        "totalCharacters", totalCharacters,
+                        "processedCount", job.getProcessed(),
+                        "successCount", job.getSuccess(),
+                        "failCount", job.getFail()
+                    )
+                ));
+            
+            // 캐릭터별 파이프라인: DFO API 조회 → 던담 크롤링 (단계별 동시 실행 수 제한, DFO 호출은 공용 호출 제한 적용)
+            List<CompletableFuture<CharacterRefresh>> pipelines = new ArrayList<>(totalCharacters);
             for (Character character : characters) {
-                try {
-                    log.info("캐릭터 '{}' 처리 중... ({}/{})", character.getCharacterName(), processedCount + 1, totalCharacters);
-                    
-                    // SSE 진행 상황 업데이트
-                    realtimeEventService.sendSystemNotification(
-                        String.format("'%s' 캐릭터 처리 중... (%d/%d)", character.getCharacterName(), processedCount + 1, totalCharacters),
-                        Map.of(
-                            "type", "refresh_progress",
-                            "adventureName", adventureName,
-                            "characterName", character.getCharacterName(),
-                            "totalCharacters", totalCharacters,
-                            "processedCount", processedCount + 1,
-                            "successCount", successCount,
-                            "failCount", failCount
-                        )
-                    );
-                    
-                    // 1. DFO API에서 최신 정보 조회
-                    try {
-                        Object characterDetail = dfoApiService.getCharacterDetail(character.getServerId(), character.getCharacterId());
-                        if (characterDetail != null) {
-                            updateCharacterFromDfoApi(character, characterDetail);
-                            log.info("캐릭터 '{}' DFO API 정보 업데이트 완료", character.getCharacterName());
+                CompletableFuture<CharacterRefresh> pipeline = CompletableFuture
+                    .supplyAsync(() -> refreshFromDfoApi(new CharacterRefresh(character)), dfoApiExecutor)
+                    .thenApplyAsync(this::refreshFromDundam, dundamCrawlExecutor)
+                    .handle((refreshed, error) -> {
+                        boolean succeeded = error == null && refreshed.stagesSucceeded();
+                        if (error != null) {
+                            log.error("캐릭터 '{}' 처리 실패: {}", character.getCharacterName(), error.getMessage());
+                        } else if (!succeeded) {
+                            log.warn("캐릭터 '{}' 처리 실패 (단계: {})", character.getCharacterName(), refreshed.failedStages);
+                        } else {
+                            log.info("캐릭터 '{}' 처리 완료 (성공)", character.getCharacterName());
                         }
-                    } catch (Exception e) {
-                        log.warn("캐릭터 '{}' DFO API 정보 업데이트 실패: {}", character.getCharacterName(), e.getMessage());
-                    }
-                    
-                    // 2. Dundam 정보 업데이트
-                    try {
-                        updateDundamInfo(character);
-                        log.info("캐릭터 '{}' Dundam 정보 업데이트 완료", character.getCharacterName());
-                    } catch (Exception e) {
-                        log.warn("캐릭터 '{}' Dundam 정보 업데이트 실패: {}", character.getCharacterName(), e.getMessage());
-                    }
-                    
-                    // 3. DB에 저장
-                    characterRepository.save(character);
-                    successCount++;
-                    log.info("캐릭터 '{}' 처리 완료 (성공)", character.getCharacterName());
-                    
-                } catch (Exception e) {
-                    failCount++;
-                    log.error("캐릭터 '{}' 처리 실패: {}", character.getCharacterName(), e.getMessage());
-                }
-                
-                processedCount++;
-                
-                // 2초 대기 (API 제한 고려)
-                try {
-                    Thread.sleep(2000);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    break;
-                }
+                        
+                        // SSE 진행 상황 업데이트 (다음 주기에 병합 전송)
+                        progressJob.record(character.getCharacterName(), succeeded);
+                        return error == null ? refreshed : null;
+                    });
+                pipelines.add(pipeline);
+            }
+            
+            try {
+                CompletableFuture.allOf(pipelines.toArray(new CompletableFuture[0])).join();
+            } finally {
+                refreshProgressAggregator.close(progressJob);
             }
             
+            // DB 저장 (일부 단계가 실패한 캐릭터도 갱신된 부분은 저장)
+            List<CharacterRefresh> refreshes = pipelines.stream()
+                .map(CompletableFuture::join)
+                .filter(java.util.Objects::nonNull)
+                .collect(java.util.stream.Collectors.toList());
+            saveRefreshedCharacters(adventureName, refreshes);
+            
+            // 캐릭터별 최종 결과: 성공 = 모든 단계 성공 + 저장, 실패 = 조회 단계 실패, 저장 실패 = 조회는 성공했지만 저장 실패
+            int processedCount = totalCharacters;
+            int successCount = (int) refreshes.stream().filter(refresh -> refresh.stagesSucceeded() && refresh.saved).count();
+            int saveFailCount = (int) refreshes.stream().filter(refresh -> refresh.stagesSucceeded() && !refresh.saved).count();
+            int failCount = processedCount - successCount - saveFailCount;
+            
             // 최종 결과를 SSE로 전송
             log.info("=== SSE refresh_complete 이벤트 전송 시작 ===");
             Map<String, Object> finalResult = Map.of(
@@ -2758,7 +2955,8 @@ public class CharacterService {
                 "totalCharacters", totalCharacters,
                 "processedCount", processedCount,
                 "successCount", successCount,
-                "failCount", failCount
+                "failCount", failCount,
+                "saveFailCount", saveFailCount
             );
             log.info("refresh_complete 데이터: {}", finalResult);
             
@@ -2766,18 +2964,18 @@ public class CharacterService {
                 .id(UUID.randomUUID().toString())
                 .type(RealtimeEvent.EventType.SYSTEM_NOTIFICATION)
                 .userId("system")
-                .message(String.format("'%s' 모험단 캐릭터 정보 업데이트가 완료되었습니다. (성공: %d, 실패: %d)", 
-                    adventureName, successCount, failCount))
+                .message(String.format("'%s' 모험단 캐릭터 정보 업데이트가 완료되었습니다. (성공: %d, 실패: %d, 저장 실패: %d)", 
+                    adventureName, successCount, failCount, saveFailCount))
                 .data(finalResult)
                 .timestamp(LocalDateTime.now())
                 .broadcast(true)
                 .build();
             
-            realtimeEventService.sendEvent(completeEvent);
+            realtimeEventService.sendEventToTopic(RealtimeTopic.adventure(adventureName), completeEvent);
             log.info("=== SSE refresh_complete 이벤트 전송 완료 ===");
             
             log.info("=== 모험단 '{}' 전체 캐릭터 비동기 최신화 완료 ===", adventureName);
-            log.info("총 처리: {}명, 성공: {}명, 실패: {}명", processedCount, successCount, failCount);
+            log.info("총 처리: {}명, 성공: {}명, 실패: {}명, 저장 실패: {}명", processedCount, successCount, failCount, saveFailCount);
             
             return CompletableFuture.completedFuture(createSuccessResponse(
                 "모험단 전체 최신화가 완료되었습니다.",
@@ -2788,7 +2986,7 @@ public class CharacterService {
             log.error("모험단 '{}' 전체 캐릭터 비동기 최신화 중 오류 발생: {}", adventureName, e.getMessage(), e);
             
             // 오류 발생 시에도 SSE로 알림
-            realtimeEventService.sendSystemNotification(
+            realtimeEventService.sendAdventureNotification(adventureName,
                 String.format("'%s' 모험단 캐릭터 정보 업데이트 중 오류가 발생했습니다.", adventureName),
                 Map.of(
                     "type", "refresh_error",
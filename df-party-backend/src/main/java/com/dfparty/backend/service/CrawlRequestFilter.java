@@ -0,0 +1,299 @@
+package com.dfparty.backend.service;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.CDPSession;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.options.Sizes;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 던담 크롤링 요청 필터
+ *
+ * 버프력 / 총딜 숫자만 읽으면 되므로 이미지, 폰트, CSS, 광고 / 분석 스크립트 등은 브라우저 단계에서 차단한다.
+ * 차단은 Chromium CDP의 Network.setBlockedURLs(확장자 / 호스트 URL 패턴)로 처리한다.
+ * allowed-hosts(기본: 크롤링 대상인 dundam.xyz와 하위 도메인) 밖의 서드파티 요청은 URL 패턴으로 표현할 수 없어
+ * Playwright route()로 차단한다. route()를 걸면 브라우저 HTTP 캐시가 꺼지므로, 캐시를 살리려면 allowed-hosts를 비워
+ * CDP 패턴 차단만 쓰도록 할 수 있다 (대신 blocked-hosts에 없는 서드파티 요청은 허용됨).
+ * 크롤링마다 페이지 로딩 시간을 메트릭으로 남기고, 전송 바이트는 byte-sample-every번째 크롤링에서만 요청마다
+ * request.sizes()로 측정한다 (sizes()는 요청마다 브라우저 왕복이 필요해 매번 호출하면 크롤링이 느려짐).
+ */
+@Slf4j
+@Service
+public class CrawlRequestFilter implements MeterBinder {
+
+    private final boolean enabled;
+    private final Set<String> blockedResourceTypes;
+    private final List<String> allowedHosts;
+    private final List<String> blockedHosts;
+    private final int byteSampleEvery;
+
+    // 리소스 타입별 차단 URL 확장자 (CDP 차단은 타입이 아닌 URL 패턴으로만 지정 가능)
+    private static final Map<String, List<String>> RESOURCE_TYPE_EXTENSIONS = Map.of(
+        "image", List.of("png", "jpg", "jpeg", "gif", "webp", "avif", "svg", "ico", "bmp"),
+        "media", List.of("mp4", "webm", "mp3", "ogg", "wav", "m4a"),
+        "font", List.of("woff", "woff2", "ttf", "otf", "eot"),
+        "stylesheet", List.of("css")
+    );
+    private static final String BLOCKED_BY_CLIENT = "ERR_BLOCKED_BY_CLIENT";
+
+    private final List<String> blockedUrlPatterns;
+
+    private final LongAdder allowedRequestCount = new LongAdder();
+    private final LongAdder blockedRequestCount = new LongAdder();
+    private final AtomicLong crawlSequence = new AtomicLong();
+    private DistributionSummary crawlBytesSummary;
+    private Timer crawlLoadTimer;
+
+    public CrawlRequestFilter(@Value("${playwright.crawl.request-blocking:true}") boolean enabled,
+                              @Value("${playwright.crawl.blocked-resource-types:image,media,font,stylesheet}") List<String> blockedResourceTypes,
+                              @Value("${playwright.crawl.allowed-hosts:dundam.xyz}") List<String> allowedHosts,
+                              @Value("${playwright.crawl.blocked-hosts:google-analytics.com,googletagmanager.com,googlesyndication.com,doubleclick.net,adservice.google.com}") List<String> blockedHosts,
+                              @Value("${playwright.crawl.byte-sample-every:10}") int byteSampleEvery) {
+        this.enabled = enabled;
+        this.blockedResourceTypes = blockedResourceTypes.stream()
+            .map(type -> type.trim().toLowerCase(Locale.ROOT))
+            .filter(type -> !type.isEmpty())
+            .collect(Collectors.toUnmodifiableSet());
+        this.allowedHosts = normalizeHosts(allowedHosts);
+        this.blockedHosts = normalizeHosts(blockedHosts);
+        this.blockedUrlPatterns = buildBlockedUrlPatterns(this.blockedResourceTypes, this.blockedHosts);
+        this.byteSampleEvery = Math.max(0, byteSampleEvery);
+
+        log.info("던담 크롤링 요청 차단 설정: 사용={}, 차단 리소스={}, 허용 호스트={}, 차단 호스트={}, 전송량 측정 주기={}",
+            enabled, this.blockedResourceTypes, this.allowedHosts, this.blockedHosts, this.byteSampleEvery);
+    }
+
+    private static List<String> normalizeHosts(List<String> hosts) {
+        return hosts.stream()
+            .map(host -> host.trim().toLowerCase(Locale.ROOT))
+            .filter(host -> !host.isEmpty())
+            .toList();
+    }
+
+    private static List<String> buildBlockedUrlPatterns(Set<String> resourceTypes, List<String> hosts) {
+        List<String> patterns = new ArrayList<>();
+        for (String type : resourceTypes) {
+            for (String extension : RESOURCE_TYPE_EXTENSIONS.getOrDefault(type, List.of())) {
+                patterns.add("*." + extension);
+                patterns.add("*." + extension + "?*");
+            }
+        }
+        for (String host : hosts) {
+            patterns.add("*://" + host + "/*");
+            patterns.add("*://*." + host + "/*");
+        }
+        return List.copyOf(patterns);
+    }
+
+    /**
+     * 페이지에 요청 차단과 전송량 집계를 등록 (풀 페이지 생성 시 한 번)
+     */
+    public void install(BrowserContext context, Page page, CrawlTraffic traffic) {
+        if (enabled) {
+            if (!allowedHosts.isEmpty() || !installBlockedUrls(context, page)) {
+                installRoute(context);
+            }
+            context.onRequestFailed(request -> {
+                String failure = request.failure();
+                if (failure != null && failure.contains(BLOCKED_BY_CLIENT)) {
+                    traffic.blockedRequests.incrementAndGet();
+                    blockedRequestCount.increment();
+                }
+            });
+        }
+        context.onRequestFinished(request -> {
+            traffic.finishedRequests.incrementAndGet();
+            allowedRequestCount.increment();
+            if (!traffic.measuringBytes) {
+                return;
+            }
+            try {
+                Sizes sizes = request.sizes();
+                traffic.bytes.addAndGet((long) sizes.responseHeadersSize + Math.max(0, sizes.responseBodySize));
+            } catch (Exception e) {
+                log.debug("요청 크기 조회 실패: {} - {}", request.url(), e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 크롤링 시작 (풀에서 페이지를 빌려줄 때), 전송량 카운터를 초기화하고 이번 크롤링의 바이트 측정 여부 결정
+     */
+    public void beginCrawl(CrawlTraffic traffic) {
+        traffic.reset();
+        traffic.measuringBytes = byteSampleEvery > 0 && crawlSequence.getAndIncrement() % byteSampleEvery == 0;
+    }
+
+    /**
+     * CDP로 URL 패턴 차단 등록 (요청 가로채기가 없어 HTTP 캐시 유지), Chromium이 아니거나 실패하면 false
+     */
+    private boolean installBlockedUrls(BrowserContext context, Page page) {
+        try {
+            CDPSession session = context.newCDPSession(page);
+            JsonArray urls = new JsonArray();
+            blockedUrlPatterns.forEach(urls::add);
+            JsonObject params = new JsonObject();
+            params.add("urls", urls);
+            session.send("Network.enable");
+            session.send("Network.setBlockedURLs", params);
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("CDP 요청 차단 등록 실패, route 차단으로 대체 (HTTP 캐시 비활성): {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * route 기반 차단 (allowed-hosts 제한이 있거나 CDP를 쓸 수 없을 때), 차단 대상만 abort하고 나머지는 그대로 진행
+     * 주의: route가 하나라도 등록되면 Playwright가 브라우저 HTTP 캐시를 끈다.
+     */
+    private void installRoute(BrowserContext context) {
+        context.route("**/*", route -> {
+            Request request = route.request();
+            if (shouldBlock(request.resourceType(), request.url())) {
+                route.abort("blockedbyclient");
+            } else {
+                route.resume();
+            }
+        });
+    }
+
+    /**
+     * 1) 차단 리소스 타입, 2) 차단 호스트, 3) 허용 호스트 목록 밖(서드파티) 순서로 판단
+     */
+    boolean shouldBlock(String resourceType, String url) {
+        if (resourceType != null && blockedResourceTypes.contains(resourceType)) {
+            return true;
+        }
+        String host = extractHost(url);
+        if (host == null) {
+            return false;
+        }
+        if (matchesAny(host, blockedHosts)) {
+            return true;
+        }
+        return !allowedHosts.isEmpty() && !matchesAny(host, allowedHosts);
+    }
+
+    private static String extractHost(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host != null ? host.toLowerCase(Locale.ROOT) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // 도메인 자체 또는 하위 도메인 일치
+    private static boolean matchesAny(String host, List<String> domains) {
+        for (String domain : domains) {
+            if (host.equals(domain) || host.endsWith("." + domain)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 크롤링 1회의 전송량 / 로딩 시간 기록
+     */
+    public void recordCrawl(CrawlTraffic traffic, long loadNanos) {
+        if (crawlLoadTimer != null) {
+            crawlLoadTimer.record(loadNanos, TimeUnit.NANOSECONDS);
+        }
+        if (!traffic.measuringBytes) {
+            log.info("📊 던담 페이지 로딩 {}ms (완료 요청 {}건, 차단 요청 {}건)",
+                TimeUnit.NANOSECONDS.toMillis(loadNanos), traffic.getFinishedRequests(), traffic.getBlockedRequests());
+            return;
+        }
+        if (crawlBytesSummary != null) {
+            crawlBytesSummary.record(traffic.getBytes());
+        }
+        log.info("📊 던담 페이지 로딩 {}ms, 전송 {}KB (완료 요청 {}건, 차단 요청 {}건)",
+            TimeUnit.NANOSECONDS.toMillis(loadNanos), traffic.getBytes() / 1024,
+            traffic.getFinishedRequests(), traffic.getBlockedRequests());
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("allowedRequestCount", allowedRequestCount.sum());
+        stats.put("blockedRequestCount", blockedRequestCount.sum());
+        if (crawlBytesSummary != null) {
+            stats.put("averageCrawlBytes", crawlBytesSummary.mean());
+        }
+        if (crawlLoadTimer != null) {
+            stats.put("averageLoadMs", crawlLoadTimer.mean(TimeUnit.MILLISECONDS));
+        }
+        return stats;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("dfparty.playwright.crawl.requests", allowedRequestCount, LongAdder::sum)
+            .tag("result", "allowed")
+            .description("던담 크롤링 중 허용된 요청 수")
+            .register(registry);
+        FunctionCounter.builder("dfparty.playwright.crawl.requests", blockedRequestCount, LongAdder::sum)
+            .tag("result", "blocked")
+            .description("던담 크롤링 중 차단된 요청 수")
+            .register(registry);
+        crawlBytesSummary = DistributionSummary.builder("dfparty.playwright.crawl.bytes")
+            .baseUnit("bytes")
+            .description("던담 크롤링 1회 전송 바이트 (byte-sample-every번째 크롤링만 측정)")
+            .register(registry);
+        crawlLoadTimer = Timer.builder("dfparty.playwright.crawl.load")
+            .description("던담 페이지 이동부터 로딩 대기 완료까지 시간")
+            .register(registry);
+    }
+
+    /**
+     * 풀 슬롯별 크롤링 전송량 (대여 시 초기화)
+     */
+    public static final class CrawlTraffic {
+        private final AtomicLong bytes = new AtomicLong();
+        private final AtomicLong finishedRequests = new AtomicLong();
+        private final AtomicLong blockedRequests = new AtomicLong();
+        private volatile boolean measuringBytes;
+
+        public void reset() {
+            bytes.set(0);
+            finishedRequests.set(0);
+            blockedRequests.set(0);
+        }
+
+        public long getBytes() {
+            return bytes.get();
+        }
+
+        public long getFinishedRequests() {
+            return finishedRequests.get();
+        }
+
+        public long getBlockedRequests() {
+            return blockedRequests.get();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.dfparty.backend.service;
 
 import com.dfparty.backend.entity.Character;
 import com.dfparty.backend.entity.Adventure;
+import com.dfparty.backend.repository.CharacterBatchRepository;
 import com.dfparty.backend.repository.CharacterRepository;
 import com.dfparty.backend.repository.AdventureRepository;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -10,9 +11,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 public class DatabaseMigrationService {
@@ -37,20 +41,39 @@ public class DatabaseMigrationService {
         );
 
         try {
-            int migratedCount = 0;
+            // 필수 필드 검증
+            List<Map<String, Object>> validCharacters = new ArrayList<>();
             int errorCount = 0;
-
             for (Map<String, Object> localChar : localCharacters) {
+                if (localChar.get("characterId") == null || localChar.get("characterName") == null || localChar.get("serverId") == null) {
+                    errorCount++;
+                    continue;
+                }
+                validCharacters.add(localChar);
+            }
+
+            // characterId 기준 일괄 upsert (JDBC 배치, 배치마다 커밋 / 실패 배치는 행 단위 재시도)
+            CharacterBatchRepository.UpsertResult<Map<String, Object>> upsertResult = characterRepository.upsertAllByCharacterId(
+                validCharacters,
+                localChar -> (String) localChar.get("characterId"),
+                this::createNewCharacter,
+                this::updateExistingCharacter
+            );
+            int migratedCount = upsertResult.insertedCount() + upsertResult.updatedCount();
+            errorCount += upsertResult.failedCount();
+
+            // 모험단 정보 생성/업데이트 (커밋된 신규 캐릭터의 모험단만)
+            Set<String> adventureNames = new LinkedHashSet<>();
+            for (Map<String, Object> localChar : upsertResult.insertedSources()) {
+                if (localChar.get("adventureName") instanceof String adventureName) {
+                    adventureNames.add(adventureName);
+                }
+            }
+            for (String adventureName : adventureNames) {
                 try {
-                    if (migrateCharacter(localChar)) {
-                        migratedCount++;
-                    } else {
-                        errorCount++;
-                    }
+                    ensureAdventureExists(adventureName);
                 } catch (Exception e) {
-                    errorCount++;
-                    // 로그 기록
-                    System.err.println("캐릭터 마이그레이션 실패: " + e.getMessage());
+                    System.err.println("모험단 생성 실패: " + e.getMessage());
                 }
             }
 
@@ -73,44 +96,6 @@ public class DatabaseMigrationService {
         }
     }
 
-    /**
-     * 개별 캐릭터 마이그레이션
-     */
-    private boolean migrateCharacter(Map<String, Object> localChar) {
-        try {
-            String characterId = (String) localChar.get("characterId");
-            String characterName = (String) localChar.get("characterName");
-            String serverId = (String) localChar.get("serverId");
-            String adventureName = (String) localChar.get("adventureName");
-
-            // 필수 필드 검증
-            if (characterId == null || characterName == null || serverId == null) {
-                return false;
-            }
-
-            // 이미 존재하는지 확인
-            Optional<Character> existingChar = characterRepository.findByCharacterId(characterId);
-            if (existingChar.isPresent()) {
-                // 기존 데이터 업데이트
-                updateExistingCharacter(existingChar.get(), localChar);
-                return true;
-            }
-
-            // 새 캐릭터 생성
-            Character newCharacter = createNewCharacter(localChar);
-            characterRepository.save(newCharacter);
-
-            // 모험단 정보 생성/업데이트
-            ensureAdventureExists(serverId, adventureName);
-
-            return true;
-
-        } catch (Exception e) {
-            System.err.println("캐릭터 마이그레이션 실패: " + e.getMessage());
-            return false;
-        }
-    }
-
     /**
      * 기존 캐릭터 정보 업데이트
      */
@@ -133,7 +118,6 @@ public class DatabaseMigrationService {
         }
 
         existingChar.setUpdatedAt(LocalDateTime.now());
-        characterRepository.save(existingChar);
     }
 
     /**
@@ -186,7 +170,7 @@ public class DatabaseMigrationService {
     /**
      * 모험단 정보가 존재하는지 확인하고 없으면 생성
      */
-    private void ensureAdventureExists(String serverId, String adventureName) {
+    private void ensureAdventureExists(String adventureName) {
         if (adventureName == null || adventureName.trim().isEmpty()) {
             return;
         }
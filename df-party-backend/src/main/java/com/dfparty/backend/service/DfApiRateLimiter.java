@@ -0,0 +1,142 @@
+package com.dfparty.backend.service;
+
+import com.dfparty.backend.config.DfApiConfig;
+import com.dfparty.backend.exception.ApiRateLimitExceededException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Neople API 호출량 제한 (df.api.rate-limit / df.api.rate-limit-window)
+ *
+ * GCRA 방식의 토큰 버킷으로, 다음 토큰이 생기는 이론상 시각(TAT) 하나만 AtomicLong에 두고 CAS로 갱신한다.
+ * 버킷 용량(burst)만큼은 즉시 통과하고, 이후에는 window / rate-limit 간격으로 허가가 발급된다.
+ */
+@Slf4j
+@Service
+public class DfApiRateLimiter implements MeterBinder {
+
+    public enum Policy {
+        QUEUE,      // 허가가 날 때까지 최대 max-wait 동안 대기
+        FAIL_FAST   // 즉시 허가가 없으면 바로 실패
+    }
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final int capacity;
+    private final Policy policy;
+    private final long maxWaitNanos;
+
+    private final AtomicLong theoreticalArrivalNanos;
+
+    private final LongAdder acquiredCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private Timer waitTimer;
+
+    public DfApiRateLimiter(DfApiConfig dfApiConfig,
+                            @Value("${df.api.rate-limit-burst:0}") int burst,
+                            @Value("${df.api.rate-limit-policy:QUEUE}") Policy policy,
+                            @Value("${df.api.rate-limit-max-wait:30000}") long maxWaitMillis) {
+        int rateLimit = Math.max(1, dfApiConfig.getRateLimit());
+        this.emissionIntervalNanos = Math.max(1L, TimeUnit.MILLISECONDS.toNanos(dfApiConfig.getRateLimitWindow()) / rateLimit);
+        // burst 미설정 시 한 윈도우 허용량의 1/10 (최소 1)
+        this.capacity = burst > 0 ? burst : Math.max(1, rateLimit / 10);
+        this.burstToleranceNanos = emissionIntervalNanos * capacity;
+        this.policy = policy;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.theoreticalArrivalNanos = new AtomicLong(System.nanoTime() - burstToleranceNanos);
+
+        log.info("DFO API 호출 제한 설정: {}회/{}ms, 버킷 용량={}, 정책={}, 최대 대기={}ms",
+            rateLimit, dfApiConfig.getRateLimitWindow(), capacity, policy, maxWaitMillis);
+    }
+
+    /**
+     * 호출 허가 1개 획득. 정책에 따라 대기하거나 ApiRateLimitExceededException을 던진다
+     */
+    public void acquire() {
+        long allowedWaitNanos = policy == Policy.QUEUE ? maxWaitNanos : 0L;
+
+        while (true) {
+            long now = System.nanoTime();
+            long tat = theoreticalArrivalNanos.get();
+            long newTat = Math.max(tat, now - burstToleranceNanos) + emissionIntervalNanos;
+            long waitNanos = newTat - now;
+
+            if (waitNanos > allowedWaitNanos) {
+                rejectedCount.increment();
+                throw new ApiRateLimitExceededException(String.format(
+                    "DFO API 호출 제한 초과 (예상 대기 %dms)", TimeUnit.NANOSECONDS.toMillis(waitNanos)));
+            }
+
+            if (theoreticalArrivalNanos.compareAndSet(tat, newTat)) {
+                long actualWait = Math.max(0L, waitNanos);
+                if (actualWait > 0) {
+                    LockSupport.parkNanos(actualWait);
+                }
+                acquiredCount.increment();
+                totalWaitNanos.add(actualWait);
+                if (waitTimer != null) {
+                    waitTimer.record(actualWait, TimeUnit.NANOSECONDS);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * 지금 즉시 사용 가능한 허가 수
+     */
+    public int getAvailablePermits() {
+        long now = System.nanoTime();
+        long tat = Math.max(theoreticalArrivalNanos.get(), now - burstToleranceNanos);
+        long permits = (now - tat) / emissionIntervalNanos;
+        return (int) Math.max(0L, Math.min(capacity, permits));
+    }
+
+    /**
+     * 호출 간 최소 간격 (버킷이 비었을 때의 처리 속도)
+     */
+    public Duration getEmissionInterval() {
+        return Duration.ofNanos(emissionIntervalNanos);
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        long acquired = acquiredCount.sum();
+        stats.put("policy", policy.name());
+        stats.put("capacity", capacity);
+        stats.put("availablePermits", getAvailablePermits());
+        stats.put("emissionIntervalMs", TimeUnit.NANOSECONDS.toMillis(emissionIntervalNanos));
+        stats.put("acquiredCount", acquired);
+        stats.put("rejectedCount", rejectedCount.sum());
+        stats.put("averageWaitMs", acquired == 0 ? 0.0 : totalWaitNanos.sum() / 1_000_000.0 / acquired);
+        return stats;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("dfparty.dfo-api.rate-limit.permits", this, DfApiRateLimiter::getAvailablePermits)
+            .description("즉시 사용 가능한 DFO API 호출 허가 수")
+            .register(registry);
+        FunctionCounter.builder("dfparty.dfo-api.rate-limit.rejected", rejectedCount, LongAdder::sum)
+            .description("호출 제한으로 거절된 DFO API 요청 수")
+            .register(registry);
+        waitTimer = Timer.builder("dfparty.dfo-api.rate-limit.wait")
+            .description("DFO API 호출 허가 대기 시간")
+            .register(registry);
+    }
+}
@@ -19,7 +19,9 @@ import org.springframework.web.util.UriComponentsBuilder;
 import java.util.stream.Collectors;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -62,6 +64,8 @@ public class DfoApiService {
     private final ObjectMapper objectMapper;
     private final ThursdayFallbackService thursdayFallbackService;
     private final ServerRepository serverRepository;
+    private final CachingService cachingService;
+    private final RequestCoalescingService requestCoalescingService;
 
     /**
      * 가장 가까운 목요일 오전 9시를 기준으로 시작날짜 계산 (DFO API 형식)
@@ -269,7 +273,41 @@ public class DfoApiService {
         }
     }
 
+    /**
+     * 캐릭터 상세 정보 조회 (캐시 확인 후 동일 캐릭터 동시 호출은 1회로 합침)
+     * 캐시에는 원본을 두고 호출마다 복사본을 돌려주므로, 받은 DTO를 수정해도 캐시나 다른 호출자에 영향이 없다.
+     */
     public CharacterDetailDto getCharacterDetail(String serverId, String characterId) throws Exception {
+        return getCharacterDetail(serverId, characterId, false);
+    }
+
+    /**
+     * 캐릭터 상세 정보 조회 (forceRefresh면 캐시를 비우고 DFO API에서 다시 조회 - 명시적 새로고침용)
+     */
+    public CharacterDetailDto getCharacterDetail(String serverId, String characterId, boolean forceRefresh) throws Exception {
+        String cacheKey = CachingService.getCharacterBasicInfoKey(serverId, characterId);
+        if (forceRefresh) {
+            cachingService.remove(cacheKey);
+        } else {
+            Object cached = cachingService.get(cacheKey);
+            if (cached instanceof CharacterDetailDto cachedDetail) {
+                log.debug("캐시에서 캐릭터 상세 정보 조회: serverId={}, characterId={}", serverId, characterId);
+                return new CharacterDetailDto(cachedDetail);
+            }
+        }
+
+        CharacterDetailDto detail = requestCoalescingService.execute(cacheKey, () -> {
+            CharacterDetailDto fetched = fetchCharacterDetail(serverId, characterId);
+            if (fetched != null) {
+                cachingService.put(cacheKey, new CharacterDetailDto(fetched), CachingService.CacheType.CHARACTER_BASIC_INFO);
+            }
+            return fetched;
+        });
+        // 합쳐진 호출자들이 같은 인스턴스를 공유하지 않도록 복사본 반환
+        return detail != null ? new CharacterDetailDto(detail) : null;
+    }
+
+    private CharacterDetailDto fetchCharacterDetail(String serverId, String characterId) throws Exception {
         log.info("=== 캐릭터 상세 정보 조회 시작 ===");
         log.info("조회 파라미터: serverId={}, characterId={}", serverId, characterId);
         
@@ -336,8 +374,48 @@ public class DfoApiService {
 
     /**
      * 캐릭터 타임라인 조회 (던전 클리어 현황 확인용)
+     * 캐시 확인 후 동일 캐릭터 동시 호출은 1회로 합침
+     * 성공 응답은 읽기 전용으로 바꿔 캐싱하고 그대로 공유한다 (수정하려면 호출하는 쪽에서 복사).
      */
+    @SuppressWarnings("unchecked")
     public Map<String, Object> getCharacterTimeline(String serverId, String characterId) throws Exception {
+        String cacheKey = CachingService.getTimelineKey(serverId, characterId);
+        Object cached = cachingService.get(cacheKey);
+        if (cached instanceof Map<?, ?> cachedTimeline) {
+            log.debug("캐시에서 타임라인 조회: serverId={}, characterId={}", serverId, characterId);
+            return (Map<String, Object>) cachedTimeline;
+        }
+
+        return requestCoalescingService.execute(cacheKey, () -> {
+            Map<String, Object> timeline = fetchCharacterTimeline(serverId, characterId);
+            // 실패 응답은 캐싱하지 않음
+            if (!Boolean.TRUE.equals(timeline.get("success"))) {
+                return timeline;
+            }
+            Map<String, Object> readOnly = (Map<String, Object>) toReadOnly(timeline);
+            cachingService.put(cacheKey, readOnly, CachingService.CacheType.TIMELINE);
+            return readOnly;
+        });
+    }
+
+    /**
+     * 중첩된 Map / List까지 읽기 전용 복사본으로 변환 (캐시에 공유 값으로 두기 위함)
+     */
+    private static Object toReadOnly(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            Map<Object, Object> copy = new LinkedHashMap<>();
+            map.forEach((key, item) -> copy.put(key, toReadOnly(item)));
+            return Collections.unmodifiableMap(copy);
+        }
+        if (value instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>(list.size());
+            list.forEach(item -> copy.add(toReadOnly(item)));
+            return Collections.unmodifiableList(copy);
+        }
+        return value;
+    }
+
+    private Map<String, Object> fetchCharacterTimeline(String serverId, String characterId) throws Exception {
         try {
             System.out.println("=== 타임라인 API 호출 시작 ===");
             System.out.println("서버 ID: " + serverId);
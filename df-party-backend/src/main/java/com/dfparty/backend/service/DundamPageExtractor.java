@@ -0,0 +1,402 @@
+package com.dfparty.backend.service;
+
+import com.microsoft.playwright.Page;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 던담 캐릭터 페이지에서 버프력 / 총딜 추출
+ *
+ * 셀렉터마다 waitFor를 거는 대신 page.evaluate 한 번으로 모든 후보 셀렉터를 DOM에서 한꺼번에 훑어
+ * 전략별 후보 텍스트와 본문 텍스트를 받아온 뒤, 우선순위대로 값을 고른다.
+ * 전략별 적중 횟수를 메트릭으로 남겨 어떤 셀렉터가 아직 유효한지 확인할 수 있다.
+ */
+@Slf4j
+@Service
+public class DundamPageExtractor implements MeterBinder {
+
+    private static final String KIND_BUFF = "buff";
+    private static final String KIND_DAMAGE = "damage";
+
+    // 우선순위 순서 (EXTRACTION_SCRIPT의 전략 이름과 일치해야 함)
+    private static final List<String> BUFF_DOM_STRATEGIES = List.of(
+        "buff-4p", "buff-3p", "buff-2p", "buff-score", "buff-title", "buff-class");
+    private static final List<String> DAMAGE_CSS_STRATEGIES = List.of(
+        "damage-label-next", "damage-label-sibling", "damage-row-binding", "damage-class", "damage-total-class");
+    private static final List<String> DAMAGE_XPATH_STRATEGIES = List.of(
+        "damage-xpath-sibling", "damage-xpath-label", "damage-xpath-class");
+    private static final String BUFF_TEXT_STRATEGY = "buff-text";
+    private static final String DAMAGE_TEXT_STRATEGY = "damage-text";
+
+    private static final Pattern[] BUFF_TEXT_PATTERNS = {
+        Pattern.compile("4인 점수\\s*([0-9,]+)"),
+        Pattern.compile("3인 점수\\s*([0-9,]+)"),
+        Pattern.compile("2인 점수\\s*([0-9,]+)"),
+        Pattern.compile("버프점수\\s*([0-9,]+)"),
+        Pattern.compile("버프력\\s*([0-9,]+)")
+    };
+    private static final Pattern DAMAGE_TEXT_PATTERN = Pattern.compile("총딜\\s*:?\\s*([0-9,]+)");
+    private static final Pattern NON_DIGIT = Pattern.compile("[^0-9]");
+
+    // 총딜은 4자리 이상 숫자만 인정, long 범위를 넘는 숫자 덩어리는 무시
+    private static final int MIN_DAMAGE_DIGITS = 4;
+    private static final int MAX_DIGITS = 18;
+
+    /**
+     * 한 번의 DOM 순회로 종류(buff / damage)별 모든 전략의 후보 텍스트를 수집
+     * (Playwright 전용 :has-text()는 textContent 포함 여부로 대체)
+     */
+    private static final String EXTRACTION_SCRIPT = """
+        (kind) => {
+          const MAX = 20;
+          const texts = (nodes) => Array.from(nodes).slice(0, MAX)
+            .map(n => (n.textContent || '').trim())
+            .filter(t => t.length > 0);
+          const labeled = (labelSelector, label, valueSelector, adjacentOnly) => {
+            const found = [];
+            for (const el of document.querySelectorAll(labelSelector)) {
+              if (!(el.textContent || '').includes(label)) continue;
+              let sib = el.nextElementSibling;
+              while (sib) {
+                if (sib.matches(valueSelector)) found.push(sib);
+                if (adjacentOnly) break;
+                sib = sib.nextElementSibling;
+              }
+            }
+            return texts(found);
+          };
+          const xpath = (expr) => {
+            const snapshot = document.evaluate(expr, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+            const nodes = [];
+            for (let i = 0; i < snapshot.snapshotLength && i < MAX; i++) nodes.push(snapshot.snapshotItem(i));
+            return texts(nodes);
+          };
+          const strategies = kind === 'buff' ? {
+            'buff-4p': () => labeled('.dvtit.buff.secend', '4인 점수', '.dval.secend', true),
+            'buff-3p': () => labeled('.dvtit.buff.secend', '3인 점수', '.dval.secend', true),
+            'buff-2p': () => labeled('.dvtit.buff', '2인 점수', '.dval', true),
+            'buff-score': () => labeled('.dvtit.buff', '버프점수', '.dval', true),
+            'buff-title': () => texts(document.querySelectorAll("span[title^='버프력']")),
+            'buff-class': () => texts(document.querySelectorAll("[class*='buff'] [class*='value']"))
+          } : {
+            'damage-label-next': () => labeled('.dvtit', '총딜', '.dval', true),
+            'damage-label-sibling': () => labeled('.dvtit', '총딜', '.dval', false),
+            'damage-row-binding': () => texts(document.querySelectorAll('div.row > div:nth-child(2) .ng-binding')),
+            'damage-class': () => texts(document.querySelectorAll("[class*='damage']")),
+            'damage-total-class': () => texts(document.querySelectorAll("[class*='total']")),
+            'damage-xpath-sibling': () => xpath("//*[contains(text(),'총딜')]/following-sibling::*[contains(@class,'dval') or contains(@class,'value')]"),
+            'damage-xpath-label': () => xpath("//*[contains(text(),'총딜')]"),
+            'damage-xpath-class': () => xpath("//*[contains(@class,'damage')]//text()")
+          };
+          const result = {};
+          for (const [name, find] of Object.entries(strategies)) {
+            try { result[name] = find(); } catch (e) { result[name] = []; }
+          }
+          return { strategies: result, bodyText: document.body ? document.body.textContent : '' };
+        }
+        """;
+
+    // DOM 후보 중 숫자가 하나라도 보이면 렌더링 완료로 판단
+    private static final String CANDIDATE_READY_SCRIPT =
+        "kind => Object.values((" + EXTRACTION_SCRIPT + ")(kind).strategies).some(list => list.some(t => /[0-9]/.test(t)))";
+
+    private final double renderWaitMillis;
+
+    private final Map<String, LongAdder> attemptCounts = new HashMap<>();
+    private final Map<String, LongAdder> failureCounts = new HashMap<>();
+    private final Map<String, LongAdder> strategyHitCounts = new LinkedHashMap<>();
+
+    public DundamPageExtractor(@Value("${dundam.extraction.render-wait:3000}") long renderWaitMillis) {
+        this.renderWaitMillis = renderWaitMillis;
+        for (String kind : List.of(KIND_BUFF, KIND_DAMAGE)) {
+            attemptCounts.put(kind, new LongAdder());
+            failureCounts.put(kind, new LongAdder());
+        }
+        for (String strategy : allStrategies()) {
+            strategyHitCounts.put(strategy, new LongAdder());
+        }
+    }
+
+    private static List<String> allStrategies() {
+        List<String> strategies = new ArrayList<>(BUFF_DOM_STRATEGIES);
+        strategies.add(BUFF_TEXT_STRATEGY);
+        strategies.addAll(DAMAGE_CSS_STRATEGIES);
+        strategies.addAll(DAMAGE_XPATH_STRATEGIES);
+        strategies.add(DAMAGE_TEXT_STRATEGY);
+        return strategies;
+    }
+
+    /**
+     * 버퍼 버프력 추출 (결과 맵: buffPower, 실패 시 0)
+     */
+    public Map<String, Object> extractBuffPower(Page page) {
+        Map<String, Object> result = new HashMap<>();
+        long startTime = System.currentTimeMillis();
+        try {
+            ExtractionSnapshot snapshot = evaluate(page, KIND_BUFF);
+            Map<String, Long> hits = new LinkedHashMap<>();
+
+            for (String strategy : BUFF_DOM_STRATEGIES) {
+                for (String text : snapshot.candidates(strategy)) {
+                    Long value = parseNumber(text, 1);
+                    if (value != null) {
+                        hits.put(strategy, value);
+                        break;
+                    }
+                }
+            }
+            for (Pattern pattern : BUFF_TEXT_PATTERNS) {
+                Matcher matcher = pattern.matcher(snapshot.bodyText);
+                if (matcher.find()) {
+                    Long value = parseNumber(matcher.group(1), 1);
+                    if (value != null) {
+                        hits.put(BUFF_TEXT_STRATEGY, value);
+                        break;
+                    }
+                }
+            }
+            recordAttempt(KIND_BUFF, hits.keySet());
+
+            if (!hits.isEmpty()) {
+                Map.Entry<String, Long> selected = hits.entrySet().iterator().next();
+                result.put("buffPower", selected.getValue());
+                log.info("🎯 최종 버프력 추출 완료: {} (전략: {}, 소요시간: {}ms, 본문 {}자)",
+                    selected.getValue(), selected.getKey(), System.currentTimeMillis() - startTime, snapshot.bodyText.length());
+            } else {
+                log.warn("❌ 모든 방법으로 버프력 추출 실패 (소요시간: {}ms)", System.currentTimeMillis() - startTime);
+                result.put("buffPower", 0L);
+            }
+        } catch (Exception e) {
+            log.error("버프력 추출 중 예외 발생: {}", e.getMessage(), e);
+            result.put("buffPower", 0L);
+        }
+        return result;
+    }
+
+    /**
+     * 딜러 총딜 추출. 여러 값이 보이면 가장 큰 값(최신값)을 선택 (결과 맵: totalDamage, 실패 시 0)
+     */
+    public Map<String, Object> extractTotalDamage(Page page) {
+        Map<String, Object> result = new HashMap<>();
+        long startTime = System.currentTimeMillis();
+        try {
+            ExtractionSnapshot snapshot = evaluate(page, KIND_DAMAGE);
+            Set<String> hitStrategies = new LinkedHashSet<>();
+            Map<String, Set<Long>> valuesByStrategy = new LinkedHashMap<>();
+
+            for (String strategy : DAMAGE_CSS_STRATEGIES) {
+                collectDamageValues(strategy, snapshot.candidates(strategy), valuesByStrategy, hitStrategies);
+            }
+            for (String strategy : DAMAGE_XPATH_STRATEGIES) {
+                collectDamageValues(strategy, snapshot.candidates(strategy), valuesByStrategy, hitStrategies);
+            }
+            Set<Long> textValues = new LinkedHashSet<>();
+            Matcher matcher = DAMAGE_TEXT_PATTERN.matcher(snapshot.bodyText);
+            while (matcher.find()) {
+                Long value = parseNumber(matcher.group(1), 1);
+                if (value != null) {
+                    textValues.add(value);
+                }
+            }
+            if (!textValues.isEmpty()) {
+                valuesByStrategy.put(DAMAGE_TEXT_STRATEGY, textValues);
+                hitStrategies.add(DAMAGE_TEXT_STRATEGY);
+            }
+            recordAttempt(KIND_DAMAGE, hitStrategies);
+
+            // CSS -> XPath -> 본문 정규식 순으로, 앞 단계에서 찾으면 뒤 단계 값은 쓰지 않음 (CSS / XPath는 2개까지 수집)
+            Set<Long> totalDamageValues = selectDamageValues(valuesByStrategy, DAMAGE_CSS_STRATEGIES);
+            String method = "CSS 셀렉터";
+            if (totalDamageValues.isEmpty()) {
+                totalDamageValues = selectDamageValues(valuesByStrategy, DAMAGE_XPATH_STRATEGIES);
+                method = "XPath";
+            }
+            if (totalDamageValues.isEmpty()) {
+                totalDamageValues = valuesByStrategy.getOrDefault(DAMAGE_TEXT_STRATEGY, Collections.emptySet());
+                method = "텍스트 패턴";
+            }
+
+            if (!totalDamageValues.isEmpty()) {
+                long maxTotalDamage = totalDamageValues.stream().mapToLong(Long::longValue).max().orElse(0);
+                result.put("totalDamage", maxTotalDamage);
+                if (totalDamageValues.size() > 1) {
+                    log.info("⚠️ 여러 총딜 값 발견: {} (가장 큰 값 {} 선택)", totalDamageValues, maxTotalDamage);
+                }
+                log.info("🎯 {}로 총딜 추출 완료: {} (소요시간: {}ms)", method, maxTotalDamage, System.currentTimeMillis() - startTime);
+            } else {
+                log.warn("❌ 총딜 값을 찾을 수 없음 (소요시간: {}ms)", System.currentTimeMillis() - startTime);
+                result.put("totalDamage", 0L);
+            }
+        } catch (Exception e) {
+            log.error("총딜 추출 중 예외 발생: {}", e.getMessage(), e);
+            result.put("totalDamage", 0L);
+        }
+        return result;
+    }
+
+    private void collectDamageValues(String strategy, List<String> candidates,
+                                     Map<String, Set<Long>> valuesByStrategy, Set<String> hitStrategies) {
+        Set<Long> values = new LinkedHashSet<>();
+        for (String text : candidates) {
+            Long value = parseNumber(text, MIN_DAMAGE_DIGITS);
+            if (value != null) {
+                values.add(value);
+            }
+        }
+        if (!values.isEmpty()) {
+            valuesByStrategy.put(strategy, values);
+            hitStrategies.add(strategy);
+        }
+    }
+
+    private Set<Long> selectDamageValues(Map<String, Set<Long>> valuesByStrategy, List<String> strategies) {
+        Set<Long> selected = new LinkedHashSet<>();
+        for (String strategy : strategies) {
+            for (Long value : valuesByStrategy.getOrDefault(strategy, Collections.emptySet())) {
+                if (selected.size() >= 2) {
+                    return selected;
+                }
+                selected.add(value);
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * 추출 스크립트 1회 실행. DOM 후보가 아직 없으면 렌더링을 render-wait 동안 한 번만 기다린 뒤 다시 실행
+     */
+    private ExtractionSnapshot evaluate(Page page, String kind) {
+        ExtractionSnapshot snapshot = ExtractionSnapshot.from(page.evaluate(EXTRACTION_SCRIPT, kind));
+        if (!snapshot.hasDomCandidates()) {
+            try {
+                page.waitForFunction(CANDIDATE_READY_SCRIPT, kind, new Page.WaitForFunctionOptions().setTimeout(renderWaitMillis));
+                snapshot = ExtractionSnapshot.from(page.evaluate(EXTRACTION_SCRIPT, kind));
+            } catch (Exception e) {
+                log.debug("추출 후보 렌더링 대기 실패, 본문 텍스트로 진행: {}", e.getMessage());
+            }
+        }
+        return snapshot;
+    }
+
+    private static Long parseNumber(String text, int minDigits) {
+        if (text == null) {
+            return null;
+        }
+        String digits = NON_DIGIT.matcher(text).replaceAll("");
+        if (digits.length() < minDigits || digits.length() > MAX_DIGITS) {
+            return null;
+        }
+        return Long.parseLong(digits);
+    }
+
+    private void recordAttempt(String kind, Set<String> hitStrategies) {
+        attemptCounts.get(kind).increment();
+        if (hitStrategies.isEmpty()) {
+            failureCounts.get(kind).increment();
+        }
+        for (String strategy : hitStrategies) {
+            strategyHitCounts.get(strategy).increment();
+        }
+        log.debug("{} 추출 전략 적중: {}", kind, hitStrategies);
+    }
+
+    /**
+     * 전략별 적중률 (해당 종류 추출 시도 대비)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        for (String kind : List.of(KIND_BUFF, KIND_DAMAGE)) {
+            stats.put(kind + "Attempts", attemptCounts.get(kind).sum());
+            stats.put(kind + "Failures", failureCounts.get(kind).sum());
+        }
+        Map<String, Double> hitRates = new LinkedHashMap<>();
+        strategyHitCounts.forEach((strategy, hits) -> {
+            long attempts = attemptCounts.get(kindOf(strategy)).sum();
+            hitRates.put(strategy, attempts == 0 ? 0.0 : (double) hits.sum() / attempts);
+        });
+        stats.put("strategyHitRates", hitRates);
+        return stats;
+    }
+
+    private static String kindOf(String strategy) {
+        return strategy.startsWith(KIND_BUFF) ? KIND_BUFF : KIND_DAMAGE;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        attemptCounts.forEach((kind, count) ->
+            FunctionCounter.builder("dfparty.dundam.extraction.attempts", count, LongAdder::sum)
+                .tag("kind", kind)
+                .description("던담 추출 시도 수")
+                .register(registry));
+        failureCounts.forEach((kind, count) ->
+            FunctionCounter.builder("dfparty.dundam.extraction.failures", count, LongAdder::sum)
+                .tag("kind", kind)
+                .description("모든 전략이 실패한 던담 추출 수")
+                .register(registry));
+        strategyHitCounts.forEach((strategy, count) ->
+            FunctionCounter.builder("dfparty.dundam.extraction.hits", count, LongAdder::sum)
+                .tag("kind", kindOf(strategy))
+                .tag("strategy", strategy)
+                .description("전략별 값 발견 횟수")
+                .register(registry));
+    }
+
+    /**
+     * 추출 스크립트 결과 (전략 이름 -> 후보 텍스트, 본문 텍스트)
+     */
+    private static final class ExtractionSnapshot {
+        private final Map<String, List<String>> strategies;
+        private final String bodyText;
+
+        private ExtractionSnapshot(Map<String, List<String>> strategies, String bodyText) {
+            this.strategies = strategies;
+            this.bodyText = bodyText;
+        }
+
+        @SuppressWarnings("unchecked")
+        static ExtractionSnapshot from(Object raw) {
+            Map<String, List<String>> strategies = new HashMap<>();
+            String bodyText = "";
+            if (raw instanceof Map<?, ?> map) {
+                if (map.get("strategies") instanceof Map<?, ?> found) {
+                    found.forEach((name, texts) -> {
+                        if (texts instanceof List<?> list) {
+                            strategies.put(String.valueOf(name), (List<String>) list);
+                        }
+                    });
+                }
+                if (map.get("bodyText") instanceof String text) {
+                    bodyText = text;
+                }
+            }
+            return new ExtractionSnapshot(strategies, bodyText);
+        }
+
+        List<String> candidates(String strategy) {
+            return strategies.getOrDefault(strategy, Collections.emptyList());
+        }
+
+        boolean hasDomCandidates() {
+            return strategies.values().stream()
+                .flatMap(List::stream)
+                .anyMatch(text -> text.chars().anyMatch(Character::isDigit));
+        }
+    }
+}
@@ -1,18 +1,20 @@
 package com.dfparty.backend.service;
 
-import com.dfparty.backend.entity.Character;
 import com.dfparty.backend.repository.CharacterRepository;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.DayOfWeek;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
-import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -20,6 +22,20 @@ import java.util.List;
 public class DungeonClearResetService {
 
     private final CharacterRepository characterRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${dungeon-clear.reset.chunk-size:5000}")
+    private int resetChunkSize;
+
+    /**
+     * 설정 검증: chunk-size가 1보다 작으면 id 구간이 앞으로 나아가지 않아 초기화가 끝나지 않으므로 기동 시 실패시킨다.
+     */
+    @PostConstruct
+    void validateChunkSize() {
+        if (resetChunkSize < 1) {
+            throw new IllegalStateException("dungeon-clear.reset.chunk-size는 1 이상이어야 합니다: " + resetChunkSize);
+        }
+    }
 
     /**
      * 한국 표준시(KST) 기준 현재 시간 반환
@@ -34,37 +50,49 @@ public class DungeonClearResetService {
      * cron: 매주 목요일(4) 오전 8시 
      */
     @Scheduled(cron = "0 0 8 * * 4")
-    @Transactional
     public void resetDungeonClearStatus() {
         try {
             log.info("목요일 오전 8시 (KST) - 던전 클리어 상태 초기화 시작");
-            
-            // 모든 캐릭터 조회
-            List<Character> characters = characterRepository.findAll();
-            int resetCount = 0;
-            
-            for (Character character : characters) {
-                // 던전 클리어 상태 초기화
-                character.setDungeonClearNabel(false);
-                character.setDungeonClearVenus(false);
-                character.setDungeonClearFog(false);
-                character.setDungeonClearTwilight(false);
-                
-                // 마지막 던전 체크 시간 업데이트 (KST 기준)
-                character.setLastDungeonCheck(getCurrentTimeKST());
-                
-                // 변경사항 저장
-                characterRepository.save(character);
-                resetCount++;
+            runBulkReset();
+        } catch (Exception e) {
+            log.error("던전 클리어 상태 초기화 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * id 범위(chunk-size)마다 UPDATE 한 번씩, 각각 별도 트랜잭션으로 실행해 행 잠금 시간을 짧게 유지
+     */
+    private Map<String, Object> runBulkReset() {
+        long startTime = System.currentTimeMillis();
+        LocalDateTime checkedAt = getCurrentTimeKST();
+        // updatedAt은 Character @PreUpdate와 같이 시스템 시간대 기준 (같은 컬럼에 두 시간대가 섞이지 않도록)
+        LocalDateTime updatedAt = LocalDateTime.now();
 
+        Long minId = characterRepository.findMinId();
+        Long maxId = characterRepository.findMaxId();
+        int resetCount = 0;
+        int chunkCount = 0;
 
+        if (minId != null && maxId != null) {
+            for (long fromId = minId; fromId <= maxId; fromId += resetChunkSize) {
+                long chunkFrom = fromId;
+                long chunkTo = fromId + resetChunkSize;
+                Integer updated = transactionTemplate.execute(status ->
+                    characterRepository.resetDungeonClearStatusInRange(chunkFrom, chunkTo, checkedAt, updatedAt));
+                resetCount += updated != null ? updated : 0;
+                chunkCount++;
             }
-            
-            log.info("던전 클리어 상태 초기화 완료: {}개 캐릭터", resetCount);
-            
-        } catch (Exception e) {
-            log.error("던전 클리어 상태 초기화 중 오류 발생", e);
         }
+
+        long durationMs = System.currentTimeMillis() - startTime;
+        log.info("던전 클리어 상태 초기화 완료: {}개 캐릭터, {}개 구간, 소요시간 {}ms", resetCount, chunkCount, durationMs);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("resetCount", resetCount);
+        result.put("chunkCount", chunkCount);
+        result.put("durationMs", durationMs);
+        result.put("checkedAt", checkedAt.toString());
+        return result;
     }
 
     /**
@@ -94,9 +122,8 @@ public class DungeonClearResetService {
     /**
      * 수동으로 던전 클리어 상태 초기화 (테스트용)
      */
-    @Transactional
-    public void manualResetDungeonClearStatus() {
+    public Map<String, Object> manualResetDungeonClearStatus() {
         log.info("수동 던전 클리어 상태 초기화 시작 (KST 기준)");
-        resetDungeonClearStatus();
+        return runBulkReset();
     }
 }
@@ -1,18 +1,22 @@
 package com.dfparty.backend.service;
 
 import com.dfparty.backend.entity.Character;
+import com.dfparty.backend.model.CharacterRoster;
+import com.dfparty.backend.utils.CharacterUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class EightPersonPartyService {
     
+    private final CharacterUtils characterUtils;
+    private final PartyAssignmentSolver partyAssignmentSolver;
+    
     /**
      * 8인 파티 구성 (3딜러+1버퍼 × 2파티)
      */
@@ -24,19 +28,15 @@ public class EightPersonPartyService {
                 return Map.of("error", "8인 파티 구성에는 최소 8명의 캐릭터가 필요합니다.");
             }
             
-            // 캐릭터 분류
-            List<Character> dealers = filterDealers(characters);
-            List<Character> buffers = filterBuffers(characters);
-            List<Character> updoongis = filterUpdoongis(characters);
-            List<Character> others = filterOthers(characters);
+            // 캐릭터 스냅샷 구성 (역할 분류 포함, 요청당 한 번)
+            CharacterRoster roster = CharacterRoster.of(characters, characterUtils);
             
-            log.info("캐릭터 분류 완료 - 딜러: {}명, 버퍼: {}명, 업둥이: {}명, 기타: {}명", 
-                dealers.size(), buffers.size(), updoongis.size(), others.size());
+            log.info("캐릭터 분류 완료 - 딜러: {}명, 버퍼: {}명, 업둥이: {}명", 
+                roster.count(CharacterRoster.ROLE_DEALER), roster.count(CharacterRoster.ROLE_BUFFER),
+                roster.count(CharacterRoster.ROLE_UPDOONGI));
             
             // 8인 파티 구성
-            Map<String, Object> result = createBalancedEightPersonParty(
-                dealers, buffers, updoongis, others, dungeonName
-            );
+            Map<String, Object> result = createBalancedEightPersonParty(roster, dungeonName);
             
             if (result.containsKey("error")) {
                 return result;
@@ -53,24 +53,22 @@ public class EightPersonPartyService {
     
     /**
      * 밸런스가 맞는 8인 파티 구성
+     * 참가자(버퍼 2명 + 딜러 6명)는 업둥이 우선 / 명성 순으로 고르고, 두 파티 배정은 솔버로 명성 합 차이가 가장 작게 나눈다.
      */
-    private Map<String, Object> createBalancedEightPersonParty(
-            List<Character> dealers, 
-            List<Character> buffers, 
-            List<Character> updoongis, 
-            List<Character> others, 
-            String dungeonName) {
+    private Map<String, Object> createBalancedEightPersonParty(CharacterRoster roster, String dungeonName) {
         
         Map<String, Object> party = new HashMap<>();
         party.put("type", "8인 파티");
         party.put("dungeonName", dungeonName);
         party.put("createdAt", new Date());
         
-        // 1파티 구성 (3딜러 + 1버퍼)
-        Map<String, Object> party1 = createFirstParty(dealers, buffers, updoongis, others, dungeonName);
+        int[] buffers = priorityOrder(roster, CharacterRoster.ROLE_BUFFER, 0);
+        int[] dealers = priorityOrder(roster, 0, CharacterRoster.ROLE_BUFFER);
+        PartyAssignmentSolver.Assignment assignment = partyAssignmentSolver.solve(roster, buffers, dealers, 2, roster::fame);
         
-        // 2파티 구성 (3딜러 + 1버퍼)
-        Map<String, Object> party2 = createSecondParty(dealers, buffers, updoongis, others, dungeonName);
+        // 1파티 / 2파티 구성 (각각 3딜러 + 1버퍼)
+        Map<String, Object> party1 = createParty(roster, assignment.parties()[0], "1파티", 0);
+        Map<String, Object> party2 = createParty(roster, assignment.parties()[1], "2파티", 4);
         
         // 전체 파티 정보
         party.put("party1", party1);
@@ -82,317 +80,67 @@ public class EightPersonPartyService {
         
         // 파티 구성 분석
         Map<String, Object> analysis = analyzeEightPersonParty(party1, party2);
+        analysis.put("optimal", assignment.optimal());
         party.put("analysis", analysis);
         
         return party;
     }
     
     /**
-     * 1파티 구성 (3딜러 + 1버퍼)
-     */
-    private Map<String, Object> createFirstParty(
-            List<Character> dealers, 
-            List<Character> buffers, 
-            List<Character> updoongis, 
-            List<Character> others, 
-            String dungeonName) {
-        
-        Map<String, Object> party1 = new HashMap<>();
-        party1.put("type", "1파티");
-        party1.put("size", 4);
-        party1.put("composition", "3딜러 + 1버퍼");
-        
-        List<Map<String, Object>> slots = new ArrayList<>();
-        
-        // 1번 슬롯: 최고 명성 딜러 (업둥이 우선)
-        Character bestDealer = selectBestDealerForFirstParty(dealers, updoongis);
-        slots.add(createSlotInfo(bestDealer, "딜러", 0));
-        dealers.remove(bestDealer);
-        
-        // 2번 슬롯: 최고 명성 버퍼
-        Character bestBuffer = selectBestBufferForFirstParty(buffers, updoongis);
-        slots.add(createSlotInfo(bestBuffer, "버퍼", 1));
-        buffers.remove(bestBuffer);
-        
-        // 3번 슬롯: 두 번째 딜러
-        Character secondDealer = selectSecondDealer(dealers, updoongis);
-        slots.add(createSlotInfo(secondDealer, "딜러", 2));
-        dealers.remove(secondDealer);
-        
-        // 4번 슬롯: 세 번째 딜러
-        Character thirdDealer = selectThirdDealer(dealers, updoongis);
-        slots.add(createSlotInfo(thirdDealer, "딜러", 3));
-        dealers.remove(thirdDealer);
-        
-        party1.put("slots", slots);
-        
-        // 파티 효율성 계산
-        double efficiency = calculatePartyEfficiency(slots);
-        party1.put("efficiency", efficiency);
-        
-        return party1;
-    }
-    
-    /**
-     * 2파티 구성 (3딜러 + 1버퍼)
-     */
-    private Map<String, Object> createSecondParty(
-            List<Character> dealers, 
-            List<Character> buffers, 
-            List<Character> updoongis, 
-            List<Character> others, 
-            String dungeonName) {
-        
-        Map<String, Object> party2 = new HashMap<>();
-        party2.put("type", "2파티");
-        party2.put("size", 4);
-        party2.put("composition", "3딜러 + 1버퍼");
-        
-        List<Map<String, Object>> slots = new ArrayList<>();
-        
-        // 5번 슬롯: 남은 딜러 중 최고 명성
-        Character fourthDealer = selectBestRemainingDealer(dealers, updoongis);
-        slots.add(createSlotInfo(fourthDealer, "딜러", 4));
-        if (fourthDealer != null) dealers.remove(fourthDealer);
-        
-        // 6번 슬롯: 남은 버퍼 중 최고 명성
-        Character secondBuffer = selectBestRemainingBuffer(buffers, updoongis);
-        slots.add(createSlotInfo(secondBuffer, "버퍼", 5));
-        if (secondBuffer != null) buffers.remove(secondBuffer);
-        
-        // 7번 슬롯: 남은 딜러 또는 업둥이
-        Character fifthDealer = selectRemainingDealerOrUpdoongi(dealers, updoongis, others);
-        slots.add(createSlotInfo(fifthDealer, determineRole(fifthDealer), 6));
-        if (fifthDealer != null) {
-            if (dealers.contains(fifthDealer)) dealers.remove(fifthDealer);
-            if (updoongis.contains(fifthDealer)) updoongis.remove(fifthDealer);
-            if (others.contains(fifthDealer)) others.remove(fifthDealer);
-        }
-        
-        // 8번 슬롯: 남은 캐릭터 중 최고 명성
-        Character lastCharacter = selectBestRemainingCharacter(dealers, buffers, updoongis, others);
-        slots.add(createSlotInfo(lastCharacter, determineRole(lastCharacter), 7));
-        
-        party2.put("slots", slots);
-        
-        // 파티 효율성 계산
-        double efficiency = calculatePartyEfficiency(slots);
-        party2.put("efficiency", efficiency);
-        
-        return party2;
-    }
-    
-    /**
-     * 1파티용 최고 딜러 선택 (업둥이 우선)
-     */
-    private Character selectBestDealerForFirstParty(List<Character> dealers, List<Character> updoongis) {
-        // 업둥이 딜러 우선
-        List<Character> updoongiDealers = dealers.stream()
-            .filter(dealer -> updoongis.contains(dealer))
-            .sorted(Comparator.comparing(Character::getFame).reversed())
-            .collect(Collectors.toList());
-        
-        if (!updoongiDealers.isEmpty()) {
-            return updoongiDealers.get(0);
-        }
-        
-        // 일반 딜러 중 최고 명성
-        return dealers.stream()
-            .sorted(Comparator.comparing(Character::getFame).reversed())
-            .findFirst()
-            .orElse(null);
-    }
-    
-    /**
-     * 1파티용 최고 버퍼 선택 (업둥이 우선)
-     */
-    private Character selectBestBufferForFirstParty(List<Character> buffers, List<Character> updoongis) {
-        // 업둥이 버퍼 우선
-        List<Character> updoongiBuffers = buffers.stream()
-            .filter(buffer -> updoongis.contains(buffer))
-            .sorted(Comparator.comparing(Character::getFame).reversed())
-            .collect(Collectors.toList());
-        
-        if (!updoongiBuffers.isEmpty()) {
-            return updoongiBuffers.get(0);
-        }
-        
-        // 일반 버퍼 중 최고 명성
-        return buffers.stream()
-            .sorted(Comparator.comparing(Character::getFame).reversed())
-            .findFirst()
-            .orElse(null);
-    }
-    
-    /**
-     * 두 번째 딜러 선택
-     */
-    private Character selectSecondDealer(List<Character> dealers, List<Character> updoongis) {
-        if (dealers.isEmpty()) return null;
-        
-        // 업둥이 딜러 우선
-        List<Character> updoongiDealers = dealers.stream()
-            .filter(dealer -> updoongis.contains(dealer))
-            .sorted(Comparator.comparing(Character::getFame).reversed())
-            .collect(Collectors.toList());
-        
-        if (!updoongiDealers.isEmpty()) {
-            return updoongiDealers.get(0);
-        }
-        
-        // 일반 딜러 중 최고 명성
-        return dealers.stream()
-            .sorted(Comparator.comparing(Character::getFame).reversed())
-            .findFirst()
-            .orElse(null);
-    }
-    
-    /**
-     * 세 번째 딜러 선택
+     * 역할 조건에 맞는 캐릭터를 업둥이 먼저, 그 안에서 명성 순으로 나열
      */
-    private Character selectThirdDealer(List<Character> dealers, List<Character> updoongis) {
-        if (dealers.isEmpty()) return null;
-        
-        // 업둥이 딜러 우선
-        List<Character> updoongiDealers = dealers.stream()
-            .filter(dealer -> updoongis.contains(dealer))
-            .sorted(Comparator.comparing(Character::getFame).reversed())
-            .collect(Collectors.toList());
-        
-        if (!updoongiDealers.isEmpty()) {
-            return updoongiDealers.get(0);
-        }
-        
-        // 일반 딜러 중 최고 명성
-        return dealers.stream()
-            .sorted(Comparator.comparing(Character::getFame).reversed())
-            .findFirst()
-            .orElse(null);
-    }
-    
-    /**
-     * 남은 딜러 중 최고 명성 선택
-     */
-    private Character selectBestRemainingDealer(List<Character> dealers, List<Character> updoongis) {
-        if (dealers.isEmpty()) return null;
-        
-        // 업둥이 딜러 우선
-        List<Character> updoongiDealers = dealers.stream()
-            .filter(dealer -> updoongis.contains(dealer))
-            .sorted(Comparator.comparing(Character::getFame).reversed())
-            .collect(Collectors.toList());
-        
-        if (!updoongiDealers.isEmpty()) {
-            return updoongiDealers.get(0);
-        }
-        
-        // 일반 딜러 중 최고 명성
-        return dealers.stream()
-            .sorted(Comparator.comparing(Character::getFame).reversed())
-            .findFirst()
-            .orElse(null);
-    }
-    
-    /**
-     * 남은 버퍼 중 최고 명성 선택
-     */
-    private Character selectBestRemainingBuffer(List<Character> buffers, List<Character> updoongis) {
-        if (buffers.isEmpty()) return null;
-        
-        // 업둥이 버퍼 우선
-        List<Character> updoongiBuffers = buffers.stream()
-            .filter(buffer -> updoongis.contains(buffer))
-            .sorted(Comparator.comparing(Character::getFame).reversed())
-            .collect(Collectors.toList());
-        
-        if (!updoongiBuffers.isEmpty()) {
-            return updoongiBuffers.get(0);
-        }
-        
-        // 일반 버퍼 중 최고 명성
-        return buffers.stream()
-            .sorted(Comparator.comparing(Character::getFame).reversed())
-            .findFirst()
-            .orElse(null);
-    }
-    
-    /**
-     * 남은 딜러 또는 업둥이 선택
-     */
-    private Character selectRemainingDealerOrUpdoongi(
-            List<Character> dealers, 
-            List<Character> updoongis, 
-            List<Character> others) {
-        
-        // 업둥이 우선
-        if (!updoongis.isEmpty()) {
-            return updoongis.stream()
-                .sorted(Comparator.comparing(Character::getFame).reversed())
-                .findFirst()
-                .orElse(null);
-        }
-        
-        // 딜러 우선
-        if (!dealers.isEmpty()) {
-            return dealers.stream()
-                .sorted(Comparator.comparing(Character::getFame).reversed())
-                .findFirst()
-                .orElse(null);
-        }
-        
-        // 기타 캐릭터
-        if (!others.isEmpty()) {
-            return others.stream()
-                .sorted(Comparator.comparing(Character::getFame).reversed())
-                .findFirst()
-                .orElse(null);
+    private int[] priorityOrder(CharacterRoster roster, int requiredRoles, int excludedRoles) {
+        int[] order = new int[roster.size()];
+        int count = 0;
+        for (int pass = 0; pass < 2; pass++) {
+            for (int rank = 0; rank < roster.size(); rank++) {
+                int index = roster.indexAtFameRank(rank);
+                int roles = roster.roles(index);
+                if ((roles & requiredRoles) == requiredRoles && (roles & excludedRoles) == 0
+                        && roster.isUpdoongi(index) == (pass == 0)) {
+                    order[count++] = index;
+                }
+            }
         }
-        
-        return null;
+        return Arrays.copyOf(order, count);
     }
     
     /**
-     * 남은 캐릭터 중 최고 명성 선택
+     * 솔버가 배정한 파티를 슬롯 정보로 변환 (버퍼가 있으면 2번 슬롯, 나머지는 명성 순)
      */
-    private Character selectBestRemainingCharacter(
-            List<Character> dealers, 
-            List<Character> buffers, 
-            List<Character> updoongis, 
-            List<Character> others) {
-        
-        // 업둥이 우선
-        if (!updoongis.isEmpty()) {
-            return updoongis.stream()
-                .sorted(Comparator.comparing(Character::getFame).reversed())
-                .findFirst()
-                .orElse(null);
+    private Map<String, Object> createParty(CharacterRoster roster, int[] assigned, String type, int firstSlot) {
+        
+        Map<String, Object> partyInfo = new HashMap<>();
+        partyInfo.put("type", type);
+        partyInfo.put("size", 4);
+        partyInfo.put("composition", "3딜러 + 1버퍼");
+        
+        int[] members = new int[4];
+        Arrays.fill(members, -1);
+        boolean hasBuffer = assigned.length > 0 && roster.isBuffer(assigned[0]);
+        int next = 0;
+        for (int index : assigned) {
+            if (hasBuffer && index == assigned[0]) {
+                members[1] = index;
+            } else {
+                if (hasBuffer && next == 1) next++;
+                members[next++] = index;
+            }
         }
         
-        // 딜러 우선
-        if (!dealers.isEmpty()) {
-            return dealers.stream()
-                .sorted(Comparator.comparing(Character::getFame).reversed())
-                .findFirst()
-                .orElse(null);
+        List<Map<String, Object>> slots = new ArrayList<>();
+        for (int i = 0; i < members.length; i++) {
+            String role = hasBuffer && i == 1 ? "버퍼" : (hasBuffer ? "딜러" : determineRole(roster, members[i]));
+            slots.add(createSlotInfo(roster, members[i], role, firstSlot + i));
         }
         
-        // 버퍼
-        if (!buffers.isEmpty()) {
-            return buffers.stream()
-                .sorted(Comparator.comparing(Character::getFame).reversed())
-                .findFirst()
-                .orElse(null);
-        }
+        partyInfo.put("slots", slots);
         
-        // 기타 캐릭터
-        if (!others.isEmpty()) {
-            return others.stream()
-                .sorted(Comparator.comparing(Character::getFame).reversed())
-                .findFirst()
-                .orElse(null);
-        }
+        // 파티 효율성 계산
+        double efficiency = roster.fameEfficiency(members, members.length);
+        partyInfo.put("efficiency", efficiency);
         
-        return null;
+        return partyInfo;
     }
     
     /**
@@ -460,46 +208,21 @@ public class EightPersonPartyService {
     }
     
     // 유틸리티 메서드들
-    private List<Character> filterDealers(List<Character> characters) {
-        return characters.stream()
-            .filter(c -> c.getJobName() != null && !c.getJobName().contains("버퍼"))
-            .collect(Collectors.toList());
-    }
-    
-    private List<Character> filterBuffers(List<Character> characters) {
-        return characters.stream()
-            .filter(c -> c.getJobName() != null && c.getJobName().contains("버퍼"))
-            .collect(Collectors.toList());
-    }
-    
-    private List<Character> filterUpdoongis(List<Character> characters) {
-        return characters.stream()
-            .filter(c -> c.getIsFavorite() != null && c.getIsFavorite())
-            .collect(Collectors.toList());
-    }
-    
-    private List<Character> filterOthers(List<Character> characters) {
-        return characters.stream()
-            .filter(c -> c.getJobName() == null || 
-                (!c.getJobName().contains("버퍼") && 
-                 (c.getIsFavorite() == null || !c.getIsFavorite())))
-            .collect(Collectors.toList());
-    }
-    
-    private Map<String, Object> createSlotInfo(Character character, String role, int slotNumber) {
-        if (character == null) {
+    private Map<String, Object> createSlotInfo(CharacterRoster roster, int index, String role, int slotNumber) {
+        if (index < 0) {
             return createEmptySlot(slotNumber);
         }
         
+        Character character = roster.character(index);
         Map<String, Object> slot = new HashMap<>();
         slot.put("slotNumber", slotNumber + 1);
         slot.put("characterId", character.getCharacterId());
         slot.put("characterName", character.getCharacterName());
         slot.put("serverId", character.getServerId());
         slot.put("jobName", character.getJobName());
-        slot.put("fame", character.getFame() != null ? character.getFame().doubleValue() : 0.0);
+        slot.put("fame", (double) roster.fame(index));
         slot.put("role", role);
-        slot.put("isFavorite", character.getIsFavorite());
+        slot.put("isFavorite", roster.isUpdoongi(index));
         return slot;
     }
     
@@ -513,36 +236,14 @@ public class EightPersonPartyService {
         return emptySlot;
     }
     
-    private String determineRole(Character character) {
-        if (character == null) return "빈 슬롯";
-        if (character.getJobName() != null && character.getJobName().contains("버퍼")) {
+    private String determineRole(CharacterRoster roster, int index) {
+        if (index < 0) return "빈 슬롯";
+        if (roster.isBuffer(index)) {
             return "버퍼";
-        } else if (character.getIsFavorite() != null && character.getIsFavorite()) {
+        } else if (roster.isUpdoongi(index)) {
             return "업둥이";
         } else {
             return "딜러";
         }
     }
-    
-    private double calculatePartyEfficiency(List<Map<String, Object>> slots) {
-        if (slots.isEmpty()) return 0.0;
-        
-        List<Map<String, Object>> validSlots = slots.stream()
-            .filter(slot -> slot.get("characterId") != null)
-            .collect(Collectors.toList());
-        
-        if (validSlots.isEmpty()) return 0.0;
-        
-        double totalFame = validSlots.stream()
-            .mapToDouble(slot -> (Double) slot.get("fame"))
-            .sum();
-        
-        double avgFame = totalFame / validSlots.size();
-        double variance = validSlots.stream()
-            .mapToDouble(slot -> Math.pow((Double) slot.get("fame") - avgFame, 2))
-            .sum() / validSlots.size();
-        
-        // 효율성 = 평균 명성 - 표준편차 (밸런스 고려)
-        return avgFame - Math.sqrt(variance);
-    }
 }
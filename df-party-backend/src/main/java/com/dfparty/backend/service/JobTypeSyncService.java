@@ -35,7 +35,9 @@ public class JobTypeSyncService {
 	@Autowired
 	private CharacterUtils characterUtils;
 
-	private final RestTemplate restTemplate = new RestTemplate();
+	@Autowired
+	private RestTemplate restTemplate;
+
 	private final ObjectMapper objectMapper = new ObjectMapper();
 
 	/**
@@ -68,6 +70,7 @@ public class JobTypeSyncService {
 			}
 
 			log.info("직업 정보 동기화 완료: {}개 직업", jobTypes.size());
+			characterUtils.reloadJobTypes();
 
 		} catch (Exception e) {
 			log.error("직업 정보 동기화 중 오류 발생", e);
@@ -187,6 +190,7 @@ public class JobTypeSyncService {
 				log.info("새 직업 타입 생성: {} - {} (버퍼: {}, 딜러: {})",
 					jobName, jobGrowName, isBuffer, isDealer);
 			}
+			characterUtils.reloadJobTypes();
 		} catch (Exception e) {
 			log.error("직업 버퍼 상태 업데이트 중 오류 발생: {} - {}", jobName, jobGrowName, e);
 		}
@@ -218,6 +222,7 @@ public class JobTypeSyncService {
 			}
 
 			log.info("직업 상태 재계산 완료: {}개 업데이트", updatedCount);
+			characterUtils.reloadJobTypes();
 
 		} catch (Exception e) {
 			log.error("직업 상태 재계산 중 오류 발생", e);
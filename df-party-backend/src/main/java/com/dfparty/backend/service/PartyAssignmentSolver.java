@@ -0,0 +1,313 @@
+package com.dfparty.backend.service;
+
+import com.dfparty.backend.model.CharacterRoster;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntToLongFunction;
+import java.util.stream.IntStream;
+
+/**
+ * 파티 배정 솔버 (분기 한정법)
+ *
+ * 참가자를 4인 파티 여러 개에 나누어 "가장 약한 파티의 전력"이 최대가 되도록 배정한다.
+ * - 파티당 최대 4명, 버퍼는 파티당 최대 1명
+ * - 캐릭터를 전력 내림차순으로 하나씩 현재 가장 약한 파티부터 넣어 보며 탐색 (첫 해 = 그리디 LPT 배정)
+ * - 남은 캐릭터로 빈 슬롯을 가장 좋게 채운 값 / 전체 평균을 상한으로 가지치기
+ * - 상태가 같은 파티(전력, 인원, 버퍼 유무)는 한 번만 시도해 대칭 해를 건너뜀
+ * 제한 시간 안에 탐색이 끝나면 최적해, 시간이 다 되면 그때까지 찾은 최선의 해를 반환한다.
+ */
+@Slf4j
+@Service
+public class PartyAssignmentSolver {
+
+    private static final int DEADLINE_CHECK_INTERVAL = 4096;
+
+    private final long timeBudgetNanos;
+
+    public PartyAssignmentSolver(@Value("${party.solver.time-budget-ms:200}") long timeBudgetMillis) {
+        this.timeBudgetNanos = TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis);
+    }
+
+    /**
+     * 우선순위 순으로 정렬된 버퍼 / 딜러 후보에서 필요한 인원만 앞에서부터 뽑아 partyCount개 파티로 배정
+     * (버퍼 최대 partyCount명, 나머지 슬롯은 딜러로 채움, 뽑히지 않은 후보는 Assignment.unassigned로 돌려줌)
+     */
+    public Assignment solve(CharacterRoster roster, int[] buffers, int[] dealers, int partyCount, IntToLongFunction weight) {
+        if (partyCount <= 0) {
+            return new Assignment(new int[0][], new long[0], concat(buffers, 0, dealers, 0), true, 0, 0);
+        }
+        int bufferCount = Math.min(buffers.length, partyCount);
+        int dealerCount = Math.min(dealers.length, partyCount * CharacterRoster.PARTY_SLOTS - bufferCount);
+        int[] unassigned = concat(buffers, bufferCount, dealers, dealerCount);
+
+        int[] members = new int[bufferCount + dealerCount];
+        boolean[] isBuffer = new boolean[members.length];
+        for (int i = 0; i < bufferCount; i++) {
+            members[i] = buffers[i];
+            isBuffer[i] = true;
+        }
+        System.arraycopy(dealers, 0, members, bufferCount, dealerCount);
+
+        long[] weights = new long[members.length];
+        for (int i = 0; i < members.length; i++) {
+            weights[i] = Math.max(0L, weight.applyAsLong(members[i]));
+        }
+
+        Search search = new Search(members, isBuffer, weights, unassigned, partyCount, System.nanoTime() + timeBudgetNanos);
+        Assignment assignment = search.run();
+        log.debug("파티 배정 완료: 참가 {}명, 파티 {}개, 최약 파티 전력 {}, 최적 {}, 탐색 노드 {}, {}ms",
+            members.length, partyCount, assignment.weakestStrength(), assignment.optimal(),
+            assignment.exploredNodes(), assignment.elapsedMillis());
+        return assignment;
+    }
+
+    /**
+     * 로스터 전체를 4인 파티 여러 개로 분할 (버퍼 / 딜러 각각 전력 순)
+     * 4명이 안 되는 나머지와 파티 수보다 많은 버퍼는 배정하지 않고 Assignment.unassigned로 돌려준다.
+     */
+    public Assignment partition(CharacterRoster roster, IntToLongFunction weight) {
+        int partyCount = roster.size() / CharacterRoster.PARTY_SLOTS;
+        int[] buffers = new int[roster.size()];
+        int[] dealers = new int[roster.size()];
+        int bufferCount = 0;
+        int dealerCount = 0;
+        for (int index : orderByWeightDesc(roster.size(), weight)) {
+            if (roster.isBuffer(index)) {
+                buffers[bufferCount++] = index;
+            } else {
+                dealers[dealerCount++] = index;
+            }
+        }
+        Assignment assignment = solve(roster, Arrays.copyOf(buffers, bufferCount), Arrays.copyOf(dealers, dealerCount), partyCount, weight);
+        if (assignment.unassigned().length > 0) {
+            log.info("파티 분할: 전체 {}명 중 {}명 미배정 (파티 {}개, 버퍼 {}명)",
+                roster.size(), assignment.unassigned().length, partyCount, bufferCount);
+        }
+        return assignment;
+    }
+
+    // a[aFrom..] + b[bFrom..]
+    private static int[] concat(int[] a, int aFrom, int[] b, int bFrom) {
+        int[] result = new int[(a.length - aFrom) + (b.length - bFrom)];
+        System.arraycopy(a, aFrom, result, 0, a.length - aFrom);
+        System.arraycopy(b, bFrom, result, a.length - aFrom, b.length - bFrom);
+        return result;
+    }
+
+    private static int[] orderByWeightDesc(int size, IntToLongFunction weight) {
+        long[] weights = new long[size];
+        for (int i = 0; i < size; i++) {
+            weights[i] = weight.applyAsLong(i);
+        }
+        return sortedIndicesDesc(weights);
+    }
+
+    private static int[] sortedIndicesDesc(long[] weights) {
+        return IntStream.range(0, weights.length)
+            .boxed()
+            .sorted((a, b) -> Long.compare(weights[b], weights[a]))
+            .mapToInt(Integer::intValue)
+            .toArray();
+    }
+
+    /**
+     * 배정 결과
+     * parties[p]: 파티 p의 캐릭터 인덱스 (버퍼가 있으면 맨 앞, 나머지는 전력 순, 빈 슬롯 없이 인원만큼)
+     * unassigned: 어느 파티에도 들어가지 못한 후보 (남는 버퍼 → 남는 딜러 순)
+     */
+    public record Assignment(int[][] parties, long[] strengths, int[] unassigned, boolean optimal,
+                             long exploredNodes, long elapsedMillis) {
+
+        public int partyCount() {
+            return parties.length;
+        }
+
+        public long weakestStrength() {
+            return Arrays.stream(strengths).min().orElse(0L);
+        }
+
+        public long strongestStrength() {
+            return Arrays.stream(strengths).max().orElse(0L);
+        }
+    }
+
+    /**
+     * 한 번의 분기 한정 탐색 (요청마다 새로 만들고 버림)
+     */
+    private static final class Search {
+        private final int[] characters;
+        private final boolean[] isBuffer;
+        private final long[] weights;
+        private final long[] prefix;
+        private final int itemCount;
+        private final int partyCount;
+        private final long deadline;
+        private final long averageBound;
+        private final int[] unassigned;
+
+        private final long[] partySum;
+        private final int[] partySize;
+        private final boolean[] partyHasBuffer;
+        private final int[] assignment;
+        private final int[][] orderByDepth;
+
+        private int[] bestAssignment;
+        private long bestMin = Long.MIN_VALUE;
+        private long nodes;
+        private boolean stopped;
+        private boolean provenOptimal;
+
+        Search(int[] members, boolean[] memberIsBuffer, long[] memberWeights, int[] unassigned, int partyCount, long deadline) {
+            // 전력 내림차순으로 배치 (동률이면 버퍼 먼저)
+            Integer[] order = new Integer[members.length];
+            for (int i = 0; i < order.length; i++) order[i] = i;
+            Arrays.sort(order, (a, b) -> {
+                int byWeight = Long.compare(memberWeights[b], memberWeights[a]);
+                return byWeight != 0 ? byWeight : Boolean.compare(memberIsBuffer[b], memberIsBuffer[a]);
+            });
+
+            this.itemCount = members.length;
+            this.characters = new int[itemCount];
+            this.isBuffer = new boolean[itemCount];
+            this.weights = new long[itemCount];
+            this.prefix = new long[itemCount + 1];
+            for (int i = 0; i < itemCount; i++) {
+                characters[i] = members[order[i]];
+                isBuffer[i] = memberIsBuffer[order[i]];
+                weights[i] = memberWeights[order[i]];
+                prefix[i + 1] = prefix[i] + weights[i];
+            }
+
+            this.unassigned = unassigned;
+            this.partyCount = partyCount;
+            this.deadline = deadline;
+            this.averageBound = prefix[itemCount] / partyCount;
+            this.partySum = new long[partyCount];
+            this.partySize = new int[partyCount];
+            this.partyHasBuffer = new boolean[partyCount];
+            this.assignment = new int[itemCount];
+            this.orderByDepth = new int[itemCount][partyCount];
+        }
+
+        Assignment run() {
+            long startedAt = System.nanoTime();
+            int remainingBuffers = 0;
+            for (boolean buffer : isBuffer) {
+                if (buffer) remainingBuffers++;
+            }
+            search(0, remainingBuffers);
+            boolean optimal = provenOptimal || !stopped;
+            return toAssignment(optimal, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        }
+
+        private void search(int depth, int remainingBuffers) {
+            nodes++;
+            if (bestAssignment != null && (nodes % DEADLINE_CHECK_INTERVAL) == 0 && System.nanoTime() > deadline) {
+                stopped = true;
+                return;
+            }
+
+            if (depth == itemCount) {
+                long min = Long.MAX_VALUE;
+                for (long sum : partySum) min = Math.min(min, sum);
+                if (min > bestMin) {
+                    bestMin = min;
+                    bestAssignment = assignment.clone();
+                    if (bestMin >= averageBound) {
+                        // 평균 이상은 불가능하므로 더 볼 필요 없음
+                        provenOptimal = true;
+                        stopped = true;
+                    }
+                }
+                return;
+            }
+
+            // 상한: 각 파티의 빈 슬롯을 남은 캐릭터 중 가장 강한 순으로 채운 경우 / 전체 평균
+            long upperBound = averageBound;
+            int bufferSlots = 0;
+            for (int p = 0; p < partyCount; p++) {
+                int free = CharacterRoster.PARTY_SLOTS - partySize[p];
+                long optimistic = partySum[p] + prefix[Math.min(itemCount, depth + free)] - prefix[depth];
+                upperBound = Math.min(upperBound, optimistic);
+                if (free > 0 && !partyHasBuffer[p]) bufferSlots++;
+            }
+            if (bestAssignment != null && upperBound <= bestMin) {
+                return;
+            }
+            // 남은 버퍼를 받을 파티가 부족하면 이 배정으로는 완성 불가
+            if (bufferSlots < remainingBuffers) {
+                return;
+            }
+
+            boolean buffer = isBuffer[depth];
+            int[] order = orderByDepth[depth];
+            int candidates = 0;
+            for (int p = 0; p < partyCount; p++) {
+                if (partySize[p] >= CharacterRoster.PARTY_SLOTS || (buffer && partyHasBuffer[p])) continue;
+                // 전력 오름차순 삽입 정렬 (약한 파티부터 시도, 상태가 같은 파티는 이웃하도록)
+                int pos = candidates++;
+                while (pos > 0 && compareState(order[pos - 1], p) > 0) {
+                    order[pos] = order[pos - 1];
+                    pos--;
+                }
+                order[pos] = p;
+            }
+
+            for (int c = 0; c < candidates; c++) {
+                int p = order[c];
+                if (c > 0 && sameState(order[c - 1], p)) continue;
+
+                partySum[p] += weights[depth];
+                partySize[p]++;
+                if (buffer) partyHasBuffer[p] = true;
+                assignment[depth] = p;
+
+                search(depth + 1, buffer ? remainingBuffers - 1 : remainingBuffers);
+
+                partySum[p] -= weights[depth];
+                partySize[p]--;
+                if (buffer) partyHasBuffer[p] = false;
+
+                if (stopped) return;
+            }
+        }
+
+        private int compareState(int a, int b) {
+            int bySum = Long.compare(partySum[a], partySum[b]);
+            if (bySum != 0) return bySum;
+            int bySize = Integer.compare(partySize[a], partySize[b]);
+            return bySize != 0 ? bySize : Boolean.compare(partyHasBuffer[a], partyHasBuffer[b]);
+        }
+
+        private boolean sameState(int a, int b) {
+            return compareState(a, b) == 0;
+        }
+
+        private Assignment toAssignment(boolean optimal, long elapsedMillis) {
+            int[][] parties = new int[partyCount][];
+            long[] strengths = new long[partyCount];
+            int[] sizes = new int[partyCount];
+            int[][] slots = new int[partyCount][CharacterRoster.PARTY_SLOTS];
+            if (bestAssignment != null) {
+                // 버퍼를 맨 앞에 두고 나머지는 전력 순 (items가 이미 전력 내림차순)
+                for (int pass = 0; pass < 2; pass++) {
+                    for (int i = 0; i < itemCount; i++) {
+                        if (isBuffer[i] == (pass == 0)) {
+                            int p = bestAssignment[i];
+                            slots[p][sizes[p]++] = characters[i];
+                            strengths[p] += weights[i];
+                        }
+                    }
+                }
+            }
+            for (int p = 0; p < partyCount; p++) {
+                parties[p] = Arrays.copyOf(slots[p], sizes[p]);
+            }
+            return new Assignment(parties, strengths, unassigned, optimal, nodes, elapsedMillis);
+        }
+    }
+}
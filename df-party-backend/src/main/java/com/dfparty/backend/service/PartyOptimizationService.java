@@ -3,12 +3,14 @@ package com.dfparty.backend.service;
 import com.dfparty.backend.dto.CharacterDto;
 import com.dfparty.backend.entity.Character;
 import com.dfparty.backend.entity.NabelDifficultySelection;
+import com.dfparty.backend.model.CharacterRoster;
 import com.dfparty.backend.repository.CharacterRepository;
 import com.dfparty.backend.repository.NabelDifficultySelectionRepository;
 import com.dfparty.backend.utils.CharacterUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -26,7 +28,9 @@ public class PartyOptimizationService {
 
     /**
      * 파티 최적화 메인 메서드
+     * 조회한 캐릭터는 수정하지 않으므로 읽기 전용 트랜잭션으로 스냅샷 / dirty checking 생략
      */
+    @Transactional(readOnly = true)
     public Map<String, Object> optimizeParty(Map<String, Object> request) {
         try {
             String optimizationType = (String) request.getOrDefault("type", "balanced");
@@ -34,17 +38,15 @@ public class PartyOptimizationService {
             String dungeonType = (String) request.get("dungeonType"); // "nabel", "venus", "fog"
             String difficulty = (String) request.get("difficulty"); // "normal", "hard" (나벨 전용)
             
-            List<Character> availableCharacters = characterRepository.findByIsExcludedFalse();
-            
             switch (optimizationType) {
                 case "nabel":
-                    // 나벨 전용 파티 구성
+                    // 나벨 전용 파티 구성 (요청의 모험단 그룹만 사용하므로 DB 조회 불필요)
                     return createNabelOptimizedParty(difficulty, request);
                 case "updoongi":
-                    return createUpdoongiPriorityParty(availableCharacters, partySize);
+                    return createUpdoongiPriorityParty(characterRepository.findByIsExcludedFalse(), partySize);
                 case "balanced":
                 default:
-                    return createBalancedParty(availableCharacters, partySize);
+                    return createBalancedParty(characterRepository.findByIsExcludedFalse(), partySize);
             }
         } catch (Exception e) {
             log.error("파티 최적화 중 오류 발생", e);
@@ -67,31 +69,34 @@ public class PartyOptimizationService {
                 return createErrorResponse("캐릭터 목록이 비어있습니다.");
             }
             
-            // 캐릭터 데이터를 Character 객체로 변환
+            // 캐릭터 데이터를 Character 객체로 변환 후 스냅샷 구성
             List<Character> characters = charactersData.stream()
                 .map(this::mapToCharacter)
                 .collect(Collectors.toList());
+            CharacterRoster roster = CharacterRoster.of(characters, characterUtils);
             
             // 던전별 필터링 적용
-            List<Character> filteredCharacters = filterCharactersByDungeon(characters, dungeonType);
+            int[] candidates = filterCharactersByDungeon(roster, dungeonType);
             
-            if (filteredCharacters.size() < 4) {
+            if (candidates.length < 4) {
                 return createErrorResponse("파티 구성에 필요한 캐릭터가 부족합니다. (최소 4명 필요)");
             }
             
             // 최적화된 파티 구성
-            List<Character> optimizedParty = createOptimizedParty(filteredCharacters, dungeonType);
+            int[] optimizedParty = createOptimizedParty(roster, candidates);
             
             // 응답 형식에 맞게 변환
+            List<Map<String, Object>> members = new ArrayList<>(optimizedParty.length);
+            for (int index : optimizedParty) {
+                members.add(convertToPartyMember(roster, index));
+            }
             Map<String, Object> result = new HashMap<>();
             result.put("success", true);
-            result.put("party", optimizedParty.stream()
-                .map(this::convertToPartyMember)
-                .collect(Collectors.toList()));
-            result.put("stats", calculatePartyStats(optimizedParty));
+            result.put("party", members);
+            result.put("stats", calculatePartyStats(roster, optimizedParty));
             result.put("dungeonType", dungeonType);
             
-            log.info("파티 최적화 완료: {}명 파티", optimizedParty.size());
+            log.info("파티 최적화 완료: {}명 파티", optimizedParty.length);
             return result;
             
         } catch (Exception e) {
@@ -115,80 +120,76 @@ public class PartyOptimizationService {
         return character;
     }
     
-    private List<Character> filterCharactersByDungeon(List<Character> characters, String dungeonType) {
-        return characters.stream()
-            .filter(character -> {
-                switch (dungeonType) {
-                    case "nabel":
-                        return !Boolean.TRUE.equals(character.getDungeonClearNabel());
-                    case "venus":
-                        return !Boolean.TRUE.equals(character.getDungeonClearVenus());
-                    case "fog":
-                        return !Boolean.TRUE.equals(character.getDungeonClearFog());
-                    default:
-                        return true;
-                }
-            })
-            .collect(Collectors.toList());
+    /**
+     * 던전을 아직 클리어하지 않은 캐릭터 인덱스 (던전 미지정 / 알 수 없는 던전이면 전체)
+     */
+    private int[] filterCharactersByDungeon(CharacterRoster roster, String dungeonType) {
+        CharacterRoster.Dungeon dungeon = CharacterRoster.Dungeon.from(dungeonType);
+        int[] candidates = new int[roster.size()];
+        int count = 0;
+        for (int i = 0; i < roster.size(); i++) {
+            if (dungeon == null || dungeon == CharacterRoster.Dungeon.TWILIGHT || !roster.isCleared(i, dungeon)) {
+                candidates[count++] = i;
+            }
+        }
+        return Arrays.copyOf(candidates, count);
     }
     
-    private List<Character> createOptimizedParty(List<Character> characters, String dungeonType) {
-        // 캐릭터를 버프력과 전투력 기준으로 정렬
-        List<Character> sortedCharacters = characters.stream()
-            .sorted((a, b) -> {
-                // 총 스탯 기준으로 정렬 (버프력 + 전투력)
-                long totalA = (a.getBuffPower() != null ? a.getBuffPower() : 0L) + 
-                             (a.getTotalDamage() != null ? a.getTotalDamage() : 0L);
-                long totalB = (b.getBuffPower() != null ? b.getBuffPower() : 0L) + 
-                             (b.getTotalDamage() != null ? b.getTotalDamage() : 0L);
-                return Long.compare(totalB, totalA);
-            })
-            .collect(Collectors.toList());
+    /**
+     * 총 스탯(버프력 + 전투력) 순으로 버퍼 1명(버프력 > 전투력) + 나머지 3명 선택
+     */
+    private int[] createOptimizedParty(CharacterRoster roster, int[] candidates) {
+        BitSet candidateSet = new BitSet(roster.size());
+        for (int index : candidates) {
+            candidateSet.set(index);
+        }
+        int[] order = roster.orderByCombatPowerDesc();
         
-        // 최적화된 4인 파티 구성
-        List<Character> optimizedParty = new ArrayList<>();
+        int[] party = new int[4];
+        int size = 0;
         
         // 버퍼 우선 선택 (버프력이 전투력보다 높은 캐릭터)
-        List<Character> buffers = sortedCharacters.stream()
-            .filter(c -> (c.getBuffPower() != null ? c.getBuffPower() : 0L) > 
-                        (c.getTotalDamage() != null ? c.getTotalDamage() : 0L))
-            .collect(Collectors.toList());
-        
-        if (!buffers.isEmpty()) {
-            optimizedParty.add(buffers.get(0));
-            sortedCharacters.remove(buffers.get(0));
+        int buffer = -1;
+        for (int index : order) {
+            if (candidateSet.get(index) && roster.buff(index) > roster.damage(index)) {
+                buffer = index;
+                party[size++] = index;
+                break;
+            }
         }
         
-        // 나머지 3명은 전투력 높은 순으로 선택
-        optimizedParty.addAll(sortedCharacters.stream()
-            .limit(3)
-            .collect(Collectors.toList()));
-        
-        return optimizedParty;
+        // 나머지 3명은 총 스탯 높은 순으로 선택
+        for (int index : order) {
+            if (size == party.length) break;
+            if (candidateSet.get(index) && index != buffer) {
+                party[size++] = index;
+            }
+        }
+        return Arrays.copyOf(party, size);
     }
     
-    private Map<String, Object> convertToPartyMember(Character character) {
+    private Map<String, Object> convertToPartyMember(CharacterRoster roster, int index) {
+        Character character = roster.character(index);
         Map<String, Object> member = new HashMap<>();
         member.put("characterId", character.getCharacterId());
         member.put("serverId", character.getServerId());
         member.put("characterName", character.getCharacterName());
         member.put("adventureName", character.getAdventureName());
-        member.put("totalDamage", character.getTotalDamage() != null ? character.getTotalDamage() : 0L);
-        member.put("buffPower", character.getBuffPower() != null ? character.getBuffPower() : 0L);
-        member.put("fame", character.getFame() != null ? character.getFame() : 0L);
+        member.put("totalDamage", roster.damage(index));
+        member.put("buffPower", roster.buff(index));
+        member.put("fame", roster.fame(index));
         return member;
     }
     
-    private Map<String, Object> calculatePartyStats(List<Character> party) {
+    private Map<String, Object> calculatePartyStats(CharacterRoster roster, int[] party) {
         Map<String, Object> stats = new HashMap<>();
         
-        long totalDamage = party.stream()
-            .mapToLong(c -> c.getTotalDamage() != null ? c.getTotalDamage() : 0L)
-            .sum();
-        
-        long totalBuffPower = party.stream()
-            .mapToLong(c -> c.getBuffPower() != null ? c.getBuffPower() : 0L)
-            .sum();
+        long totalDamage = 0;
+        long totalBuffPower = 0;
+        for (int index : party) {
+            totalDamage += roster.damage(index);
+            totalBuffPower += roster.buff(index);
+        }
         
         // 파티 전투력 계산 (간단한 공식: 전투력 + 버프력 * 1.5)
         long partyCombatPower = totalDamage + (long)(totalBuffPower * 1.5);
@@ -196,7 +197,7 @@ public class PartyOptimizationService {
         stats.put("totalDamage", totalDamage);
         stats.put("totalBuffPower", totalBuffPower);
         stats.put("partyCombatPower", partyCombatPower);
-        stats.put("memberCount", party.size());
+        stats.put("memberCount", party.length);
         
         return stats;
     }
@@ -216,19 +217,16 @@ public class PartyOptimizationService {
         log.info("업둥이 우선 파티 구성 시작: {}명", partySize);
         
         try {
-            // 캐릭터 분류
-            List<Character> dealers = filterDealers(characters);
-            List<Character> buffers = filterBuffers(characters);
-            List<Character> updoongis = filterUpdoongis(characters);
-            List<Character> others = filterOthers(characters);
+            CharacterRoster roster = createRankedRoster(characters);
+            BitSet used = new BitSet(roster.size());
             
             // 파티 구성
             Map<String, Object> party = new HashMap<>();
             
             if (partySize == 4) {
-                party = create4PersonParty(dealers, buffers, updoongis, others);
+                party = create4PersonParty(roster, used);
             } else if (partySize == 8) {
-                party = create8PersonParty(dealers, buffers, updoongis, others);
+                party = create8PersonParty(roster, used);
             }
             
             log.info("업둥이 우선 파티 구성 완료");
@@ -247,18 +245,16 @@ public class PartyOptimizationService {
         log.info("평균 파티 구성 시작: {}명", partySize);
         
         try {
-            // 캐릭터 분류
-            List<Character> dealers = filterDealers(characters);
-            List<Character> buffers = filterBuffers(characters);
-            List<Character> others = filterOthers(characters);
+            CharacterRoster roster = createRankedRoster(characters);
+            BitSet used = new BitSet(roster.size());
             
             // 파티 구성
             Map<String, Object> party = new HashMap<>();
             
             if (partySize == 4) {
-                party = createBalanced4PersonParty(dealers, buffers, others);
+                party = createBalanced4PersonParty(roster, used);
             } else if (partySize == 8) {
-                party = createBalanced8PersonParty(dealers, buffers, others);
+                party = createBalanced8PersonParty(roster, used);
             }
             
             log.info("평균 파티 구성 완료");
@@ -270,57 +266,50 @@ public class PartyOptimizationService {
         }
     }
     
+    /**
+     * 명성이 있는 캐릭터만으로 스냅샷 구성 (요청당 한 번)
+     */
+    private CharacterRoster createRankedRoster(List<Character> characters) {
+        List<Character> ranked = characters.stream()
+            .filter(c -> c.getFame() != null && c.getFame() > 0)
+            .collect(Collectors.toList());
+        return CharacterRoster.of(ranked, characterUtils);
+    }
+    
     /**
      * 4인 파티 구성 (업둥이 우선)
      */
-    private Map<String, Object> create4PersonParty(List<Character> dealers, List<Character> buffers, 
-                                                   List<Character> updoongis, List<Character> others) {
+    private Map<String, Object> create4PersonParty(CharacterRoster roster, BitSet used) {
         Map<String, Object> party = new HashMap<>();
         List<Map<String, Object>> slots = new ArrayList<>();
+        int[] members = new int[4];
+        int size = 0;
         
         // 1. 쌘딜러 1명 선택 (명성 기준)
-        Character bestDealer = selectBestDealer(dealers);
-        if (bestDealer != null) {
-            slots.add(createSlotInfo(bestDealer, "딜러", 1));
-            dealers.remove(bestDealer);
+        int bestDealer = roster.bestByFame(CharacterRoster.ROLE_DEALER, used);
+        if (bestDealer >= 0) {
+            members[size++] = addSlot(roster, used, slots, bestDealer, "딜러");
         }
         
-        // 2. 버퍼 1명 선택 (버프력 기준)
-        Character bestBuffer = selectBestBuffer(buffers);
-        if (bestBuffer != null) {
-            slots.add(createSlotInfo(bestBuffer, "버퍼", 2));
-            buffers.remove(bestBuffer);
+        // 2. 버퍼 1명 선택 (명성 기준)
+        int bestBuffer = roster.bestByFame(CharacterRoster.ROLE_BUFFER, used);
+        if (bestBuffer >= 0) {
+            members[size++] = addSlot(roster, used, slots, bestBuffer, "버퍼");
         }
         
         // 3. 업둥이들 우선 배치
-        int remainingSlots = 4 - slots.size();
-        List<Character> selectedUpdoongis = selectUpdoongis(updoongis, remainingSlots);
-        
-        for (int i = 0; i < selectedUpdoongis.size(); i++) {
-            Character updoongi = selectedUpdoongis.get(i);
-            slots.add(createSlotInfo(updoongi, "업둥이", slots.size() + 1));
-            updoongis.remove(updoongi);
+        int updoongi;
+        while (size < 4 && (updoongi = roster.bestByFame(CharacterRoster.ROLE_UPDOONGI, used)) >= 0) {
+            members[size++] = addSlot(roster, used, slots, updoongi, "업둥이");
         }
         
-        // 4. 남은 슬롯을 다른 캐릭터로 채움
-        remainingSlots = 4 - slots.size();
-        if (remainingSlots > 0) {
-            List<Character> allRemaining = new ArrayList<>();
-            allRemaining.addAll(dealers);
-            allRemaining.addAll(buffers);
-            allRemaining.addAll(others);
-            
-            List<Character> selectedOthers = selectBestCharacters(allRemaining, remainingSlots);
-            for (int i = 0; i < selectedOthers.size(); i++) {
-                Character other = selectedOthers.get(i);
-                slots.add(createSlotInfo(other, "일반", slots.size() + 1));
-            }
-        }
+        // 4. 남은 슬롯을 다른 캐릭터로 채움 (딜러 → 버퍼 순)
+        size = fillRemainingSlots(roster, used, slots, members, size);
         
         party.put("slots", slots);
         party.put("partySize", 4);
         party.put("type", "업둥이 우선");
-        party.put("efficiency", calculatePartyEfficiency(slots));
+        party.put("efficiency", roster.fameEfficiency(members, size));
         
         return party;
     }
@@ -328,13 +317,12 @@ public class PartyOptimizationService {
     /**
      * 8인 파티 구성 (업둥이 우선)
      */
-    private Map<String, Object> create8PersonParty(List<Character> dealers, List<Character> buffers, 
-                                                   List<Character> updoongis, List<Character> others) {
+    private Map<String, Object> create8PersonParty(CharacterRoster roster, BitSet used) {
         Map<String, Object> party = new HashMap<>();
         
         // 8인 파티를 2개의 4인 파티로 분할
-        Map<String, Object> party1 = create4PersonParty(dealers, buffers, updoongis, others);
-        Map<String, Object> party2 = create4PersonParty(dealers, buffers, updoongis, others);
+        Map<String, Object> party1 = create4PersonParty(roster, used);
+        Map<String, Object> party2 = create4PersonParty(roster, used);
         
         party.put("party1", party1);
         party.put("party2", party2);
@@ -348,50 +336,29 @@ public class PartyOptimizationService {
     /**
      * 4인 파티 구성 (밸런스 최적화)
      */
-    private Map<String, Object> createBalanced4PersonParty(List<Character> dealers, List<Character> buffers, 
-                                                           List<Character> others) {
+    private Map<String, Object> createBalanced4PersonParty(CharacterRoster roster, BitSet used) {
         Map<String, Object> party = new HashMap<>();
         List<Map<String, Object>> slots = new ArrayList<>();
+        int[] members = new int[4];
+        int size = 0;
         
-        // 딜러와 버퍼의 비율을 3:1로 조정
-        int dealerCount = Math.min(3, dealers.size());
-        int bufferCount = Math.min(1, buffers.size());
-        
-        // 딜러 선택 (명성 기준)
-        List<Character> selectedDealers = selectBestCharacters(dealers, dealerCount);
-        for (int i = 0; i < selectedDealers.size(); i++) {
-            Character dealer = selectedDealers.get(i);
-            slots.add(createSlotInfo(dealer, "딜러", slots.size() + 1));
-            dealers.remove(dealer);
+        // 딜러와 버퍼의 비율을 3:1로 조정 (각각 명성 기준)
+        int dealer;
+        while (size < 3 && (dealer = roster.bestByFame(CharacterRoster.ROLE_DEALER, used)) >= 0) {
+            members[size++] = addSlot(roster, used, slots, dealer, "딜러");
         }
-        
-        // 버퍼 선택 (버프력 기준)
-        List<Character> selectedBuffers = selectBestCharacters(buffers, bufferCount);
-        for (int i = 0; i < selectedBuffers.size(); i++) {
-            Character buffer = selectedBuffers.get(i);
-            slots.add(createSlotInfo(buffer, "버퍼", slots.size() + 1));
-            buffers.remove(buffer);
+        int buffer = roster.bestByFame(CharacterRoster.ROLE_BUFFER, used);
+        if (buffer >= 0) {
+            members[size++] = addSlot(roster, used, slots, buffer, "버퍼");
         }
         
         // 남은 슬롯을 다른 캐릭터로 채움
-        int remainingSlots = 4 - slots.size();
-        if (remainingSlots > 0) {
-            List<Character> allRemaining = new ArrayList<>();
-            allRemaining.addAll(dealers);
-            allRemaining.addAll(buffers);
-            allRemaining.addAll(others);
-            
-            List<Character> selectedOthers = selectBestCharacters(allRemaining, remainingSlots);
-            for (int i = 0; i < selectedOthers.size(); i++) {
-                Character other = selectedOthers.get(i);
-                slots.add(createSlotInfo(other, "일반", slots.size() + 1));
-            }
-        }
+        size = fillRemainingSlots(roster, used, slots, members, size);
         
         party.put("slots", slots);
         party.put("partySize", 4);
         party.put("type", "밸런스 최적화");
-        party.put("efficiency", calculatePartyEfficiency(slots));
+        party.put("efficiency", roster.fameEfficiency(members, size));
         
         return party;
     }
@@ -399,13 +366,12 @@ public class PartyOptimizationService {
     /**
      * 8인 파티 구성 (밸런스 최적화)
      */
-    private Map<String, Object> createBalanced8PersonParty(List<Character> dealers, List<Character> buffers, 
-                                                           List<Character> others) {
+    private Map<String, Object> createBalanced8PersonParty(CharacterRoster roster, BitSet used) {
         Map<String, Object> party = new HashMap<>();
         
         // 8인 파티를 2개의 4인 파티로 분할 (각각 3딜러+1버퍼)
-        Map<String, Object> party1 = createBalanced4PersonParty(dealers, buffers, others);
-        Map<String, Object> party2 = createBalanced4PersonParty(dealers, buffers, others);
+        Map<String, Object> party1 = createBalanced4PersonParty(roster, used);
+        Map<String, Object> party2 = createBalanced4PersonParty(roster, used);
         
         party.put("party1", party1);
         party.put("party2", party2);
@@ -417,73 +383,39 @@ public class PartyOptimizationService {
     }
     
     // 유틸리티 메서드들
-    private List<Character> filterDealers(List<Character> characters) {
-        return characters.stream()
-            .filter(c -> c.getJobName() != null && !c.getJobName().contains("버퍼"))
-            .filter(c -> c.getFame() != null && c.getFame() > 0)
-            .sorted(Comparator.comparing(Character::getFame).reversed())
-            .collect(Collectors.toList());
-    }
-    
-    private List<Character> filterBuffers(List<Character> characters) {
-        return characters.stream()
-            .filter(c -> c.getJobName() != null && c.getJobName().contains("버퍼"))
-            .filter(c -> c.getFame() != null && c.getFame() > 0)
-            .sorted(Comparator.comparing(Character::getFame).reversed())
-            .collect(Collectors.toList());
-    }
-    
-    private List<Character> filterUpdoongis(List<Character> characters) {
-        return characters.stream()
-            .filter(c -> c.getIsFavorite() != null && c.getIsFavorite())
-            .filter(c -> c.getFame() != null && c.getFame() > 0)
-            .sorted(Comparator.comparing(Character::getFame).reversed())
-            .collect(Collectors.toList());
-    }
     
-    private List<Character> filterOthers(List<Character> characters) {
-        return characters.stream()
-            .filter(c -> c.getIsFavorite() == null || !c.getIsFavorite())
-            .filter(c -> c.getJobName() != null && !c.getJobName().contains("버퍼"))
-            .filter(c -> c.getFame() != null && c.getFame() > 0)
-            .sorted(Comparator.comparing(Character::getFame).reversed())
-            .collect(Collectors.toList());
-    }
-    
-    private Character selectBestDealer(List<Character> dealers) {
-        return dealers.stream()
-            .max(Comparator.comparing(Character::getFame))
-            .orElse(null);
-    }
-    
-    private Character selectBestBuffer(List<Character> buffers) {
-        return buffers.stream()
-            .max(Comparator.comparing(Character::getFame))
-            .orElse(null);
-    }
-    
-    private List<Character> selectUpdoongis(List<Character> updoongis, int count) {
-        return updoongis.stream()
-            .limit(count)
-            .collect(Collectors.toList());
+    /**
+     * 남은 슬롯을 아직 선택되지 않은 딜러 → 버퍼 순(각각 명성 순)으로 채우고 채운 뒤 인원 반환
+     */
+    private int fillRemainingSlots(CharacterRoster roster, BitSet used, List<Map<String, Object>> slots,
+                                   int[] members, int size) {
+        int index;
+        while (size < members.length && (index = roster.bestByFame(CharacterRoster.ROLE_DEALER, used)) >= 0) {
+            members[size++] = addSlot(roster, used, slots, index, "일반");
+        }
+        while (size < members.length && (index = roster.bestByFame(CharacterRoster.ROLE_BUFFER, used)) >= 0) {
+            members[size++] = addSlot(roster, used, slots, index, "일반");
+        }
+        return size;
     }
     
-    private List<Character> selectBestCharacters(List<Character> characters, int count) {
-        return characters.stream()
-            .limit(count)
-            .collect(Collectors.toList());
+    private int addSlot(CharacterRoster roster, BitSet used, List<Map<String, Object>> slots, int index, String role) {
+        used.set(index);
+        slots.add(createSlotInfo(roster, index, role, slots.size() + 1));
+        return index;
     }
     
-    private Map<String, Object> createSlotInfo(Character character, String role, int slotNumber) {
+    private Map<String, Object> createSlotInfo(CharacterRoster roster, int index, String role, int slotNumber) {
+        Character character = roster.character(index);
         Map<String, Object> slot = new HashMap<>();
         slot.put("slotNumber", slotNumber);
         slot.put("characterId", character.getCharacterId());
         slot.put("characterName", character.getCharacterName());
         slot.put("serverId", character.getServerId());
         slot.put("jobName", character.getJobName());
-        slot.put("fame", character.getFame());
+        slot.put("fame", roster.fame(index));
         slot.put("role", role);
-        slot.put("isFavorite", character.getIsFavorite());
+        slot.put("isFavorite", roster.isUpdoongi(index));
         return slot;
     }
     
@@ -0,0 +1,67 @@
+package com.dfparty.backend.service;
+
+import com.dfparty.backend.model.CharacterRoster;
+
+import java.util.BitSet;
+
+/**
+ * CharacterRoster 위에서 파티 하나를 고르는 중간 상태 (캐릭터 인덱스 + 슬롯 역할)
+ * 선택한 캐릭터는 호출하는 쪽의 used BitSet에도 표시해, 같은 요청의 다른 파티에 다시 들어가지 않도록 한다.
+ */
+final class PartyPick {
+
+    private final int[] members;
+    private final String[] roles;
+    private int size;
+
+    PartyPick() {
+        this(CharacterRoster.PARTY_SLOTS);
+    }
+
+    PartyPick(int capacity) {
+        this.members = new int[capacity];
+        this.roles = new String[capacity];
+    }
+
+    /**
+     * 캐릭터 추가 (index가 음수(후보 없음)이거나 파티가 가득 차면 무시)
+     */
+    void add(int index, String role, BitSet used) {
+        if (index < 0 || isFull()) {
+            return;
+        }
+        members[size] = index;
+        roles[size] = role;
+        size++;
+        used.set(index);
+    }
+
+    boolean isFull() {
+        return size == members.length;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return members.length;
+    }
+
+    int member(int slot) {
+        return members[slot];
+    }
+
+    String role(int slot) {
+        return roles[slot];
+    }
+
+    /**
+     * 선택한 캐릭터 인덱스 배열 (길이 = size)
+     */
+    int[] members() {
+        int[] copy = new int[size];
+        System.arraycopy(members, 0, copy, 0, size);
+        return copy;
+    }
+}
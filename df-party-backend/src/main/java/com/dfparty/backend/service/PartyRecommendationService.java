@@ -1,6 +1,8 @@
 package com.dfparty.backend.service;
 
 import com.dfparty.backend.entity.Character;
+import com.dfparty.backend.model.CharacterRoster;
+import com.dfparty.backend.utils.CharacterUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -13,6 +15,49 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class PartyRecommendationService {
 
+    // 시너지가 좋은 직업 (시너지 전략에서 우선 배치)
+    private static final List<String> SYNERGY_JOBS = List.of("소드마스터", "버서커", "아수라", "크루세이더");
+
+    private final CharacterUtils characterUtils;
+
+    /**
+     * 추천 후보: 요청당 한 번 만든 CharacterRoster + 던전 최소 명성을 넘는 캐릭터 (읽기 전용)
+     * 역할(딜러 / 버퍼 / 업둥이)은 다른 파티 엔진과 같은 CharacterRoster 분류를 쓴다.
+     */
+    private record CandidatePool(CharacterRoster roster, BitSet eligible) {
+
+        /**
+         * 새 선택 상태 (명성 미달 캐릭터는 처음부터 사용한 것으로 표시)
+         */
+        BitSet newSelection() {
+            BitSet used = new BitSet(roster.size());
+            used.set(0, roster.size());
+            used.andNot(eligible);
+            return used;
+        }
+
+        int count(int requiredRoles) {
+            int count = 0;
+            for (int index = eligible.nextSetBit(0); index >= 0; index = eligible.nextSetBit(index + 1)) {
+                if ((roster.roles(index) & requiredRoles) == requiredRoles) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        // 직업 정보가 없어 딜러 / 버퍼로 분류되지 않은 캐릭터 수
+        int countUnclassified() {
+            int count = 0;
+            for (int index = eligible.nextSetBit(0); index >= 0; index = eligible.nextSetBit(index + 1)) {
+                if (!roster.isDealer(index) && !roster.isBuffer(index)) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+
     /**
      * 파티 구성 추천 생성
      */
@@ -30,21 +75,39 @@ public class PartyRecommendationService {
             Map<String, Object> dungeonRequirements = analyzeDungeonRequirements(dungeonName);
             
             // 2. 캐릭터 분석 및 분류
-            Map<String, List<Character>> categorizedCharacters = categorizeCharacters(characters, dungeonRequirements);
+            CandidatePool pool = prepareCandidates(characters, dungeonRequirements);
+            return recommend(pool, dungeonRequirements, dungeonName, partySize, preferences);
             
+        } catch (Exception e) {
+            log.error("파티 구성 추천 생성 실패", e);
+            return createErrorResult("파티 구성 추천 생성 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 분류를 마친 후보로 추천 생성 (전략 선택 → 파티 구성 → 분석 → 대안)
+     */
+    private Map<String, Object> recommend(
+            CandidatePool pool,
+            Map<String, Object> dungeonRequirements,
+            String dungeonName,
+            int partySize,
+            Map<String, Object> preferences) {
+        
+        try {
             // 3. 추천 전략 선택
             String strategy = selectRecommendationStrategy(preferences, dungeonRequirements);
             
             // 4. 전략별 파티 구성 생성
             Map<String, Object> recommendation = createPartyByStrategy(
-                    categorizedCharacters, dungeonName, partySize, strategy, preferences);
+                    pool, dungeonName, partySize, strategy, preferences);
             
             // 5. 추천 결과 분석 및 점수 계산
             Map<String, Object> analysis = analyzeRecommendation(recommendation, dungeonRequirements);
             
             // 6. 대안 파티 구성 생성
             List<Map<String, Object>> alternatives = generateAlternativeParties(
-                    categorizedCharacters, dungeonName, partySize, strategy, preferences);
+                    pool, dungeonName, partySize, strategy, preferences);
             
             // 7. 최종 추천 결과 구성
             Map<String, Object> result = new HashMap<>();
@@ -53,7 +116,7 @@ public class PartyRecommendationService {
             result.put("alternatives", alternatives);
             result.put("strategy", strategy);
             result.put("dungeonRequirements", dungeonRequirements);
-            result.put("characterAnalysis", analyzeCharacterPool(categorizedCharacters));
+            result.put("characterAnalysis", analyzeCharacterPool(pool));
             result.put("generatedAt", new Date());
             
             log.info("파티 구성 추천 생성 완료: 전략={}, 점수={}", 
@@ -78,31 +141,31 @@ public class PartyRecommendationService {
             log.info("던전별 추천 전략 생성: 던전={}", dungeonName);
             
             Map<String, Object> dungeonRequirements = analyzeDungeonRequirements(dungeonName);
-            Map<String, List<Character>> categorizedCharacters = categorizeCharacters(characters, dungeonRequirements);
+            CandidatePool pool = prepareCandidates(characters, dungeonRequirements);
             
             Map<String, Object> result = new HashMap<>();
             
             // 4인 파티 추천
-            Map<String, Object> party4Recommendation = generatePartyRecommendation(
-                    characters, dungeonName, 4, new HashMap<>());
+            Map<String, Object> party4Recommendation = recommend(
+                    pool, dungeonRequirements, dungeonName, 4, new HashMap<>());
             result.put("party4", party4Recommendation);
             
             // 8인 파티 추천
-            Map<String, Object> party8Recommendation = generatePartyRecommendation(
-                    characters, dungeonName, 8, new HashMap<>());
+            Map<String, Object> party8Recommendation = recommend(
+                    pool, dungeonRequirements, dungeonName, 8, new HashMap<>());
             result.put("party8", party8Recommendation);
             
             // 던전별 최적 전략 추천
-            String optimalStrategy = recommendOptimalStrategy(dungeonName, categorizedCharacters);
+            String optimalStrategy = recommendOptimalStrategy(dungeonName, pool);
             result.put("optimalStrategy", optimalStrategy);
             
             // 던전별 특화 파티 구성
             Map<String, Object> specializedParty = createSpecializedParty(
-                    categorizedCharacters, dungeonName, optimalStrategy);
+                    pool, dungeonName, optimalStrategy);
             result.put("specializedParty", specializedParty);
             
             result.put("dungeonRequirements", dungeonRequirements);
-            result.put("characterPool", analyzeCharacterPool(categorizedCharacters));
+            result.put("characterPool", analyzeCharacterPool(pool));
             
             return result;
             
@@ -189,28 +252,24 @@ public class PartyRecommendationService {
     }
 
     /**
-     * 캐릭터 분류
+     * 캐릭터 분류 (요청당 한 번 CharacterRoster를 만들고 명성 기준 후보 표시)
      */
-    private Map<String, List<Character>> categorizeCharacters(
+    private CandidatePool prepareCandidates(
             List<Character> characters, 
             Map<String, Object> dungeonRequirements) {
         
-        Map<String, List<Character>> categorized = new HashMap<>();
-        
         int minFame = (Integer) dungeonRequirements.get("minFame");
+        CharacterRoster roster = CharacterRoster.of(characters, characterUtils);
         
-        // 명성 기준 필터링
-        List<Character> eligibleCharacters = characters.stream()
-                .filter(c -> c.getFame() != null && c.getFame() >= minFame)
-                .collect(Collectors.toList());
-        
-        // 역할별 분류
-        categorized.put("dealers", filterDealers(eligibleCharacters));
-        categorized.put("buffers", filterBuffers(eligibleCharacters));
-        categorized.put("updoongis", filterUpdoongis(eligibleCharacters));
-        categorized.put("others", filterOthers(eligibleCharacters));
+        // 명성 기준 필터링 (명성이 없는 캐릭터는 제외)
+        BitSet eligible = new BitSet(roster.size());
+        for (int index = 0; index < roster.size(); index++) {
+            if (roster.character(index).getFame() != null && roster.fame(index) >= minFame) {
+                eligible.set(index);
+            }
+        }
         
-        return categorized;
+        return new CandidatePool(roster, eligible);
     }
 
     /**
@@ -244,7 +303,7 @@ public class PartyRecommendationService {
      * 전략별 파티 구성 생성
      */
     private Map<String, Object> createPartyByStrategy(
-            Map<String, List<Character>> categorizedCharacters,
+            CandidatePool pool,
             String dungeonName,
             int partySize,
             String strategy,
@@ -252,17 +311,17 @@ public class PartyRecommendationService {
         
         switch (strategy) {
             case "efficiency":
-                return createEfficiencyParty(categorizedCharacters, dungeonName, partySize);
+                return createEfficiencyParty(pool, dungeonName, partySize);
             case "balance":
-                return createBalanceParty(categorizedCharacters, dungeonName, partySize);
+                return createBalanceParty(pool, dungeonName, partySize);
             case "safety":
-                return createSafetyParty(categorizedCharacters, dungeonName, partySize);
+                return createSafetyParty(pool, dungeonName, partySize);
             case "synergy":
-                return createSynergyParty(categorizedCharacters, dungeonName, partySize);
+                return createSynergyParty(pool, dungeonName, partySize);
             case "hybrid":
-                return createHybridParty(categorizedCharacters, dungeonName, partySize);
+                return createHybridParty(pool, dungeonName, partySize);
             default:
-                return createBalanceParty(categorizedCharacters, dungeonName, partySize);
+                return createBalanceParty(pool, dungeonName, partySize);
         }
     }
 
@@ -270,45 +329,33 @@ public class PartyRecommendationService {
      * 효율성 중심 파티 구성
      */
     private Map<String, Object> createEfficiencyParty(
-            Map<String, List<Character>> categorizedCharacters,
+            CandidatePool pool,
             String dungeonName,
             int partySize) {
         
-        List<Character> dealers = categorizedCharacters.get("dealers");
-        List<Character> buffers = categorizedCharacters.get("buffers");
-        List<Character> updoongis = categorizedCharacters.get("updoongis");
-        
-        // 명성 순으로 정렬
-        dealers.sort((a, b) -> Long.compare(b.getFame() != null ? b.getFame() : 0L, a.getFame() != null ? a.getFame() : 0L));
-        buffers.sort((a, b) -> Long.compare(b.getFame() != null ? b.getFame() : 0L, a.getFame() != null ? a.getFame() : 0L));
-        updoongis.sort((a, b) -> Long.compare(b.getFame() != null ? b.getFame() : 0L, a.getFame() != null ? a.getFame() : 0L));
-        
-        Map<String, Object> party = new HashMap<>();
-        List<Map<String, Object>> slots = new ArrayList<>();
-        
-        if (partySize == 4) {
-            // 4인 파티: 최고 명성 3딜러 + 최고 명성 1버퍼
-            for (int i = 0; i < 3 && i < dealers.size(); i++) {
-                slots.add(createSlotInfo(dealers.get(i), "딜러", i + 1));
-            }
-            if (buffers.size() > 0) {
-                slots.add(createSlotInfo(buffers.get(0), "버퍼", 4));
-            }
-        } else if (partySize == 8) {
-            // 8인 파티: 2개 파티로 분할
-            Map<String, Object> party1 = createEfficiencyParty(categorizedCharacters, dungeonName, 4);
-            Map<String, Object> party2 = createEfficiencyParty(categorizedCharacters, dungeonName, 4);
-            
-            party.put("party1", party1);
-            party.put("party2", party2);
-            party.put("totalEfficiency", calculateTotalEfficiency(party1, party2));
-            return party;
+        BitSet used = pool.newSelection();
+        if (partySize == 8) {
+            // 8인 파티: 2개 파티로 분할 (선택 상태를 공유해 같은 캐릭터가 두 파티에 들어가지 않음)
+            Map<String, Object> party1 = createEfficiencyParty(pool, used);
+            Map<String, Object> party2 = createEfficiencyParty(pool, used);
+            return createRaid(party1, party2, "efficiency", "efficiency");
+        }
+        return createEfficiencyParty(pool, used);
+    }
+
+    /**
+     * 4인 효율성 파티: 최고 명성 3딜러 + 최고 명성 1버퍼
+     */
+    private Map<String, Object> createEfficiencyParty(CandidatePool pool, BitSet used) {
+        CharacterRoster roster = pool.roster();
+        PartyPick pick = new PartyPick();
+        for (int i = 0; i < 3; i++) {
+            pick.add(roster.bestByFame(CharacterRoster.ROLE_DEALER, used), "딜러", used);
         }
+        pick.add(roster.bestByFame(CharacterRoster.ROLE_BUFFER, used), "버퍼", used);
         
-        party.put("slots", slots);
-        party.put("efficiency", calculatePartyEfficiency(slots));
+        Map<String, Object> party = createParty(roster, pick, false);
         party.put("strategy", "efficiency");
-        
         return party;
     }
 
@@ -316,13 +363,13 @@ public class PartyRecommendationService {
      * 밸런스 중심 파티 구성
      */
     private Map<String, Object> createBalanceParty(
-            Map<String, List<Character>> categorizedCharacters,
+            CandidatePool pool,
             String dungeonName,
             int partySize) {
         
         // 효율성과 안전성의 균형
-        Map<String, Object> efficiencyParty = createEfficiencyParty(categorizedCharacters, dungeonName, partySize);
-        Map<String, Object> safetyParty = createSafetyParty(categorizedCharacters, dungeonName, partySize);
+        Map<String, Object> efficiencyParty = createEfficiencyParty(pool, dungeonName, partySize);
+        Map<String, Object> safetyParty = createSafetyParty(pool, dungeonName, partySize);
         
         // 두 전략의 결과를 비교하여 더 균형잡힌 파티 선택
         double efficiencyScore = (Double) efficiencyParty.get("efficiency");
@@ -341,43 +388,41 @@ public class PartyRecommendationService {
      * 안전성 중심 파티 구성
      */
     private Map<String, Object> createSafetyParty(
-            Map<String, List<Character>> categorizedCharacters,
+            CandidatePool pool,
             String dungeonName,
             int partySize) {
         
-        List<Character> dealers = categorizedCharacters.get("dealers");
-        List<Character> buffers = categorizedCharacters.get("buffers");
-        List<Character> updoongis = categorizedCharacters.get("updoongis");
+        BitSet used = pool.newSelection();
+        if (partySize == 8) {
+            Map<String, Object> party1 = createSafetyParty(pool, used);
+            Map<String, Object> party2 = createSafetyParty(pool, used);
+            return createRaid(party1, party2, "safety", "safety");
+        }
+        return createSafetyParty(pool, used);
+    }
+
+    /**
+     * 4인 안전성 파티: 업둥이 최대 2명 우선, 나머지는 명성 순 딜러 + 버퍼 1명
+     */
+    private Map<String, Object> createSafetyParty(CandidatePool pool, BitSet used) {
+        CharacterRoster roster = pool.roster();
+        PartyPick pick = new PartyPick();
         
-        // 안전성을 위해 업둥이 캐릭터 우선 배치
-        Map<String, Object> party = new HashMap<>();
-        List<Map<String, Object>> slots = new ArrayList<>();
+        // 업둥이 우선 배치
+        for (int i = 0; i < 2; i++) {
+            pick.add(roster.bestByFame(CharacterRoster.ROLE_UPDOONGI, used), "업둥이", used);
+        }
         
-        if (partySize == 4) {
-            // 업둥이 우선 배치
-            int updoongiCount = Math.min(2, updoongis.size());
-            for (int i = 0; i < updoongiCount; i++) {
-                slots.add(createSlotInfo(updoongis.get(i), "업둥이", i + 1));
-            }
-            
-            // 나머지는 명성 순으로 배치
-            int remainingSlots = partySize - updoongiCount;
-            int dealerCount = Math.min(remainingSlots - 1, dealers.size());
-            int bufferCount = Math.min(1, buffers.size());
-            
-            for (int i = 0; i < dealerCount; i++) {
-                slots.add(createSlotInfo(dealers.get(i), "딜러", slots.size() + 1));
-            }
-            
-            if (bufferCount > 0) {
-                slots.add(createSlotInfo(buffers.get(0), "버퍼", slots.size() + 1));
-            }
+        // 나머지는 명성 순으로 배치 (버퍼 한 자리는 남겨 둠)
+        int dealerCount = pick.capacity() - pick.size() - 1;
+        for (int i = 0; i < dealerCount; i++) {
+            pick.add(roster.bestByFame(CharacterRoster.ROLE_DEALER, used), "딜러", used);
         }
+        pick.add(roster.bestByFame(CharacterRoster.ROLE_BUFFER, used), "버퍼", used);
         
-        party.put("slots", slots);
-        party.put("safety", calculateSafetyScore(slots));
+        Map<String, Object> party = createParty(roster, pick, false);
+        party.put("safety", calculateSafetyScore(pick));
         party.put("strategy", "safety");
-        
         return party;
     }
 
@@ -385,35 +430,42 @@ public class PartyRecommendationService {
      * 시너지 중심 파티 구성
      */
     private Map<String, Object> createSynergyParty(
-            Map<String, List<Character>> categorizedCharacters,
+            CandidatePool pool,
             String dungeonName,
             int partySize) {
         
-        // 직업 간 시너지를 고려한 파티 구성
-        Map<String, Object> party = new HashMap<>();
-        List<Map<String, Object>> slots = new ArrayList<>();
-        
-        // 시너지가 좋은 직업 조합 우선
-        List<String> synergyJobs = Arrays.asList("소드마스터", "버서커", "아수라", "크루세이더");
+        BitSet used = pool.newSelection();
+        if (partySize == 8) {
+            Map<String, Object> party1 = createSynergyParty(pool, used);
+            Map<String, Object> party2 = createSynergyParty(pool, used);
+            return createRaid(party1, party2, "synergy", "synergy");
+        }
+        return createSynergyParty(pool, used);
+    }
+
+    /**
+     * 4인 시너지 파티: 시너지 직업을 명성 순으로 먼저 배치하고 나머지는 딜러 → 버퍼 → 기타 순
+     */
+    private Map<String, Object> createSynergyParty(CandidatePool pool, BitSet used) {
+        CharacterRoster roster = pool.roster();
+        PartyPick pick = new PartyPick();
         
         // 시너지 직업 우선 배치
-        for (String job : synergyJobs) {
-            if (slots.size() >= partySize) break;
+        for (String job : SYNERGY_JOBS) {
+            if (pick.isFull()) break;
             
-            Character character = findCharacterByJob(categorizedCharacters, job);
-            if (character != null) {
-                String role = determineRole(character);
-                slots.add(createSlotInfo(character, role, slots.size() + 1));
+            int index = findCharacterByJob(roster, job, used);
+            if (index >= 0) {
+                pick.add(index, determineRole(roster, index), used);
             }
         }
         
         // 나머지 슬롯 채우기
-        fillRemainingSlots(categorizedCharacters, slots, partySize);
+        fillRemainingSlots(roster, pick, used);
         
-        party.put("slots", slots);
-        party.put("synergy", calculateSynergyScore(slots));
+        Map<String, Object> party = createParty(roster, pick, true);
+        party.put("synergy", calculateSynergyScore(roster, pick));
         party.put("strategy", "synergy");
-        
         return party;
     }
 
@@ -421,14 +473,14 @@ public class PartyRecommendationService {
      * 하이브리드 파티 구성
      */
     private Map<String, Object> createHybridParty(
-            Map<String, List<Character>> categorizedCharacters,
+            CandidatePool pool,
             String dungeonName,
             int partySize) {
         
         // 여러 전략의 장점을 결합
-        Map<String, Object> efficiencyParty = createEfficiencyParty(categorizedCharacters, dungeonName, partySize);
-        Map<String, Object> safetyParty = createSafetyParty(categorizedCharacters, dungeonName, partySize);
-        Map<String, Object> synergyParty = createSynergyParty(categorizedCharacters, dungeonName, partySize);
+        Map<String, Object> efficiencyParty = createEfficiencyParty(pool, dungeonName, partySize);
+        Map<String, Object> safetyParty = createSafetyParty(pool, dungeonName, partySize);
+        Map<String, Object> synergyParty = createSynergyParty(pool, dungeonName, partySize);
         
         // 각 전략의 점수 계산
         double efficiencyScore = (Double) efficiencyParty.get("efficiency");
@@ -457,6 +509,40 @@ public class PartyRecommendationService {
         return bestParty;
     }
 
+    /**
+     * 선택 결과를 파티 응답으로 변환 (padEmpty면 남는 슬롯을 빈 슬롯으로 채움)
+     */
+    private Map<String, Object> createParty(CharacterRoster roster, PartyPick pick, boolean padEmpty) {
+        List<Map<String, Object>> slots = new ArrayList<>();
+        for (int i = 0; i < pick.size(); i++) {
+            slots.add(createSlotInfo(roster, pick.member(i), pick.role(i), i + 1));
+        }
+        if (padEmpty) {
+            while (slots.size() < pick.capacity()) {
+                slots.add(createEmptySlot(slots.size() + 1));
+            }
+        }
+        
+        Map<String, Object> party = new HashMap<>();
+        party.put("slots", slots);
+        party.put("efficiency", calculatePartyEfficiency(roster, pick));
+        return party;
+    }
+
+    /**
+     * 8인 파티 응답 (두 파티 + 평균 효율 / 평균 전략 점수)
+     */
+    private Map<String, Object> createRaid(Map<String, Object> party1, Map<String, Object> party2,
+                                           String strategy, String scoreKey) {
+        Map<String, Object> raid = new HashMap<>();
+        raid.put("party1", party1);
+        raid.put("party2", party2);
+        raid.put("totalEfficiency", calculateTotalEfficiency(party1, party2));
+        raid.put(scoreKey, ((Double) party1.get(scoreKey) + (Double) party2.get(scoreKey)) / 2.0);
+        raid.put("strategy", strategy);
+        return raid;
+    }
+
     /**
      * 추천 결과 분석
      */
@@ -493,7 +579,7 @@ public class PartyRecommendationService {
      * 대안 파티 구성 생성
      */
     private List<Map<String, Object>> generateAlternativeParties(
-            Map<String, List<Character>> categorizedCharacters,
+            CandidatePool pool,
             String dungeonName,
             int partySize,
             String primaryStrategy,
@@ -507,7 +593,7 @@ public class PartyRecommendationService {
         for (String strategy : strategies) {
             if (!strategy.equals(primaryStrategy)) {
                 Map<String, Object> alternative = createPartyByStrategy(
-                        categorizedCharacters, dungeonName, partySize, strategy, preferences);
+                        pool, dungeonName, partySize, strategy, preferences);
                 alternatives.add(alternative);
             }
         }
@@ -525,23 +611,23 @@ public class PartyRecommendationService {
     /**
      * 캐릭터 풀 분석
      */
-    private Map<String, Object> analyzeCharacterPool(Map<String, List<Character>> categorizedCharacters) {
+    private Map<String, Object> analyzeCharacterPool(CandidatePool pool) {
         Map<String, Object> analysis = new HashMap<>();
+        CharacterRoster roster = pool.roster();
+        BitSet eligible = pool.eligible();
         
-        analysis.put("totalCharacters", categorizedCharacters.values().stream()
-                .mapToInt(List::size).sum());
-        analysis.put("dealers", categorizedCharacters.get("dealers").size());
-        analysis.put("buffers", categorizedCharacters.get("buffers").size());
-        analysis.put("updoongis", categorizedCharacters.get("updoongis").size());
-        analysis.put("others", categorizedCharacters.get("others").size());
+        analysis.put("totalCharacters", eligible.cardinality());
+        analysis.put("dealers", pool.count(CharacterRoster.ROLE_DEALER));
+        analysis.put("buffers", pool.count(CharacterRoster.ROLE_BUFFER));
+        analysis.put("updoongis", pool.count(CharacterRoster.ROLE_UPDOONGI));
+        analysis.put("others", pool.countUnclassified());
         
         // 평균 명성 계산
-        double avgFame = categorizedCharacters.values().stream()
-                .flatMap(List::stream)
-                .mapToLong(c -> c.getFame() != null ? c.getFame() : 0L)
-                .average()
-                .orElse(0.0);
-        analysis.put("averageFame", avgFame);
+        long totalFame = 0;
+        for (int index = eligible.nextSetBit(0); index >= 0; index = eligible.nextSetBit(index + 1)) {
+            totalFame += roster.fame(index);
+        }
+        analysis.put("averageFame", eligible.isEmpty() ? 0.0 : (double) totalFame / eligible.cardinality());
         
         return analysis;
     }
@@ -615,12 +701,11 @@ public class PartyRecommendationService {
     /**
      * 최적 전략 추천
      */
-    private String recommendOptimalStrategy(String dungeonName, Map<String, List<Character>> categorizedCharacters) {
+    private String recommendOptimalStrategy(String dungeonName, CandidatePool pool) {
         // 던전과 캐릭터 풀을 고려한 최적 전략 추천
-        int totalCharacters = categorizedCharacters.values().stream().mapToInt(List::size).sum();
-        int updoongiCount = categorizedCharacters.get("updoongis").size();
-        int dealerCount = categorizedCharacters.get("dealers").size();
-        int bufferCount = categorizedCharacters.get("buffers").size();
+        int updoongiCount = pool.count(CharacterRoster.ROLE_UPDOONGI);
+        int dealerCount = pool.count(CharacterRoster.ROLE_DEALER);
+        int bufferCount = pool.count(CharacterRoster.ROLE_BUFFER);
         
         if (updoongiCount >= 2 && dealerCount >= 3 && bufferCount >= 1) {
             return "hybrid"; // 모든 조건이 충족되면 하이브리드
@@ -637,7 +722,7 @@ public class PartyRecommendationService {
      * 특화 파티 구성
      */
     private Map<String, Object> createSpecializedParty(
-            Map<String, List<Character>> categorizedCharacters,
+            CandidatePool pool,
             String dungeonName,
             String strategy) {
         
@@ -646,15 +731,15 @@ public class PartyRecommendationService {
         
         if ("발할라".equals(dungeonName)) {
             // 발할라는 최고 명성 캐릭터들로 구성
-            party = createEfficiencyParty(categorizedCharacters, dungeonName, 4);
+            party = createEfficiencyParty(pool, dungeonName, 4);
             party.put("specialization", "발할라 특화 - 최고 명성 우선");
         } else if ("오즈마".equals(dungeonName)) {
             // 오즈마는 밸런스 중심
-            party = createBalanceParty(categorizedCharacters, dungeonName, 4);
+            party = createBalanceParty(pool, dungeonName, 4);
             party.put("specialization", "오즈마 특화 - 밸런스 중심");
         } else {
             // 기본 파티 구성
-            party = createPartyByStrategy(categorizedCharacters, dungeonName, 4, strategy, new HashMap<>());
+            party = createPartyByStrategy(pool, dungeonName, 4, strategy, new HashMap<>());
             party.put("specialization", "일반 던전 - " + strategy + " 전략");
         }
         
@@ -662,58 +747,28 @@ public class PartyRecommendationService {
     }
 
     // Utility methods
-    private List<Character> filterDealers(List<Character> characters) {
-        return characters.stream()
-                .filter(c -> c.getJobName() != null && 
-                        (c.getJobName().contains("소드마스터") || 
-                         c.getJobName().contains("버서커") || 
-                         c.getJobName().contains("아수라")))
-                .collect(Collectors.toList());
-    }
-
-    private List<Character> filterBuffers(List<Character> characters) {
-        return characters.stream()
-                .filter(c -> c.getJobName() != null && 
-                        (c.getJobName().contains("크루세이더") || 
-                         c.getJobName().contains("팔라딘")))
-                .collect(Collectors.toList());
-    }
-
-    private List<Character> filterUpdoongis(List<Character> characters) {
-        return characters.stream()
-                .filter(c -> c.getIsFavorite() != null && c.getIsFavorite())
-                .collect(Collectors.toList());
-    }
-
-    private List<Character> filterOthers(List<Character> characters) {
-        return characters.stream()
-                .filter(c -> c.getJobName() != null && 
-                        !c.getJobName().contains("소드마스터") && 
-                        !c.getJobName().contains("버서커") && 
-                        !c.getJobName().contains("아수라") &&
-                        !c.getJobName().contains("크루세이더") && 
-                        !c.getJobName().contains("팔라딘"))
-                .collect(Collectors.toList());
-    }
-
-    private Map<String, Object> createSlotInfo(Character character, String role, int slotNumber) {
+    private Map<String, Object> createSlotInfo(CharacterRoster roster, int index, String role, int slotNumber) {
+        Character character = roster.character(index);
         Map<String, Object> slot = new HashMap<>();
         slot.put("slotNumber", slotNumber);
         slot.put("character", character);
         slot.put("role", role);
-        slot.put("fame", character.getFame());
+        slot.put("fame", roster.fame(index));
         slot.put("job", character.getJobName());
         return slot;
     }
 
-    private double calculatePartyEfficiency(List<Map<String, Object>> slots) {
-        if (slots.isEmpty()) return 0.0;
-        
-        double totalFame = slots.stream()
-                .mapToDouble(slot -> (Integer) slot.get("fame"))
-                .sum();
+    /**
+     * 파티 효율 = 멤버 평균 명성
+     */
+    private double calculatePartyEfficiency(CharacterRoster roster, PartyPick pick) {
+        if (pick.size() == 0) return 0.0;
         
-        return totalFame / slots.size();
+        long totalFame = 0;
+        for (int i = 0; i < pick.size(); i++) {
+            totalFame += roster.fame(pick.member(i));
+        }
+        return (double) totalFame / pick.size();
     }
 
     private double calculateTotalEfficiency(Map<String, Object> party1, Map<String, Object> party2) {
@@ -722,29 +777,30 @@ public class PartyRecommendationService {
         return (efficiency1 + efficiency2) / 2.0;
     }
 
-    private double calculateSafetyScore(List<Map<String, Object>> slots) {
-        if (slots.isEmpty()) return 0.0;
-        
-        long updoongiCount = slots.stream()
-                .filter(slot -> "업둥이".equals(slot.get("role")))
-                .count();
+    private double calculateSafetyScore(PartyPick pick) {
+        if (pick.size() == 0) return 0.0;
         
-        return (double) updoongiCount / slots.size();
+        int updoongiCount = 0;
+        for (int i = 0; i < pick.size(); i++) {
+            if ("업둥이".equals(pick.role(i))) {
+                updoongiCount++;
+            }
+        }
+        return (double) updoongiCount / pick.size();
     }
 
-    private double calculateSynergyScore(List<Map<String, Object>> slots) {
-        if (slots.size() < 2) return 1.0;
+    private double calculateSynergyScore(CharacterRoster roster, PartyPick pick) {
+        if (pick.size() < 2) return 1.0;
         
         // 직업 시너지 점수 계산
-        Set<String> jobs = slots.stream()
-                .map(slot -> (String) slot.get("job"))
-                .collect(Collectors.toSet());
+        Set<String> jobs = new HashSet<>();
+        for (int i = 0; i < pick.size(); i++) {
+            jobs.add(roster.character(pick.member(i)).getJobName());
+        }
         
         // 시너지가 좋은 직업 조합
-        Set<String> synergyJobs = new HashSet<>(Arrays.asList("소드마스터", "버서커", "아수라", "크루세이더"));
-        
         long synergyCount = jobs.stream()
-                .filter(synergyJobs::contains)
+                .filter(SYNERGY_JOBS::contains)
                 .count();
         
         return (double) synergyCount / jobs.size();
@@ -775,8 +831,8 @@ public class PartyRecommendationService {
     private Map<String, Object> analyzeFameBalance(List<Map<String, Object>> slots) {
         Map<String, Object> balance = new HashMap<>();
         
-        List<Integer> fames = slots.stream()
-                .map(slot -> (Integer) slot.get("fame"))
+        List<Long> fames = slots.stream()
+                .map(slot -> ((Number) slot.get("fame")).longValue())
                 .collect(Collectors.toList());
         
         if (fames.isEmpty()) {
@@ -786,7 +842,7 @@ public class PartyRecommendationService {
             return balance;
         }
         
-        double average = fames.stream().mapToInt(Integer::intValue).average().orElse(0.0);
+        double average = fames.stream().mapToLong(Long::longValue).average().orElse(0.0);
         double variance = fames.stream()
                 .mapToDouble(fame -> Math.pow(fame - average, 2))
                 .average()
@@ -831,7 +887,7 @@ public class PartyRecommendationService {
         
         // 명성 요구사항 충족도
         long eligibleCharacters = slots.stream()
-                .filter(slot -> (Integer) slot.get("fame") >= minFame)
+                .filter(slot -> ((Number) slot.get("fame")).longValue() >= minFame)
                 .count();
         double fameCompatibility = (double) eligibleCharacters / slots.size();
         
@@ -865,63 +921,46 @@ public class PartyRecommendationService {
         return 0.0;
     }
 
-    private Character findCharacterByJob(Map<String, List<Character>> categorizedCharacters, String job) {
-        return categorizedCharacters.values().stream()
-                .flatMap(List::stream)
-                .filter(c -> c.getJobName() != null && c.getJobName().contains(job))
-                .findFirst()
-                .orElse(null);
+    /**
+     * 아직 선택되지 않은 후보 중 직업 이름에 job이 들어간 최고 명성 캐릭터 (없으면 -1)
+     */
+    private int findCharacterByJob(CharacterRoster roster, String job, BitSet used) {
+        for (int rank = 0; rank < roster.size(); rank++) {
+            int index = roster.indexAtFameRank(rank);
+            String jobName = roster.character(index).getJobName();
+            if (!used.get(index) && jobName != null && jobName.contains(job)) {
+                return index;
+            }
+        }
+        return -1;
     }
 
-    private String determineRole(Character character) {
-        if (character.getJobName() == null) return "기타";
-        
-        if (character.getJobName().contains("소드마스터") || 
-            character.getJobName().contains("버서커") || 
-            character.getJobName().contains("아수라")) {
-            return "딜러";
-        } else if (character.getJobName().contains("크루세이더") || 
-                   character.getJobName().contains("팔라딘")) {
+    private String determineRole(CharacterRoster roster, int index) {
+        if (roster.isBuffer(index)) {
             return "버퍼";
+        } else if (roster.isDealer(index)) {
+            return "딜러";
         } else {
             return "기타";
         }
     }
 
-    private void fillRemainingSlots(
-            Map<String, List<Character>> categorizedCharacters,
-            List<Map<String, Object>> slots,
-            int partySize) {
-        
-        // 남은 슬롯을 딜러, 버퍼, 기타 순으로 채우기
-        List<Character> dealers = new ArrayList<>(categorizedCharacters.get("dealers"));
-        List<Character> buffers = new ArrayList<>(categorizedCharacters.get("buffers"));
-        List<Character> others = new ArrayList<>(categorizedCharacters.get("others"));
-        
-        // 이미 배치된 캐릭터 제거
-        Set<String> placedCharacterIds = slots.stream()
-                .map(slot -> ((Character) slot.get("character")).getCharacterId())
-                .collect(Collectors.toSet());
-        
-        dealers.removeIf(c -> placedCharacterIds.contains(c.getCharacterId()));
-        buffers.removeIf(c -> placedCharacterIds.contains(c.getCharacterId()));
-        others.removeIf(c -> placedCharacterIds.contains(c.getCharacterId()));
-        
-        // 남은 슬롯 채우기
-        while (slots.size() < partySize) {
-            if (!dealers.isEmpty()) {
-                Character dealer = dealers.remove(0);
-                slots.add(createSlotInfo(dealer, "딜러", slots.size() + 1));
-            } else if (!buffers.isEmpty()) {
-                Character buffer = buffers.remove(0);
-                slots.add(createSlotInfo(buffer, "버퍼", slots.size() + 1));
-            } else if (!others.isEmpty()) {
-                Character other = others.remove(0);
-                slots.add(createSlotInfo(other, "기타", slots.size() + 1));
-            } else {
-                // 캐릭터가 부족하면 빈 슬롯 생성
-                slots.add(createEmptySlot(slots.size() + 1));
+    private void fillRemainingSlots(CharacterRoster roster, PartyPick pick, BitSet used) {
+        // 남은 슬롯을 딜러, 버퍼, 기타 순으로 채우기 (각각 명성 순, 후보가 없으면 빈 슬롯으로 남김)
+        while (!pick.isFull()) {
+            int dealer = roster.bestByFame(CharacterRoster.ROLE_DEALER, used);
+            if (dealer >= 0) {
+                pick.add(dealer, "딜러", used);
+                continue;
+            }
+            int buffer = roster.bestByFame(CharacterRoster.ROLE_BUFFER, used);
+            if (buffer >= 0) {
+                pick.add(buffer, "버퍼", used);
+                continue;
             }
+            int other = roster.bestByFame(0, CharacterRoster.ROLE_DEALER | CharacterRoster.ROLE_BUFFER, used);
+            if (other < 0) break;
+            pick.add(other, "기타", used);
         }
     }
 
@@ -930,7 +969,7 @@ public class PartyRecommendationService {
         slot.put("slotNumber", slotNumber);
         slot.put("character", null);
         slot.put("role", "빈슬롯");
-        slot.put("fame", 0);
+        slot.put("fame", 0L);
         slot.put("job", "없음");
         return slot;
     }
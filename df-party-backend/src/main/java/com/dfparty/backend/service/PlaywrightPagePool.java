@@ -0,0 +1,475 @@
+package com.dfparty.backend.service;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 던담 크롤링용 Playwright 페이지 풀
+ *
+ * Playwright 객체는 스레드 안전하지 않으므로 슬롯마다 Playwright / Browser / BrowserContext / Page를 따로 두고,
+ * 한 슬롯은 빌린 스레드 하나만 사용한다. 풀 크기(playwright.pool.size)가 동시 크롤링 수와 브라우저 프로세스 수의 상한이다.
+ * 반납 시 사용 횟수(max-uses) 또는 JS 힙 사용량(max-heap-mb)을 넘긴 슬롯은 폐기하고 다음 대여 때 새로 만든다.
+ */
+@Slf4j
+@Service
+public class PlaywrightPagePool implements MeterBinder {
+
+    private static final String USER_AGENT =
+        "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/121.0.0.0 Safari/537.36";
+
+    private final int poolSize;
+    private final int minIdle;
+    private final int maxUses;
+    private final long maxHeapBytes;
+    private final long borrowTimeoutMillis;
+    private final double returnTimeoutMillis;
+
+    private final CrawlRequestFilter crawlRequestFilter;
+    private final Semaphore permits;
+    private final LinkedBlockingDeque<PooledPage> idlePages = new LinkedBlockingDeque<>();
+    private final Set<PooledPage> allPages = ConcurrentHashMap.newKeySet();
+
+    // recycleAll() 이전에 대여된 슬롯은 반납 시 폐기
+    private final AtomicInteger generation = new AtomicInteger();
+    private volatile boolean available = false;
+    private volatile boolean closed = false;
+
+    private final LongAdder createdCount = new LongAdder();
+    private final LongAdder recycledCount = new LongAdder();
+    private final LongAdder borrowTimeoutCount = new LongAdder();
+    private Timer borrowWaitTimer;
+
+    public PlaywrightPagePool(CrawlRequestFilter crawlRequestFilter,
+                              @Value("${playwright.pool.size:2}") int poolSize,
+                              @Value("${playwright.pool.min-idle:1}") int minIdle,
+                              @Value("${playwright.pool.max-uses:50}") int maxUses,
+                              @Value("${playwright.pool.max-heap-mb:256}") long maxHeapMb,
+                              @Value("${playwright.pool.borrow-timeout:30000}") long borrowTimeoutMillis,
+                              @Value("${playwright.pool.return-timeout:3000}") long returnTimeoutMillis) {
+        this.crawlRequestFilter = crawlRequestFilter;
+        this.poolSize = Math.max(1, poolSize);
+        this.minIdle = Math.max(0, Math.min(minIdle, this.poolSize));
+        this.maxUses = Math.max(1, maxUses);
+        this.maxHeapBytes = maxHeapMb * 1024 * 1024;
+        this.borrowTimeoutMillis = borrowTimeoutMillis;
+        this.returnTimeoutMillis = returnTimeoutMillis;
+        this.permits = new Semaphore(this.poolSize, true);
+
+        log.info("Playwright 페이지 풀 설정: 크기={}, 최소 대기={}, 최대 사용 횟수={}, 최대 JS 힙={}MB, 대여 타임아웃={}ms",
+            this.poolSize, this.minIdle, this.maxUses, maxHeapMb, borrowTimeoutMillis);
+    }
+
+    /**
+     * 서비스 시작 시 min-idle 개수만큼 미리 브라우저를 띄워 둔다
+     */
+    @PostConstruct
+    public void warmUp() {
+        log.info("=== Playwright 페이지 풀 사전 초기화 시작 ===");
+        for (int i = 0; i < minIdle; i++) {
+            try {
+                idlePages.offerFirst(createPage());
+            } catch (Exception e) {
+                log.error("=== Playwright 페이지 풀 사전 초기화 실패 ===");
+                log.error("에러: {}", e.getMessage());
+                log.warn("Playwright 기능을 사용할 수 없습니다. 기본 크롤링으로 대체합니다.");
+                // 초기화 실패해도 서비스는 계속 실행 (다음 대여 시 재시도)
+                return;
+            }
+        }
+        log.info("=== Playwright 페이지 풀 사전 초기화 완료 (대기 페이지 {}개) ===", idlePages.size());
+    }
+
+    /**
+     * 페이지 대여. borrow-timeout 안에 빈 슬롯이 없으면 TimeoutException
+     */
+    public PooledPage borrow() throws TimeoutException, InterruptedException {
+        if (closed) {
+            throw new IllegalStateException("Playwright 페이지 풀이 종료되었습니다.");
+        }
+
+        long startNanos = System.nanoTime();
+        if (!permits.tryAcquire(borrowTimeoutMillis, TimeUnit.MILLISECONDS)) {
+            borrowTimeoutCount.increment();
+            throw new TimeoutException(String.format("Playwright 페이지 대여 대기 시간 초과 (%dms)", borrowTimeoutMillis));
+        }
+
+        try {
+            PooledPage pooled;
+            while ((pooled = idlePages.pollFirst()) != null) {
+                if (pooled.isHealthy()) {
+                    break;
+                }
+                discard(pooled, "상태 점검 실패");
+            }
+            if (pooled == null) {
+                pooled = createPage();
+            }
+            pooled.useCount++;
+            crawlRequestFilter.beginCrawl(pooled.traffic);
+            if (borrowWaitTimer != null) {
+                borrowWaitTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            }
+            return pooled;
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 페이지 반납. reusable=false이거나 재사용 한도를 넘긴 슬롯은 폐기하고, 나머지는 빈 페이지로 초기화해 풀에 돌려놓는다
+     */
+    public void release(PooledPage pooled, boolean reusable) {
+        if (pooled == null) {
+            return;
+        }
+        try {
+            String discardReason = checkReusable(pooled, reusable);
+            if (discardReason == null && !resetPage(pooled)) {
+                discardReason = "초기화 실패";
+            }
+
+            if (discardReason != null) {
+                discard(pooled, discardReason);
+            } else {
+                idlePages.offerFirst(pooled);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private String checkReusable(PooledPage pooled, boolean reusable) {
+        if (closed) {
+            return "풀 종료";
+        }
+        if (!reusable) {
+            return "크롤링 오류";
+        }
+        if (pooled.generation != generation.get()) {
+            return "재초기화";
+        }
+        if (!pooled.isHealthy()) {
+            return "상태 점검 실패";
+        }
+        if (pooled.useCount >= maxUses) {
+            return "사용 횟수 " + pooled.useCount + "회 도달";
+        }
+        long heapBytes = pooled.usedJsHeapBytes();
+        if (heapBytes > maxHeapBytes) {
+            return "JS 힙 " + heapBytes / (1024 * 1024) + "MB 초과";
+        }
+        return null;
+    }
+
+    /**
+     * 다음 크롤링이 이전 페이지 상태를 보지 않도록 빈 페이지로 이동하고 쿠키를 지운다
+     */
+    private boolean resetPage(PooledPage pooled) {
+        try {
+            pooled.page.navigate("about:blank", new Page.NavigateOptions().setTimeout(returnTimeoutMillis));
+            pooled.context.clearCookies();
+            return true;
+        } catch (Exception e) {
+            log.warn("Playwright 페이지 초기화 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 풀 전체 재초기화 (에러 복구용). 대여 중인 슬롯은 반납 시 폐기된다
+     * 대여 중인 이전 세대 페이지가 남아 있으면 새 페이지를 미리 만들 때 열린 페이지 수가 풀 크기를 넘을 수 있으므로,
+     * 모든 허가를 즉시 얻을 수 있을 때(대여 중인 페이지가 없을 때)만 min-idle만큼 다시 띄우고,
+     * 아니면 다음 대여 때 허가 안에서 새로 만든다.
+     */
+    public void recycleAll() {
+        generation.incrementAndGet();
+        PooledPage pooled;
+        while ((pooled = idlePages.pollFirst()) != null) {
+            discard(pooled, "재초기화");
+        }
+        if (!permits.tryAcquire(poolSize)) {
+            log.info("대여 중인 Playwright 페이지가 있어 사전 초기화를 건너뜀 (다음 대여 시 생성)");
+            return;
+        }
+        try {
+            warmUp();
+        } finally {
+            permits.release(poolSize);
+        }
+    }
+
+    /**
+     * 브라우저를 띄울 수 있는 상태인지 (마지막 브라우저 생성 성공 여부)
+     */
+    public boolean isAvailable() {
+        return available && !closed;
+    }
+
+    private PooledPage createPage() {
+        Playwright playwright = null;
+        try {
+            playwright = Playwright.create();
+            Browser browser = launchBrowser(playwright);
+            BrowserContext context = browser.newContext(new Browser.NewContextOptions()
+                .setLocale("ko-KR")
+                .setUserAgent(USER_AGENT)
+                .setViewportSize(1366, 768)
+            );
+            Page page = context.newPage();
+            page.setExtraHTTPHeaders(new HashMap<String, String>() {{
+                put("Accept-Language", "ko-KR,ko;q=0.9,en-US;q=0.8,en;q=0.7");
+                put("Cache-Control", "no-cache");
+                put("Pragma", "no-cache");
+                put("Upgrade-Insecure-Requests", "1");
+            }});
+
+            CrawlRequestFilter.CrawlTraffic traffic = new CrawlRequestFilter.CrawlTraffic();
+            crawlRequestFilter.install(context, page, traffic);
+
+            PooledPage pooled = new PooledPage(playwright, browser, context, page, traffic, generation.get());
+            allPages.add(pooled);
+            createdCount.increment();
+            available = true;
+            log.info("Playwright 페이지 생성 완료 (현재 {}개 / 최대 {}개)", allPages.size(), poolSize);
+            return pooled;
+        } catch (RuntimeException e) {
+            available = false;
+            logCreateFailure(e);
+            if (playwright != null) {
+                try {
+                    playwright.close();
+                } catch (Exception closeEx) {
+                    log.warn("Playwright 정리 중 오류: {}", closeEx.getMessage());
+                }
+            }
+            throw e;
+        }
+    }
+
+    private Browser launchBrowser(Playwright playwright) {
+        BrowserType.LaunchOptions launchOptions = new BrowserType.LaunchOptions()
+            .setHeadless(true)
+            .setArgs(Arrays.asList(
+                "--no-sandbox",
+                "--disable-dev-shm-usage",
+                "--disable-blink-features=AutomationControlled",
+                "--disable-features=IsolateOrigins,site-per-process",
+                "--lang=ko-KR,ko",
+                "--window-size=1366,768",
+                "--disable-gpu",
+                "--disable-software-rasterizer",
+                "--disable-extensions",
+                "--disable-plugins"
+            ));
+        try {
+            return playwright.chromium().launch(launchOptions);
+        } catch (Exception e) {
+            log.error("Chromium 브라우저 시작 실패: {} - {}", e.getClass().getName(), e.getMessage());
+            // fallback: 더 간단한 옵션으로 재시도
+            log.info("=== fallback: 간단한 옵션으로 브라우저 시작 재시도 ===");
+            BrowserType.LaunchOptions fallbackOptions = new BrowserType.LaunchOptions()
+                .setHeadless(true)
+                .setArgs(Arrays.asList(
+                    "--no-sandbox",
+                    "--disable-dev-shm-usage"
+                ));
+            Browser browser = playwright.chromium().launch(fallbackOptions);
+            log.info("=== fallback: 브라우저 시작 성공 ===");
+            return browser;
+        }
+    }
+
+    private void logCreateFailure(Exception e) {
+        log.error("=== Playwright 페이지 생성 실패 상세 분석 ===");
+        log.error("에러 타입: {}", e.getClass().getName());
+        log.error("에러 메시지: {}", e.getMessage());
+        log.error("에러 원인: {}", e.getCause() != null ? e.getCause().getMessage() : "원인 없음");
+
+        StackTraceElement[] stackTrace = e.getStackTrace();
+        log.error("스택 트레이스 (최대 10개):");
+        for (int i = 0; i < Math.min(stackTrace.length, 10); i++) {
+            StackTraceElement element = stackTrace[i];
+            log.error("  {}: {}.{}({}:{})",
+                i, element.getClassName(), element.getMethodName(),
+                element.getFileName(), element.getLineNumber());
+        }
+
+        log.error("=== 시스템 정보 ===");
+        log.error("Java 버전: {}", System.getProperty("java.version"));
+        log.error("OS: {} {}", System.getProperty("os.name"), System.getProperty("os.version"));
+        log.error("아키텍처: {}", System.getProperty("os.arch"));
+        log.error("임시 디렉토리: {}", System.getProperty("java.io.tmpdir"));
+        log.error("Playwright 브라우저 경로: {}", System.getenv("PLAYWRIGHT_BROWSERS_PATH"));
+        log.error("Playwright 캐시 디렉토리: {}", System.getenv("PLAYWRIGHT_CACHE_DIR"));
+        Runtime runtime = Runtime.getRuntime();
+        log.error("사용 중인 메모리: {} MB / 최대 메모리: {} MB",
+            (runtime.totalMemory() - runtime.freeMemory()) / 1024 / 1024, runtime.maxMemory() / 1024 / 1024);
+    }
+
+    private void discard(PooledPage pooled, String reason) {
+        allPages.remove(pooled);
+        recycledCount.increment();
+        log.info("Playwright 페이지 폐기: {} (사용 {}회)", reason, pooled.useCount);
+        pooled.close();
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("poolSize", poolSize);
+        stats.put("openPages", allPages.size());
+        stats.put("idlePages", idlePages.size());
+        stats.put("borrowedPages", getBorrowedCount());
+        stats.put("waitingThreads", permits.getQueueLength());
+        stats.put("createdCount", createdCount.sum());
+        stats.put("recycledCount", recycledCount.sum());
+        stats.put("borrowTimeoutCount", borrowTimeoutCount.sum());
+        stats.put("available", isAvailable());
+        return stats;
+    }
+
+    private int getBorrowedCount() {
+        return poolSize - permits.availablePermits();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("dfparty.playwright.pool.borrowed", this, PlaywrightPagePool::getBorrowedCount)
+            .description("대여 중인 Playwright 페이지 수")
+            .register(registry);
+        Gauge.builder("dfparty.playwright.pool.idle", idlePages, LinkedBlockingDeque::size)
+            .description("대기 중인 Playwright 페이지 수")
+            .register(registry);
+        Gauge.builder("dfparty.playwright.pool.pending", permits, Semaphore::getQueueLength)
+            .description("페이지 대여를 기다리는 스레드 수")
+            .register(registry);
+        FunctionCounter.builder("dfparty.playwright.pool.created", createdCount, LongAdder::sum)
+            .description("생성된 Playwright 페이지 수")
+            .register(registry);
+        FunctionCounter.builder("dfparty.playwright.pool.recycled", recycledCount, LongAdder::sum)
+            .description("폐기된 Playwright 페이지 수")
+            .register(registry);
+        FunctionCounter.builder("dfparty.playwright.pool.borrow.timeouts", borrowTimeoutCount, LongAdder::sum)
+            .description("대여 대기 시간 초과 횟수")
+            .register(registry);
+        borrowWaitTimer = Timer.builder("dfparty.playwright.pool.borrow.wait")
+            .description("Playwright 페이지 대여 대기 시간")
+            .register(registry);
+    }
+
+    /**
+     * 서비스 종료 시 리소스 정리 (대여 중인 페이지는 반납 시 폐기)
+     */
+    @PreDestroy
+    public void close() {
+        log.info("=== Playwright 페이지 풀 정리 시작 ===");
+        closed = true;
+        PooledPage pooled;
+        while ((pooled = idlePages.pollFirst()) != null) {
+            discard(pooled, "풀 종료");
+        }
+        log.info("=== Playwright 페이지 풀 정리 완료 ===");
+    }
+
+    /**
+     * 풀 슬롯 하나 (Playwright 인스턴스 ~ Page). 대여한 스레드만 사용한다
+     */
+    public static final class PooledPage {
+        private final Playwright playwright;
+        private final Browser browser;
+        private final BrowserContext context;
+        private final Page page;
+        private final CrawlRequestFilter.CrawlTraffic traffic;
+        private final int generation;
+        private int useCount;
+
+        private PooledPage(Playwright playwright, Browser browser, BrowserContext context, Page page,
+                           CrawlRequestFilter.CrawlTraffic traffic, int generation) {
+            this.playwright = playwright;
+            this.browser = browser;
+            this.context = context;
+            this.page = page;
+            this.traffic = traffic;
+            this.generation = generation;
+        }
+
+        public Page getPage() {
+            return page;
+        }
+
+        public BrowserContext getContext() {
+            return context;
+        }
+
+        public CrawlRequestFilter.CrawlTraffic getTraffic() {
+            return traffic;
+        }
+
+        public int getUseCount() {
+            return useCount;
+        }
+
+        private boolean isHealthy() {
+            try {
+                return browser.isConnected() && !page.isClosed();
+            } catch (Exception e) {
+                return false;
+            }
+        }
+
+        /**
+         * Chromium performance.memory 기준 JS 힙 사용량 (측정 불가 시 0)
+         */
+        private long usedJsHeapBytes() {
+            try {
+                Object value = page.evaluate("() => performance.memory ? performance.memory.usedJSHeapSize : 0");
+                return value instanceof Number number ? number.longValue() : 0L;
+            } catch (Exception e) {
+                return 0L;
+            }
+        }
+
+        private void close() {
+            try {
+                context.close();
+            } catch (Exception e) {
+                log.warn("컨텍스트 정리 중 오류: {}", e.getMessage());
+            }
+            try {
+                browser.close();
+            } catch (Exception e) {
+                log.warn("브라우저 정리 중 오류: {}", e.getMessage());
+            }
+            try {
+                playwright.close();
+            } catch (Exception e) {
+                log.warn("Playwright 정리 중 오류: {}", e.getMessage());
+            }
+        }
+    }
+}
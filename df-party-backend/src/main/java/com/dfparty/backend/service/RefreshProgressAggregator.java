@@ -0,0 +1,179 @@
+package com.dfparty.backend.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 일괄 최신화 진행 알림 병합
+ *
+ * 캐릭터 하나 처리할 때마다 SSE를 보내는 대신 작업별 카운터만 올리고,
+ * sse.progress.interval-ms 주기마다 마지막 전송 이후 최소 단계 이상 진행된 작업만 진행 이벤트를 한 번 보낸다.
+ * 최소 단계 = max(min-step-count, 전체의 min-step-percent%) 건이라 항목당 처리 시간이 주기보다 길어도 이벤트 수가 늘지 않는다.
+ * 단, 최소 단계는 전체 건수를 넘지 않아 작은 작업도 중간 진행 이벤트를 받는다.
+ * 작업을 닫을 때 아직 보내지 않은 진행 상태(100%)를 먼저 보내고, 시작 / 최종 결과 알림은 호출하는 쪽에서 즉시 보낸다.
+ */
+@Slf4j
+@Service
+public class RefreshProgressAggregator implements MeterBinder {
+
+    private final Map<String, ProgressJob> jobs = new ConcurrentHashMap<>();
+    private final AtomicLong jobSequence = new AtomicLong();
+    private final AtomicLong suppressedUpdates = new AtomicLong();
+    private final int minStepCount;
+    private final int minStepPercent;
+
+    public RefreshProgressAggregator(@Value("${sse.progress.min-step-count:5}") int minStepCount,
+                                     @Value("${sse.progress.min-step-percent:5}") int minStepPercent) {
+        this.minStepCount = Math.max(1, minStepCount);
+        this.minStepPercent = Math.max(0, minStepPercent);
+    }
+
+    /**
+     * 진행 작업 등록 (publisher는 최신 카운터로 진행 이벤트를 만들어 전송)
+     * 같은 대상에 대해 동시에 여러 번 실행해도 서로 덮어쓰지 않도록 실행마다 고유 키를 붙인다.
+     */
+    public ProgressJob open(String jobKey, int total, Consumer<ProgressJob> publisher) {
+        int step = Math.max(minStepCount, (int) Math.ceil(total * minStepPercent / 100.0));
+        step = Math.min(step, Math.max(1, total));
+        ProgressJob job = new ProgressJob(jobKey + "#" + jobSequence.incrementAndGet(), total, step, publisher);
+        jobs.put(job.getJobKey(), job);
+        return job;
+    }
+
+    /**
+     * 작업 종료 (마지막 전송 이후 진행분이 있으면 먼저 보내고 제거, 최종 결과는 호출하는 쪽에서 전송)
+     */
+    public void close(ProgressJob job) {
+        synchronized (job) {
+            job.closed = true;
+            if (job.getProcessed() > job.publishedProcessed) {
+                publish(job);
+            }
+        }
+        jobs.remove(job.getJobKey(), job);
+        long suppressed = job.updates.get() - job.published.get();
+        suppressedUpdates.addAndGet(Math.max(0, suppressed));
+        log.debug("진행 알림 작업 종료: {}, 처리 {}건, 진행 이벤트 {}건", job.getJobKey(), job.updates.get(), job.published.get());
+    }
+
+    @Scheduled(fixedRateString = "${sse.progress.interval-ms:250}")
+    public void flush() {
+        for (ProgressJob job : jobs.values()) {
+            synchronized (job) {
+                if (!job.closed && job.getProcessed() - job.publishedProcessed >= job.step) {
+                    publish(job);
+                }
+            }
+        }
+    }
+
+    /**
+     * 진행 이벤트 전송 (job 락 안에서 호출해 flush / close 사이 순서가 뒤바뀌지 않도록 함)
+     */
+    private void publish(ProgressJob job) {
+        job.publishedProcessed = job.getProcessed();
+        try {
+            job.publisher.accept(job);
+            job.published.incrementAndGet();
+        } catch (Exception e) {
+            log.warn("진행 알림 전송 실패: {} - {}", job.getJobKey(), e.getMessage());
+        }
+    }
+
+    public int activeJobCount() {
+        return jobs.size();
+    }
+
+    public long suppressedUpdateCount() {
+        return suppressedUpdates.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("dfparty.sse.progress.jobs", this, RefreshProgressAggregator::activeJobCount)
+            .description("진행 알림을 병합 중인 작업 수")
+            .register(registry);
+        FunctionCounter.builder("dfparty.sse.progress.suppressed", this, RefreshProgressAggregator::suppressedUpdateCount)
+            .description("병합되어 보내지 않은 진행 알림 수")
+            .register(registry);
+    }
+
+    /**
+     * 진행 중인 작업 하나의 카운터 (여러 스레드에서 record 호출 가능)
+     */
+    public static final class ProgressJob {
+        private final String jobKey;
+        private final int total;
+        private final int step;
+        private final Consumer<ProgressJob> publisher;
+        private final AtomicInteger processed = new AtomicInteger();
+        private final AtomicInteger success = new AtomicInteger();
+        private final AtomicInteger fail = new AtomicInteger();
+        private final AtomicLong updates = new AtomicLong();
+        private final AtomicLong published = new AtomicLong();
+        private volatile String lastItem;
+        private int publishedProcessed; // this로 동기화
+        private boolean closed; // this로 동기화
+
+        private ProgressJob(String jobKey, int total, int step, Consumer<ProgressJob> publisher) {
+            this.jobKey = jobKey;
+            this.total = total;
+            this.step = step;
+            this.publisher = publisher;
+        }
+
+        /**
+         * 항목 하나 처리 완료 기록 (최소 단계 이상 쌓이면 다음 주기에 진행 이벤트로 반영)
+         */
+        public void record(String item, boolean succeeded) {
+            if (succeeded) {
+                success.incrementAndGet();
+            } else {
+                fail.incrementAndGet();
+            }
+            lastItem = item;
+            updates.incrementAndGet();
+            processed.incrementAndGet();
+        }
+
+        public String getJobKey() {
+            return jobKey;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        public int getProcessed() {
+            return processed.get();
+        }
+
+        public int getSuccess() {
+            return success.get();
+        }
+
+        public int getFail() {
+            return fail.get();
+        }
+
+        public String getLastItem() {
+            return lastItem;
+        }
+
+        public int getProgressPercent() {
+            return total > 0 ? (int) ((double) processed.get() / total * 100) : 100;
+        }
+    }
+}
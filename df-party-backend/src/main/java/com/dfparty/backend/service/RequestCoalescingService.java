@@ -0,0 +1,100 @@
+package com.dfparty.backend.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 동일 키에 대한 동시 외부 호출을 하나로 합치는 서비스 (single-flight)
+ * 먼저 도착한 호출만 실제로 실행하고, 실행 중에 들어온 같은 키의 호출은 그 결과를 공유한다.
+ */
+@Slf4j
+@Service
+public class RequestCoalescingService implements MeterBinder {
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder executedCount = new LongAdder();
+    private final LongAdder collapsedCount = new LongAdder();
+
+    /**
+     * 같은 키로 진행 중인 호출이 있으면 그 결과를 기다리고, 없으면 loader를 직접 실행
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Callable<T> loader) throws Exception {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            collapsedCount.increment();
+            log.debug("진행 중인 요청에 합류: key={}", key);
+            return (T) await(existing);
+        }
+
+        executedCount.increment();
+        try {
+            T result = loader.call();
+            future.complete(result);
+            return result;
+        } catch (Throwable t) {
+            future.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private Object await(CompletableFuture<Object> future) throws Exception {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception exception) {
+                throw exception;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 합쳐진 호출 통계
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        long executed = executedCount.sum();
+        long collapsed = collapsedCount.sum();
+        stats.put("executedCount", executed);
+        stats.put("collapsedCount", collapsed);
+        stats.put("inFlightCount", inFlight.size());
+        stats.put("collapseRate", executed + collapsed == 0 ? 0.0 : (double) collapsed / (executed + collapsed));
+        return stats;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("dfparty.coalescing.requests", executedCount, LongAdder::sum)
+            .tag("result", "executed")
+            .description("실제로 실행된 외부 호출 수")
+            .register(registry);
+        FunctionCounter.builder("dfparty.coalescing.requests", collapsedCount, LongAdder::sum)
+            .tag("result", "collapsed")
+            .description("진행 중인 호출에 합쳐진 중복 호출 수")
+            .register(registry);
+        Gauge.builder("dfparty.coalescing.in-flight", inFlight, Map::size)
+            .description("현재 진행 중인 외부 호출 수")
+            .register(registry);
+    }
+}
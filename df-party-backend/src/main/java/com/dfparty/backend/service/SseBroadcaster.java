@@ -0,0 +1,611 @@
+package com.dfparty.backend.service;
+
+import com.dfparty.backend.model.RealtimeEvent;
+import com.dfparty.backend.model.RealtimeTopic;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SSE 연결 관리 / 이벤트 팬아웃
+ *
+ * - 이벤트는 발행할 때 한 번만 JSON 직렬화해 SSE 프레임으로 만들고, 같은 프레임을 모든 대상 연결의 큐에 넣는다.
+ * - 실제 전송은 연결별 writer 작업(ioTaskExecutor, 가상 스레드)이 담당하므로 발행 스레드는 네트워크를 기다리지 않는다.
+ * - 연결별 큐는 sse.client.queue-capacity로 제한되고, 넘치면 가장 오래된 이벤트를 버린다.
+ * - 토픽 구독: 토픽 → 구독 클라이언트 인덱스로 관심 있는 클라이언트에게만 전달한다.
+ *   구독 토픽이 하나도 없는 클라이언트(기존 프론트엔드)는 모든 토픽 이벤트를 받는다.
+ * - 재연결 재생: 이벤트마다 증가하는 ID(SSE id 필드)를 붙이고, 스트림(토픽 / 전체 / 클라이언트 개별)별 링 버퍼에 보관한다.
+ *   Last-Event-ID로 다시 연결하면 놓친 이벤트만 순서대로 다시 보내고, 이미 버퍼에서 밀려났으면 resync 이벤트를 보낸다.
+ *   토픽 / 클라이언트 스트림은 max-streams를 넘으면 오래 안 쓴 것부터 버퍼째 제거하고, 제거된 버퍼의 마지막 이벤트 ID를
+ *   제거 워터마크로 남겨 그 이전 ID로 재연결하면 (해당 스트림을 잃었을 수 있으므로) resync를 보낸다.
+ *   전체 브로드캐스트 스트림은 제거하지 않고, 연결되지 않은 클라이언트의 개별 스트림은 만들지 않는다.
+ *   ID 발급 / 버퍼 기록 / 큐 적재와 재연결 시 등록 / 재생은 같은 락 안에서 처리하므로 연결별로 ID 순서가 보장된다.
+ * - 하트비트 / 정리: 연결마다 스레드를 두지 않고 스케줄 작업 하나가 주기마다 전체 연결을 훑는다.
+ *   하트비트 주기 동안 아무것도 보내지 않은 연결에만 ping을 넣고(한 번에 최대 batch-size개, 나머지는 다음 주기),
+ *   이미 닫힌 연결과 가장 오래된 대기 프레임이 stall-timeout 넘게 전송되지 못한 연결은 바로 정리한다.
+ *   batch-size × (interval-ms / tick-ms)가 max-total-emitters보다 작으면 모든 연결에 제때 ping할 수 없으므로 시작 시 batch-size를 올린다.
+ * - 연결 수 제한: sse.max-emitters-per-client / sse.max-total-emitters, 넘으면 가장 오래된 연결부터 종료
+ * - 메트릭: dfparty.sse.connections / clients / topics / queue.depth / replay.streams,
+ *   dfparty.sse.events.sent / dropped, dfparty.sse.connections.reaped
+ */
+@Slf4j
+@Service
+public class SseBroadcaster implements MeterBinder {
+
+    private static final Set<DataWithMediaType> HEARTBEAT_FRAME = SseEmitter.event().name("heartbeat").data("ping").build();
+
+    // 재생 스트림 키: 전체 브로드캐스트 / 클라이언트 개별 (토픽 스트림은 토픽 이름 그대로)
+    private static final String BROADCAST_STREAM = "*";
+    private static final String CLIENT_STREAM_PREFIX = "client:";
+
+    private final Map<String, SseClient> clients = new ConcurrentHashMap<>();
+    private final Map<String, Set<SseClient>> topicIndex = new ConcurrentHashMap<>();
+    private final Set<SseClient> wildcardClients = ConcurrentHashMap.newKeySet();
+    private final Executor writerExecutor;
+    private final int queueCapacity;
+    private final int maxEmittersPerClient;
+    private final int maxTotalEmitters;
+    private final long emitterTimeoutMs;
+    private final long heartbeatIntervalMs;
+    private final int heartbeatBatchSize;
+    private final long stallTimeoutMs;
+    // Jackson JSR310 모듈로 LocalDateTime 직렬화 (기존 SSE 이벤트 포맷 유지)
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private final LongAdder sentEvents = new LongAdder();
+    private final LongAdder droppedEvents = new LongAdder();
+    private final LongAdder reapedConnections = new LongAdder();
+
+    // 이벤트 ID: 시작 시각 기반으로 시작해 재시작 후에도 이전 ID보다 커지도록 함
+    private final long firstEventId = System.currentTimeMillis() * 1000;
+    private final AtomicLong eventSequence = new AtomicLong(firstEventId);
+    private final Object publishLock = new Object();
+    private final int replayCapacity;
+    private final SseReplayBuffer broadcastBuffer; // 전체 브로드캐스트 스트림 (LRU 제거 대상 아님)
+    private final Map<String, SseReplayBuffer> replayBuffers; // publishLock으로 동기화, 접근 순서 LRU
+    private long evictedStreamsUpTo; // publishLock으로 동기화, LRU로 제거된 버퍼들의 마지막 이벤트 ID 중 최댓값
+
+    public SseBroadcaster(@Qualifier("ioTaskExecutor") Executor writerExecutor,
+                          @Value("${sse.client.queue-capacity:256}") int queueCapacity,
+                          @Value("${sse.replay.capacity:200}") int replayCapacity,
+                          @Value("${sse.replay.max-streams:1000}") int maxReplayStreams,
+                          @Value("${sse.max-emitters-per-client:3}") int maxEmittersPerClient,
+                          @Value("${sse.max-total-emitters:100}") int maxTotalEmitters,
+                          @Value("${sse.emitter-timeout-ms:120000}") long emitterTimeoutMs,
+                          @Value("${sse.heartbeat.interval-ms:30000}") long heartbeatIntervalMs,
+                          @Value("${sse.heartbeat.tick-ms:5000}") long heartbeatTickMs,
+                          @Value("${sse.heartbeat.batch-size:500}") int heartbeatBatchSize,
+                          @Value("${sse.heartbeat.stall-timeout-ms:60000}") long stallTimeoutMs) {
+        this.writerExecutor = writerExecutor;
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.maxEmittersPerClient = Math.max(1, maxEmittersPerClient);
+        this.maxTotalEmitters = Math.max(1, maxTotalEmitters);
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.heartbeatIntervalMs = heartbeatIntervalMs;
+        this.heartbeatBatchSize = resolveHeartbeatBatchSize(heartbeatBatchSize, heartbeatIntervalMs, heartbeatTickMs, this.maxTotalEmitters);
+        this.stallTimeoutMs = stallTimeoutMs;
+        this.replayCapacity = Math.max(1, replayCapacity);
+        this.broadcastBuffer = new SseReplayBuffer(this.replayCapacity, firstEventId);
+        this.replayBuffers = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, SseReplayBuffer> eldest) {
+                if (size() <= Math.max(1, maxReplayStreams)) {
+                    return false;
+                }
+                evictedStreamsUpTo = Math.max(evictedStreamsUpTo, eldest.getValue().getLastId());
+                return true;
+            }
+        };
+    }
+
+    /**
+     * 하트비트 주기 안에 최대 연결 수만큼 ping할 수 있는 batch-size 계산 (설정값이 부족하면 올리고 경고)
+     */
+    private static int resolveHeartbeatBatchSize(int batchSize, long intervalMs, long tickMs, int maxTotalEmitters) {
+        long ticksPerInterval = Math.max(1, intervalMs / Math.max(1, tickMs));
+        int required = (int) Math.min(Integer.MAX_VALUE, (maxTotalEmitters + ticksPerInterval - 1) / ticksPerInterval);
+        int configured = Math.max(1, batchSize);
+        if (configured < required) {
+            log.warn("sse.heartbeat.batch-size({}) × (interval-ms {} / tick-ms {})가 max-total-emitters({})보다 작아 batch-size를 {}로 조정합니다.",
+                configured, intervalMs, tickMs, maxTotalEmitters, required);
+            return required;
+        }
+        return configured;
+    }
+
+    /**
+     * 클라이언트 하나 (clientId 단위 구독 토픽 + 열린 연결 목록)
+     */
+    private static final class SseClient {
+        private final String clientId;
+        private final CopyOnWriteArrayList<SseClientConnection> connections = new CopyOnWriteArrayList<>();
+        private final Set<String> topics = new HashSet<>(); // this로 동기화
+        private boolean removed; // this로 동기화
+
+        private SseClient(String clientId) {
+            this.clientId = clientId;
+        }
+    }
+
+    /**
+     * 클라이언트 연결 등록 (요청마다 새 에미터), topics가 있으면 함께 구독
+     * 같은 클라이언트의 이전 연결은 최대 개수를 넘을 때만 오래된 것부터 닫고, 끊긴 연결은 하트비트 정리 작업이 치운다.
+     * lastEventId가 있으면 그 이후 이벤트 중 이 클라이언트가 받았어야 할 것을 먼저 재생한다.
+     */
+    public SseEmitter connect(String clientId, Collection<String> topics, Long lastEventId) {
+        log.info("SSE 연결 요청: clientId={}, 토픽={}, 활성 클라이언트 {}명, 총 에미터 {}개",
+            clientId, topics, clients.size(), connectionCount());
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        SseClientConnection connection = new SseClientConnection(
+            clientId, emitter, queueCapacity, writerExecutor, sentEvents, droppedEvents, this::remove);
+
+        // 클라이언트당 최대 에미터 수 제한
+        SseClient current = clients.get(clientId);
+        if (current != null && current.connections.size() >= maxEmittersPerClient) {
+            log.info("클라이언트 {}의 최대 에미터 수 초과 ({}개), 오래된 연결 제거", clientId, maxEmittersPerClient);
+            List<SseClientConnection> existing = List.copyOf(current.connections);
+            for (int i = 0; i <= existing.size() - maxEmittersPerClient; i++) {
+                existing.get(i).close();
+            }
+        }
+
+        // 전체 최대 에미터 수 제한
+        if (connectionCount() >= maxTotalEmitters) {
+            log.info("전체 최대 에미터 수 초과 ({}개), 오래된 연결 정리", maxTotalEmitters);
+            evictOldestConnections(maxTotalEmitters - 1);
+        }
+
+        // 등록과 재생 사이에 발행된 이벤트가 빠지거나 중복되지 않도록 발행 락 안에서 처리
+        synchronized (publishLock) {
+            SseClient client = clients.compute(clientId, (k, found) -> {
+                SseClient target = found != null ? found : new SseClient(clientId);
+                target.connections.add(connection);
+                return target;
+            });
+            synchronized (client) {
+                if (!client.removed && client.topics.isEmpty()) {
+                    wildcardClients.add(client);
+                }
+            }
+            subscribe(clientId, topics);
+
+            // 연결 성공 이벤트 전송
+            connection.enqueue(SseEmitter.event().name("connect").data("SSE 연결 성공: " + clientId).build());
+            if (lastEventId != null) {
+                replay(client, connection, lastEventId);
+            }
+        }
+
+        emitter.onCompletion(connection::close);
+        emitter.onTimeout(() -> {
+            log.debug("SSE 연결 타임아웃: {}", clientId);
+            connection.close();
+        });
+        emitter.onError(ex -> {
+            if (ex instanceof IOException && ex.getMessage() != null && ex.getMessage().contains("Broken pipe")) {
+                log.debug("SSE 연결 끊김 (Broken pipe): {}", clientId);
+            } else {
+                log.warn("SSE 연결 오류: {} - {}", clientId, ex.toString());
+            }
+            connection.close();
+        });
+
+        log.info("SSE 에미터 생성 완료: clientId={}, 활성 클라이언트 {}명, 총 에미터 {}개", clientId, clients.size(), connectionCount());
+        return emitter;
+    }
+
+    /**
+     * lastEventId 이후 이벤트 재생 (전체 + 개별 + 구독 토픽, 구독이 없으면 모든 토픽), publishLock 안에서 호출
+     */
+    private void replay(SseClient client, SseClientConnection connection, long lastEventId) {
+        List<String> streams = new ArrayList<>();
+        streams.add(CLIENT_STREAM_PREFIX + client.clientId);
+        boolean wildcard;
+        synchronized (client) {
+            wildcard = client.topics.isEmpty();
+            if (wildcard) {
+                for (String stream : replayBuffers.keySet()) {
+                    if (RealtimeTopic.isValid(stream)) streams.add(stream);
+                }
+            } else {
+                streams.addAll(client.topics);
+            }
+        }
+
+        List<SseReplayBuffer.Entry> missed = new ArrayList<>();
+        boolean gap = lastEventId < firstEventId;
+        gap |= broadcastBuffer.collectAfter(lastEventId, missed);
+        // 구독이 없는 클라이언트는 제거된 토픽 스트림도 받았어야 하므로 워터마크 이전이면 누락 가능
+        boolean evictedSinceLastEvent = lastEventId < evictedStreamsUpTo;
+        gap |= wildcard && evictedSinceLastEvent;
+        for (String stream : streams) {
+            SseReplayBuffer buffer = replayBuffers.get(stream);
+            if (buffer != null) {
+                gap |= buffer.collectAfter(lastEventId, missed);
+                // lastEventId 이후에 새로 만든 버퍼라면 그 전에 같은 스트림 버퍼가 제거됐을 수 있음
+                gap |= buffer.getCreatedAfter() > lastEventId && evictedSinceLastEvent;
+            } else {
+                gap |= evictedSinceLastEvent;
+            }
+        }
+        missed.sort(Comparator.comparingLong(SseReplayBuffer.Entry::id));
+
+        // 여러 토픽에 같이 기록된 이벤트는 한 번만, 큐 용량을 넘는 앞부분은 버리고 resync로 알림
+        List<SseReplayBuffer.Entry> unique = new ArrayList<>(missed.size());
+        for (SseReplayBuffer.Entry entry : missed) {
+            if (unique.isEmpty() || unique.get(unique.size() - 1).id() != entry.id()) {
+                unique.add(entry);
+            }
+        }
+        int limit = Math.max(0, queueCapacity - 2);
+        if (unique.size() > limit) {
+            unique = unique.subList(unique.size() - limit, unique.size());
+            gap = true;
+        }
+
+        if (gap) {
+            connection.enqueue(SseEmitter.event()
+                .name("resync")
+                .data("{\"lastEventId\":" + lastEventId + "}")
+                .build());
+        }
+        for (SseReplayBuffer.Entry entry : unique) {
+            connection.enqueue(entry.frame());
+        }
+        log.info("SSE 재연결 재생: clientId={}, lastEventId={}, 재생 {}건, resync={}", client.clientId, lastEventId, unique.size(), gap);
+    }
+
+    /**
+     * 토픽 구독 추가 (연결된 클라이언트가 없으면 false, 형식이 잘못된 토픽은 무시)
+     */
+    public boolean subscribe(String clientId, Collection<String> topics) {
+        SseClient client = clients.get(clientId);
+        if (client == null) {
+            return false;
+        }
+        if (topics == null || topics.isEmpty()) {
+            return true;
+        }
+        synchronized (client) {
+            if (client.removed) {
+                return false;
+            }
+            for (String topic : topics) {
+                if (!RealtimeTopic.isValid(topic)) {
+                    log.debug("지원하지 않는 SSE 토픽 무시: clientId={}, topic={}", clientId, topic);
+                    continue;
+                }
+                if (client.topics.add(topic)) {
+                    topicIndex.computeIfAbsent(topic, k -> ConcurrentHashMap.newKeySet()).add(client);
+                }
+            }
+            if (!client.topics.isEmpty()) {
+                wildcardClients.remove(client);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 토픽 구독 해제 (모두 해제하면 다시 전체 이벤트 수신)
+     */
+    public boolean unsubscribe(String clientId, Collection<String> topics) {
+        SseClient client = clients.get(clientId);
+        if (client == null) {
+            return false;
+        }
+        synchronized (client) {
+            if (client.removed) {
+                return false;
+            }
+            for (String topic : topics) {
+                if (client.topics.remove(topic)) {
+                    removeFromIndex(topic, client);
+                }
+            }
+            if (client.topics.isEmpty()) {
+                wildcardClients.add(client);
+            }
+        }
+        return true;
+    }
+
+    public Set<String> getSubscriptions(String clientId) {
+        SseClient client = clients.get(clientId);
+        if (client == null) {
+            return Collections.emptySet();
+        }
+        synchronized (client) {
+            return Set.copyOf(client.topics);
+        }
+    }
+
+    private void removeFromIndex(String topic, SseClient client) {
+        topicIndex.computeIfPresent(topic, (k, subscribers) -> {
+            subscribers.remove(client);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    /**
+     * 특정 클라이언트에게 이벤트 전송
+     */
+    public void sendToClient(String clientId, RealtimeEvent event) {
+        String json = convertEventToJson(event);
+        synchronized (publishLock) {
+            // 연결되지 않은 클라이언트용 재생 스트림은 만들지 않음 (다른 스트림이 LRU로 밀려나지 않도록)
+            SseClient client = clients.get(clientId);
+            if (client == null || client.connections.isEmpty()) {
+                log.debug("클라이언트 {}에 대한 활성 연결이 없음", clientId);
+                return;
+            }
+            Set<DataWithMediaType> frame = record(List.of(CLIENT_STREAM_PREFIX + clientId), event, json);
+            enqueue(client, frame);
+        }
+    }
+
+    /**
+     * 모든 클라이언트에게 브로드캐스트 (직렬화 1회, 전송은 연결별 writer가 처리)
+     */
+    public void broadcast(RealtimeEvent event) {
+        String json = convertEventToJson(event);
+        int targets = 0;
+        synchronized (publishLock) {
+            Set<DataWithMediaType> frame = record(List.of(BROADCAST_STREAM), event, json);
+            for (SseClient client : clients.values()) {
+                targets += enqueue(client, frame);
+            }
+        }
+        log.debug("SSE 브로드캐스트: type={}, 대상 에미터 {}개", event.getType(), targets);
+    }
+
+    /**
+     * 토픽 이벤트 발행: 토픽 중 하나라도 구독한 클라이언트 + 구독 없는 클라이언트에게 한 번씩 전달
+     */
+    public void publish(Collection<String> topics, RealtimeEvent event) {
+        String json = convertEventToJson(event);
+        int sent = 0;
+        synchronized (publishLock) {
+            Set<DataWithMediaType> frame = record(topics, event, json);
+            Set<SseClient> targets = Collections.newSetFromMap(new IdentityHashMap<>());
+            targets.addAll(wildcardClients);
+            for (String topic : topics) {
+                Set<SseClient> subscribers = topicIndex.get(topic);
+                if (subscribers != null) {
+                    targets.addAll(subscribers);
+                }
+            }
+            for (SseClient client : targets) {
+                sent += enqueue(client, frame);
+            }
+        }
+        log.debug("SSE 토픽 발행: topics={}, type={}, 대상 에미터 {}개", topics, event.getType(), sent);
+    }
+
+    /**
+     * 이벤트 ID 발급 + 프레임 생성 + 스트림별 재생 버퍼 기록 (publishLock 안에서 호출)
+     */
+    private Set<DataWithMediaType> record(Collection<String> streams, RealtimeEvent event, String json) {
+        long id = eventSequence.incrementAndGet();
+        Set<DataWithMediaType> frame = SseEmitter.event()
+            .id(Long.toString(id))
+            .name(event.getType().toString().toLowerCase())
+            .data(json)
+            .build();
+        for (String stream : streams) {
+            if (BROADCAST_STREAM.equals(stream)) {
+                broadcastBuffer.append(id, frame);
+            } else {
+                replayBuffers.computeIfAbsent(stream, k -> new SseReplayBuffer(replayCapacity, id - 1)).append(id, frame);
+            }
+        }
+        return frame;
+    }
+
+    private int enqueue(SseClient client, Set<DataWithMediaType> frame) {
+        int count = 0;
+        for (SseClientConnection connection : client.connections) {
+            connection.enqueue(frame);
+            count++;
+        }
+        return count;
+    }
+
+    private String convertEventToJson(RealtimeEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            log.warn("이벤트 JSON 변환 실패: {}", e.getMessage());
+            // 기본 문자열 반환
+            return "{\"type\":\"" + event.getType() + "\",\"message\":\"" + event.getMessage() + "\"}";
+        }
+    }
+
+    /**
+     * 연결 제거 (클라이언트의 마지막 연결이면 구독 정보도 함께 정리)
+     */
+    private void remove(SseClientConnection connection) {
+        SseClient[] emptied = new SseClient[1];
+        clients.computeIfPresent(connection.getClientId(), (clientId, client) -> {
+            client.connections.remove(connection);
+            if (client.connections.isEmpty()) {
+                emptied[0] = client;
+                return null;
+            }
+            return client;
+        });
+        SseClient client = emptied[0];
+        if (client != null) {
+            synchronized (client) {
+                client.removed = true;
+                for (String topic : client.topics) {
+                    removeFromIndex(topic, client);
+                }
+                client.topics.clear();
+                wildcardClients.remove(client);
+            }
+        }
+    }
+
+    /**
+     * 전체 연결 수가 limit 이하가 될 때까지 가장 먼저 연결된 것부터 종료
+     */
+    private void evictOldestConnections(int limit) {
+        List<SseClientConnection> all = new ArrayList<>();
+        for (SseClient client : clients.values()) {
+            all.addAll(client.connections);
+        }
+        int excess = all.size() - Math.max(0, limit);
+        if (excess <= 0) {
+            return;
+        }
+        all.sort(Comparator.comparingLong(SseClientConnection::getConnectedAt));
+        for (int i = 0; i < excess; i++) {
+            all.get(i).close();
+        }
+    }
+
+    /**
+     * 공용 하트비트 / 정리 작업
+     * - 닫혔는데 레지스트리에 남은 연결은 제거, 가장 오래된 대기 프레임이 stall-timeout 넘게 전송되지 못한 연결은 종료
+     * - 하트비트 주기 동안 전송이 없고 대기 프레임도 없는 연결에만 ping 추가 (주기당 최대 batch-size개)
+     * 실제 전송은 연결별 writer가 하므로 이 작업은 네트워크를 기다리지 않는다. 전송 실패한 연결은 writer가 정리한다.
+     */
+    @Scheduled(fixedDelayString = "${sse.heartbeat.tick-ms:5000}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        int pinged = 0;
+        int reaped = 0;
+        int deferred = 0;
+        for (SseClient client : clients.values()) {
+            for (SseClientConnection connection : client.connections) {
+                long pendingSince = connection.getPendingSince();
+                if (connection.isClosed()) {
+                    remove(connection);
+                } else if (pendingSince >= 0) {
+                    long waiting = now - pendingSince;
+                    if (waiting >= stallTimeoutMs) {
+                        log.debug("SSE 전송 정지 연결 종료: clientId={}, 가장 오래된 대기 이벤트 {}ms 경과", connection.getClientId(), waiting);
+                        connection.close();
+                        reaped++;
+                    }
+                } else if (now - connection.getLastSentAt() >= heartbeatIntervalMs) {
+                    if (pinged < heartbeatBatchSize) {
+                        connection.enqueue(HEARTBEAT_FRAME);
+                        pinged++;
+                    } else {
+                        deferred++;
+                    }
+                }
+            }
+        }
+        if (reaped > 0) {
+            reapedConnections.add(reaped);
+        }
+        if (pinged > 0 || reaped > 0) {
+            log.debug("SSE 하트비트: ping {}개, 다음 주기로 미룸 {}개, 정리 {}개, 남은 에미터 {}개",
+                pinged, deferred, reaped, connectionCount());
+        }
+    }
+
+    public int clientCount() {
+        return clients.size();
+    }
+
+    public int connectionCount() {
+        int count = 0;
+        for (SseClient client : clients.values()) {
+            count += client.connections.size();
+        }
+        return count;
+    }
+
+    public int getMaxTotalEmitters() {
+        return maxTotalEmitters;
+    }
+
+    public int getMaxEmittersPerClient() {
+        return maxEmittersPerClient;
+    }
+
+    public long reapedConnectionCount() {
+        return reapedConnections.sum();
+    }
+
+    public int topicCount() {
+        return topicIndex.size();
+    }
+
+    public int replayStreamCount() {
+        synchronized (publishLock) {
+            return replayBuffers.size();
+        }
+    }
+
+    public long queuedEvents() {
+        long queued = 0;
+        for (SseClient client : clients.values()) {
+            for (SseClientConnection connection : client.connections) {
+                queued += connection.queueSize();
+            }
+        }
+        return queued;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("dfparty.sse.connections", this, SseBroadcaster::connectionCount)
+            .description("열려 있는 SSE 에미터 수")
+            .register(registry);
+        Gauge.builder("dfparty.sse.clients", this, SseBroadcaster::clientCount)
+            .description("SSE 연결이 있는 클라이언트 수")
+            .register(registry);
+        Gauge.builder("dfparty.sse.topics", this, SseBroadcaster::topicCount)
+            .description("구독자가 있는 토픽 수")
+            .register(registry);
+        Gauge.builder("dfparty.sse.replay.streams", this, SseBroadcaster::replayStreamCount)
+            .description("재생 버퍼를 가진 스트림 수")
+            .register(registry);
+        Gauge.builder("dfparty.sse.queue.depth", this, SseBroadcaster::queuedEvents)
+            .description("전송 대기 중인 SSE 이벤트 수 (전체 연결 합계)")
+            .register(registry);
+        FunctionCounter.builder("dfparty.sse.events.sent", sentEvents, LongAdder::sum)
+            .description("전송 완료된 SSE 이벤트 수")
+            .register(registry);
+        FunctionCounter.builder("dfparty.sse.events.dropped", droppedEvents, LongAdder::sum)
+            .description("큐가 가득 차 버려진 SSE 이벤트 수")
+            .register(registry);
+        FunctionCounter.builder("dfparty.sse.connections.reaped", reapedConnections, LongAdder::sum)
+            .description("하트비트 정리 작업이 종료한 SSE 연결 수")
+            .register(registry);
+    }
+}
@@ -0,0 +1,189 @@
+package com.dfparty.backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * SSE 연결 하나 (에미터 + 전송 대기 큐)
+ *
+ * 발행 스레드는 직렬화가 끝난 프레임을 큐에 넣기만 하고, 실제 전송은 연결마다 하나의 writer 작업이 순서대로 처리한다.
+ * 느린 클라이언트 때문에 큐가 가득 차면 가장 오래된 프레임을 버린다 (다른 클라이언트 / 발행 스레드는 기다리지 않음).
+ * 프레임마다 큐에 들어온 시각을 함께 두고, 공용 하트비트 / 정리 작업은 마지막 전송 시각으로 ping 여부를,
+ * 가장 오래 기다린 프레임(전송 중인 프레임 포함)의 대기 시간으로 멈춘 연결 여부를 판단한다.
+ */
+@Slf4j
+final class SseClientConnection {
+
+    private final String clientId;
+    private final SseEmitter emitter;
+    private final int capacity;
+    private final Executor writerExecutor;
+    private final LongAdder sentCounter;
+    private final LongAdder droppedCounter;
+    private final Consumer<SseClientConnection> onClose;
+
+    private final ArrayDeque<QueuedFrame> queue;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final long connectedAt = System.currentTimeMillis();
+    private volatile long lastSentAt = connectedAt; // 마지막 전송 성공 시각 (연결 직후는 생성 시각)
+    private volatile long sendingSince; // 전송 중인 프레임이 큐에 들어온 시각 (전송 중이 아니면 0)
+
+    /**
+     * 대기 중인 프레임 + 큐에 들어온 시각
+     */
+    private record QueuedFrame(Set<DataWithMediaType> frame, long enqueuedAt) {
+    }
+
+    SseClientConnection(String clientId, SseEmitter emitter, int capacity, Executor writerExecutor,
+                        LongAdder sentCounter, LongAdder droppedCounter, Consumer<SseClientConnection> onClose) {
+        this.clientId = clientId;
+        this.emitter = emitter;
+        this.capacity = capacity;
+        this.writerExecutor = writerExecutor;
+        this.sentCounter = sentCounter;
+        this.droppedCounter = droppedCounter;
+        this.onClose = onClose;
+        this.queue = new ArrayDeque<>(Math.min(capacity, 16));
+    }
+
+    String getClientId() {
+        return clientId;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    long getConnectedAt() {
+        return connectedAt;
+    }
+
+    long getLastSentAt() {
+        return lastSentAt;
+    }
+
+    int queueSize() {
+        synchronized (queue) {
+            return queue.size();
+        }
+    }
+
+    /**
+     * 아직 전송되지 않은 가장 오래된 프레임이 큐에 들어온 시각 (전송 중인 프레임 포함, 대기 프레임이 없으면 -1)
+     */
+    long getPendingSince() {
+        synchronized (queue) {
+            long sending = sendingSince;
+            if (sending != 0) {
+                return sending;
+            }
+            QueuedFrame head = queue.peekFirst();
+            return head != null ? head.enqueuedAt() : -1;
+        }
+    }
+
+    /**
+     * 프레임을 전송 대기열에 추가 (가득 차면 가장 오래된 프레임을 버림)
+     */
+    void enqueue(Set<DataWithMediaType> frame) {
+        if (closed.get()) {
+            return;
+        }
+        long enqueuedAt = System.currentTimeMillis();
+        synchronized (queue) {
+            if (queue.size() >= capacity) {
+                // 버린 프레임의 대기 시작 시각은 다음 프레임이 이어받음 (계속 밀려나도 정지 판단이 늦춰지지 않도록)
+                long waitingSince = queue.pollFirst().enqueuedAt();
+                droppedCounter.increment();
+                QueuedFrame head = queue.pollFirst();
+                if (head != null) {
+                    queue.addFirst(new QueuedFrame(head.frame(), waitingSince));
+                } else {
+                    enqueuedAt = waitingSince;
+                }
+            }
+            queue.addLast(new QueuedFrame(frame, enqueuedAt));
+        }
+        scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            writerExecutor.execute(this::drain);
+        }
+    }
+
+    /**
+     * writer 작업: 큐가 빌 때까지 순서대로 전송
+     */
+    private void drain() {
+        while (true) {
+            QueuedFrame frame;
+            synchronized (queue) {
+                frame = queue.pollFirst();
+                if (frame != null) {
+                    sendingSince = frame.enqueuedAt();
+                }
+            }
+            if (frame == null) {
+                draining.set(false);
+                // 플래그를 내린 사이에 들어온 프레임이 있으면 이어서 처리
+                synchronized (queue) {
+                    if (queue.isEmpty() || !draining.compareAndSet(false, true)) {
+                        return;
+                    }
+                }
+                continue;
+            }
+            if (closed.get()) {
+                return;
+            }
+            try {
+                emitter.send(frame.frame());
+                lastSentAt = System.currentTimeMillis();
+                sendingSince = 0;
+                sentCounter.increment();
+            } catch (IOException | IllegalStateException e) {
+                log.debug("SSE 전송 실패 - 연결 종료: clientId={}, {}", clientId, e.getMessage());
+                close();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 연결 종료 (대기 중인 프레임은 버리고 레지스트리에서 제거)
+     * 에미터 종료는 writer 실행기에서 처리한다. 전송이 막힌 연결이면 complete()가 진행 중인 send()를 기다리므로
+     * 호출한 스레드(스케줄러 등)가 함께 묶이지 않도록 하기 위함.
+     */
+    void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        synchronized (queue) {
+            queue.clear();
+        }
+        onClose.accept(this);
+        writerExecutor.execute(() -> {
+            try {
+                emitter.complete();
+            } catch (Exception e) {
+                log.debug("SSE 에미터 종료 실패: clientId={}, {}", clientId, e.getMessage());
+            }
+        });
+    }
+}
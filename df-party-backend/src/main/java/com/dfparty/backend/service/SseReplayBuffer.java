@@ -0,0 +1,64 @@
+package com.dfparty.backend.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 스트림(토픽) 하나의 최근 SSE 프레임 고정 크기 링 버퍼
+ * 가득 차면 가장 오래된 프레임을 덮어쓰고, 덮어쓴 마지막 이벤트 ID를 기억해 재생 누락 여부를 판단한다.
+ * 버퍼를 만들 때의 마지막 이벤트 ID도 기억해, 이전에 같은 스트림 버퍼가 통째로 제거된 적이 있는지 판단할 수 있게 한다.
+ */
+final class SseReplayBuffer {
+
+    record Entry(long id, Set<DataWithMediaType> frame) {
+    }
+
+    private final Entry[] entries;
+    private int head; // 다음에 쓸 위치
+    private int size;
+    private final long createdAfter; // 버퍼 생성 시점의 마지막 이벤트 ID (이후 이벤트만 담고 있음)
+    private long evictedUpTo; // 덮어써서 잃어버린 마지막 이벤트 ID
+    private long lastId;
+
+    SseReplayBuffer(int capacity, long createdAfter) {
+        this.entries = new Entry[Math.max(1, capacity)];
+        this.createdAfter = createdAfter;
+        this.lastId = createdAfter;
+    }
+
+    long getCreatedAfter() {
+        return createdAfter;
+    }
+
+    synchronized long getLastId() {
+        return lastId;
+    }
+
+    synchronized void append(long id, Set<DataWithMediaType> frame) {
+        Entry evicted = entries[head];
+        if (size == entries.length && evicted != null) {
+            evictedUpTo = evicted.id();
+        }
+        entries[head] = new Entry(id, frame);
+        lastId = id;
+        head = (head + 1) % entries.length;
+        if (size < entries.length) size++;
+    }
+
+    /**
+     * lastEventId 이후 프레임을 오래된 순으로 out에 추가
+     * @return 이미 덮어써져 재생할 수 없는 이벤트가 있으면 true
+     */
+    synchronized boolean collectAfter(long lastEventId, List<Entry> out) {
+        int start = (head - size + entries.length) % entries.length;
+        for (int i = 0; i < size; i++) {
+            Entry entry = entries[(start + i) % entries.length];
+            if (entry.id() > lastEventId) {
+                out.add(entry);
+            }
+        }
+        return evictedUpTo > lastEventId;
+    }
+}
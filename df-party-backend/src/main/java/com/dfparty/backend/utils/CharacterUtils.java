@@ -3,20 +3,52 @@ package com.dfparty.backend.utils;
 import org.springframework.stereotype.Component;
 import com.dfparty.backend.entity.JobType;
 import com.dfparty.backend.repository.JobTypeRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 
-import java.util.Optional;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 캐릭터 관련 유틸리티 클래스
  * isBuffer 로직을 중앙화하여 관리
+ *
+ * job_types 테이블은 시작 시 메모리 인덱스로 읽어 두고, 직업 정보가 바뀌면 reloadJobTypes()로 통째로 교체한다.
+ * (파티 최적화 필터 루프에서 캐릭터마다 SELECT가 나가지 않도록)
  */
+@Slf4j
 @Component
 public class CharacterUtils {
 
     @Autowired
     private JobTypeRepository jobTypeRepository;
 
+    private volatile JobTypeIndex jobTypeIndex = JobTypeIndex.EMPTY;
+
+    @PostConstruct
+    public void loadJobTypes() {
+        try {
+            reloadJobTypes();
+        } catch (Exception e) {
+            log.warn("직업 분류 인덱스 로드 실패, 기본 규칙으로 판단: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * job_types 테이블로 직업 분류 인덱스를 다시 만들어 교체
+     * @return 인덱스에 포함된 직업 수
+     */
+    public int reloadJobTypes() {
+        List<JobType> jobTypes = jobTypeRepository.findAll();
+        jobTypeIndex = JobTypeIndex.of(jobTypes);
+        log.info("직업 분류 인덱스 갱신: {}개 직업", jobTypes.size());
+        return jobTypes.size();
+    }
+
     /**
      * 캐릭터가 버퍼인지 확인하는 통합 메소드
      * @param jobName 직업명
@@ -24,24 +56,29 @@ public class CharacterUtils {
      * @return 버퍼 여부
      */
     public boolean isBuffer(String jobName, String jobGrowName) {
-        // 1. DB에서 JobType 조회 시도
+        JobTypeIndex index = jobTypeIndex;
+
+        // 1. 직업명 + 직업 성장명으로 조회
         if (jobName != null && jobGrowName != null) {
-            Optional<JobType> jobType = jobTypeRepository.findByJobNameAndJobGrowName(jobName, jobGrowName);
-            if (jobType.isPresent()) {
-                return jobType.get().getIsBuffer();
+            Map<String, Boolean> byGrowName = index.byJobAndGrowName().get(jobName);
+            Boolean isBuffer = byGrowName != null ? byGrowName.get(jobGrowName) : null;
+            if (isBuffer != null) {
+                return isBuffer;
             }
         }
 
-        // 2. jobName만으로 조회 시도
+        // 2. jobName만으로 조회
         if (jobName != null) {
-            Optional<JobType> jobType = jobTypeRepository.findByJobName(jobName);
-            if (jobType.isPresent()) {
-                return jobType.get().getIsBuffer();
+            Boolean isBuffer = index.byJobName().get(jobName);
+            if (isBuffer != null) {
+                return isBuffer;
             }
         }
 
-        // 3. 기본값으로 판단 (DB에 없는 경우)
-        return isBufferByDefault(jobGrowName != null ? jobGrowName : jobName);
+        // 3. 기본값으로 판단 (DB에 없는 경우, 이름별로 한 번만 계산)
+        String name = jobGrowName != null ? jobGrowName : jobName;
+        if (name == null) return false;
+        return index.defaults().computeIfAbsent(name, CharacterUtils::isBufferByDefault);
     }
 
     /**
@@ -49,7 +86,7 @@ public class CharacterUtils {
      * @param jobName 직업명
      * @return 버퍼 여부
      */
-    private boolean isBufferByDefault(String jobName) {
+    private static boolean isBufferByDefault(String jobName) {
         if (jobName == null) return false;
         
         String cleanJobName = cleanJobName(jobName);
@@ -71,7 +108,7 @@ public class CharacterUtils {
      * @param jobName 원본 직업명
      * @return 정리된 직업명
      */
-    private String cleanJobName(String jobName) {
+    private static String cleanJobName(String jobName) {
         if (jobName == null) return "";
         return jobName.replaceAll("眞\\s*", "").trim();
     }
@@ -85,4 +122,34 @@ public class CharacterUtils {
     public boolean isDealer(String jobName, String jobGrowName) {
         return !isBuffer(jobName, jobGrowName);
     }
+
+    /**
+     * 직업 분류 인덱스 (교체 후에는 읽기 전용, defaults만 이름별 기본 판단 결과를 누적)
+     */
+    private record JobTypeIndex(Map<String, Map<String, Boolean>> byJobAndGrowName,
+                                Map<String, Boolean> byJobName,
+                                Map<String, Boolean> defaults) {
+
+        static final JobTypeIndex EMPTY = new JobTypeIndex(Map.of(), Map.of(), new ConcurrentHashMap<>());
+
+        static JobTypeIndex of(List<JobType> jobTypes) {
+            Map<String, Map<String, Boolean>> byJobAndGrowName = new HashMap<>();
+            Map<String, Boolean> byJobName = new HashMap<>();
+            // 같은 직업명이 여러 건이면 먼저 등록된(id가 작은) 직업 기준
+            jobTypes.stream()
+                .filter(jobType -> jobType.getJobName() != null && jobType.getIsBuffer() != null)
+                .sorted(Comparator.comparing(JobType::getId, Comparator.nullsLast(Comparator.naturalOrder())))
+                .forEach(jobType -> {
+                    if (jobType.getJobGrowName() != null) {
+                        byJobAndGrowName.computeIfAbsent(jobType.getJobName(), k -> new HashMap<>())
+                            .putIfAbsent(jobType.getJobGrowName(), jobType.getIsBuffer());
+                    }
+                    byJobName.putIfAbsent(jobType.getJobName(), jobType.getIsBuffer());
+                });
+
+            Map<String, Map<String, Boolean>> frozen = new HashMap<>();
+            byJobAndGrowName.forEach((jobName, byGrowName) -> frozen.put(jobName, Map.copyOf(byGrowName)));
+            return new JobTypeIndex(Map.copyOf(frozen), Map.copyOf(byJobName), new ConcurrentHashMap<>());
+        }
+    }
 }
\ No newline at end of file